@@ -29,6 +29,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "antFilterCaseSensitive": target.setAntFilterCaseSensitive(property(camelContext, boolean.class, value)); return true;
         case "antinclude":
         case "antInclude": target.setAntInclude(property(camelContext, java.lang.String.class, value)); return true;
+        case "appendchannelcachesize":
+        case "appendChannelCacheSize": target.setAppendChannelCacheSize(property(camelContext, int.class, value)); return true;
         case "appendchars":
         case "appendChars": target.setAppendChars(property(camelContext, java.lang.String.class, value)); return true;
         case "autocreate":
@@ -119,6 +121,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": target.setNoop(property(camelContext, boolean.class, value)); return true;
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": target.setOnCompletionExceptionHandler(property(camelContext, org.apache.camel.spi.ExceptionHandler.class, value)); return true;
+        case "parallelscanthreads":
+        case "parallelScanThreads": target.setParallelScanThreads(property(camelContext, int.class, value)); return true;
         case "pollstrategy":
         case "pollStrategy": target.setPollStrategy(property(camelContext, org.apache.camel.spi.PollingConsumerPollStrategy.class, value)); return true;
         case "premove":
@@ -190,6 +194,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "usewatchservice":
+        case "useWatchService": target.setUseWatchService(property(camelContext, boolean.class, value)); return true;
+        case "watchservicefullscaninterval":
+        case "watchServiceFullScanInterval": target.setWatchServiceFullScanInterval(property(camelContext, long.class, value)); return true;
         default: return false;
         }
     }
@@ -205,6 +213,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "antFilterCaseSensitive": return boolean.class;
         case "antinclude":
         case "antInclude": return java.lang.String.class;
+        case "appendchannelcachesize":
+        case "appendChannelCacheSize": return int.class;
         case "appendchars":
         case "appendChars": return java.lang.String.class;
         case "autocreate":
@@ -295,6 +305,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": return boolean.class;
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": return org.apache.camel.spi.ExceptionHandler.class;
+        case "parallelscanthreads":
+        case "parallelScanThreads": return int.class;
         case "pollstrategy":
         case "pollStrategy": return org.apache.camel.spi.PollingConsumerPollStrategy.class;
         case "premove":
@@ -366,6 +378,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
         case "usefixeddelay":
         case "useFixedDelay": return boolean.class;
+        case "usewatchservice":
+        case "useWatchService": return boolean.class;
+        case "watchservicefullscaninterval":
+        case "watchServiceFullScanInterval": return long.class;
         default: return null;
         }
     }
@@ -382,6 +398,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "antFilterCaseSensitive": return target.isAntFilterCaseSensitive();
         case "antinclude":
         case "antInclude": return target.getAntInclude();
+        case "appendchannelcachesize":
+        case "appendChannelCacheSize": return target.getAppendChannelCacheSize();
         case "appendchars":
         case "appendChars": return target.getAppendChars();
         case "autocreate":
@@ -472,6 +490,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": return target.isNoop();
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": return target.getOnCompletionExceptionHandler();
+        case "parallelscanthreads":
+        case "parallelScanThreads": return target.getParallelScanThreads();
         case "pollstrategy":
         case "pollStrategy": return target.getPollStrategy();
         case "premove":
@@ -543,6 +563,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return target.getTimeUnit();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "usewatchservice":
+        case "useWatchService": return target.isUseWatchService();
+        case "watchservicefullscaninterval":
+        case "watchServiceFullScanInterval": return target.getWatchServiceFullScanInterval();
         default: return null;
         }
     }
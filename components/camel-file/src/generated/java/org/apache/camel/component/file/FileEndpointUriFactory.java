@@ -21,11 +21,12 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(94);
+        Set<String> props = new HashSet<>(97);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
         props.add("antInclude");
+        props.add("appendChannelCacheSize");
         props.add("appendChars");
         props.add("autoCreate");
         props.add("backoffErrorThreshold");
@@ -78,6 +79,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("moveFailed");
         props.add("noop");
         props.add("onCompletionExceptionHandler");
+        props.add("parallelScanThreads");
         props.add("pollStrategy");
         props.add("preMove");
         props.add("preSort");
@@ -116,6 +118,8 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("tempPrefix");
         props.add("timeUnit");
         props.add("useFixedDelay");
+        props.add("useWatchService");
+        props.add("watchServiceFullScanInterval");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         SECRET_PROPERTY_NAMES = Collections.emptySet();
         Set<String> prefixes = new HashSet<>(1);
@@ -18,8 +18,16 @@ package org.apache.camel.component.file;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -27,6 +35,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
@@ -37,6 +52,7 @@ import org.apache.camel.component.file.consumer.FileResumeSet;
 import org.apache.camel.component.file.consumer.FileSetResumeStrategy;
 import org.apache.camel.component.file.consumer.GenericFileResumeStrategy;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,7 +63,10 @@ import org.slf4j.LoggerFactory;
 public class FileConsumer extends GenericFileConsumer<File> implements ResumeAware<FileConsumerResumeStrategy> {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileConsumer.class);
+    private static final long SCAN_STOP_TIMEOUT = 30000;
     private FileConsumerResumeStrategy resumeStrategy;
+    private ForkJoinPool scanPool;
+    private DirectoryWatcher watcher;
     private String endpointPath;
     private Set<String> extendedAttributes;
 
@@ -62,6 +81,42 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         }
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        int threads = getEndpoint().getParallelScanThreads();
+        if (threads > 0 && getEndpoint().isRecursive()) {
+            String name = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .resolveThreadName("FileConsumer[" + endpointPath + "]-Scan");
+            AtomicInteger counter = new AtomicInteger();
+            scanPool = new ForkJoinPool(threads, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName(name + " #" + counter.incrementAndGet());
+                return thread;
+            }, null, false);
+            LOG.debug("Scanning directory: {} in parallel using {} threads", endpointPath, threads);
+        }
+
+        if (getEndpoint().isUseWatchService()) {
+            watcher = new DirectoryWatcher(FileSystems.getDefault().newWatchService());
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (watcher != null) {
+            IOHelper.close(watcher.watchService);
+            watcher = null;
+        }
+        if (scanPool != null) {
+            scanPool.shutdownNow();
+            scanPool = null;
+        }
+
+        super.doStop();
+    }
+
     @Override
     protected Exchange createExchange(GenericFile<File> file) {
         Exchange exchange = createExchange(true);
@@ -71,12 +126,33 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return exchange;
     }
 
-    private boolean pollDirectory(File directory, List<GenericFile<File>> fileList, int depth) {
+    private boolean pollDirectory(File directory, List<GenericFile<File>> fileList, int depth, DirectoryScanTask task) {
+        if (watcher != null) {
+            // watch the directory so we only scan it again when it has changed
+            watcher.register(directory, depth);
+        }
         depth++;
 
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
+
+        if (canStreamDirectory()) {
+            // stream the directory so we do not need to list all the files up front, and can stop early when
+            // hitting the maxMessagesPerPoll limit
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+                for (Path path : stream) {
+                    if (!pollFile(path.toFile(), null, fileList, depth, task)) {
+                        return false;
+                    }
+                }
+            } catch (IOException | DirectoryIteratorException e) {
+                // same as when listing the files, then regard the directory as empty
+                LOG.debug("Cannot list files in directory: {} due {}", directory, e.getMessage(), e);
+            }
+            return true;
+        }
+
         final File[] files = listFiles(directory);
         if (files == null || files.length == 0) {
             return true;
@@ -87,58 +163,120 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         }
 
         for (File file : files) {
-            // check if we can continue polling in files
-            if (!canPollMoreFiles(fileList)) {
+            if (!pollFile(file, files, fileList, depth, task)) {
                 return false;
             }
+        }
 
-            // trace log as Windows/Unix can have different views what the file is
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
-                        file.isDirectory(), file.isFile(),
-                        file.isHidden());
-            }
+        return true;
+    }
 
-            // creates a generic file
-            GenericFile<File> gf
-                    = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+    /**
+     * Polls the given file, which is either added to the list of files, or polled recursively if it is a directory.
+     *
+     * @param  file     the file
+     * @param  files    the files in the same directory, or <tt>null</tt> if the directory is streamed
+     * @param  fileList the current list of gathered files
+     * @param  depth    the current depth
+     * @param  task     the task when scanning the directories in parallel, or <tt>null</tt>
+     * @return          <tt>true</tt> to continue, <tt>false</tt> to stop due hitting maxMessagesPerPoll limit
+     */
+    private boolean pollFile(
+            File file, File[] files, List<GenericFile<File>> fileList, int depth, DirectoryScanTask task) {
+        // check if we can continue polling in files
+        if (task != null ? !task.canPollMoreFiles() : !canPollMoreFiles(fileList)) {
+            return false;
+        }
 
-            if (resumeStrategy instanceof GenericFileResumeStrategy) {
-                ((GenericFileResumeStrategy<File>) resumeStrategy).resume(gf);
-            }
+        // trace log as Windows/Unix can have different views what the file is
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
+                    file.isDirectory(), file.isFile(),
+                    file.isHidden());
+        }
 
-            if (file.isDirectory()) {
-                if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
-                    boolean canPollMore = pollDirectory(file, fileList, depth);
-                    if (!canPollMore) {
-                        return false;
-                    }
+        // creates a generic file
+        GenericFile<File> gf
+                = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+
+        if (resumeStrategy instanceof GenericFileResumeStrategy) {
+            ((GenericFileResumeStrategy<File>) resumeStrategy).resume(gf);
+        }
+
+        if (file.isDirectory()) {
+            if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
+                if (task != null) {
+                    // scan the sub directory in parallel
+                    task.addSubDirectory(file, depth);
+                } else if (watcher == null || !watcher.canSkip(file)) {
+                    return pollDirectory(file, fileList, depth, null);
                 }
-            } else {
-                // Windows can report false to a file on a share so regard it
-                // always as a file (if it is not a directory)
-                if (depth >= endpoint.minDepth && isValidFile(gf, false, files)) {
-                    LOG.trace("Adding valid file: {}", file);
-                    // matched file so add
-                    if (extendedAttributes != null) {
-                        Path path = file.toPath();
-                        Map<String, Object> allAttributes = new HashMap<>();
-                        for (String attribute : extendedAttributes) {
-                            readAttributes(file, path, allAttributes, attribute);
-                        }
-
-                        gf.setExtendedAttributes(allAttributes);
+            }
+        } else {
+            // Windows can report false to a file on a share so regard it
+            // always as a file (if it is not a directory)
+            if (depth >= endpoint.minDepth && isValidFile(gf, false, files)) {
+                LOG.trace("Adding valid file: {}", file);
+                // matched file so add
+                if (extendedAttributes != null) {
+                    Path path = file.toPath();
+                    Map<String, Object> allAttributes = new HashMap<>();
+                    for (String attribute : extendedAttributes) {
+                        readAttributes(file, path, allAttributes, attribute);
                     }
 
-                    fileList.add(gf);
+                    gf.setExtendedAttributes(allAttributes);
                 }
 
+                fileList.add(gf);
+                if (task != null) {
+                    task.fileAdded();
+                }
+                if (watcher != null) {
+                    watcher.candidateFound(file.getParentFile());
+                }
             }
         }
 
         return true;
     }
 
+    /**
+     * Whether the directories can be streamed instead of listing all their files up front, which is not possible when
+     * the files must be sorted, or when the listing is needed to match done files or to resume.
+     */
+    private boolean canStreamDirectory() {
+        return !getEndpoint().isPreSort() && getEndpoint().getDoneFileName() == null
+                && !(resumeStrategy instanceof FileSetResumeStrategy);
+    }
+
+    /**
+     * Scans the directory tree in parallel, where each sub directory is scanned by its own fork-join task.
+     */
+    private boolean pollDirectoryInParallel(File directory, List<GenericFile<File>> fileList, int depth) {
+        DirectoryScanTask root = new DirectoryScanTask(directory, depth, new AtomicInteger(), new AtomicBoolean());
+        try {
+            scanPool.invoke(root);
+        } catch (RuntimeException e) {
+            // let the other tasks stop and gather what they have found so far, so the caller can remove
+            // the files from the in progress repository
+            root.limitHit.set(true);
+            scanPool.awaitQuiescence(SCAN_STOP_TIMEOUT, TimeUnit.MILLISECONDS);
+            root.collect(fileList);
+            throw e;
+        }
+        root.collect(fileList);
+
+        // the tasks may have found a few more files than the limit as they run concurrently
+        if (isEagerLimitMaxMessagesPerPoll() && maxMessagesPerPoll > 0 && fileList.size() > maxMessagesPerPoll) {
+            List<GenericFile<File>> excessive = fileList.subList(maxMessagesPerPoll, fileList.size());
+            removeExcessiveInProgressFiles(excessive);
+            excessive.clear();
+        }
+
+        return !root.limitHit.get();
+    }
+
     @Override
     protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
         LOG.trace("pollDirectory from fileName: {}", fileName);
@@ -152,7 +290,18 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             return true;
         }
 
-        return pollDirectory(directory, fileList, depth);
+        if (watcher != null) {
+            return watcher.poll(directory, fileList, depth);
+        }
+        return scanDirectory(directory, fileList, depth);
+    }
+
+    private boolean scanDirectory(File directory, List<GenericFile<File>> fileList, int depth) {
+        // the resume strategies are not thread-safe
+        if (scanPool != null && resumeStrategy == null) {
+            return pollDirectoryInParallel(directory, fileList, depth);
+        }
+        return pollDirectory(directory, fileList, depth, null);
     }
 
     private File[] listFiles(File directory) {
@@ -316,4 +465,207 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         this.resumeStrategy = resumeStrategy;
     }
 
+    /**
+     * Watches the scanned directories, so only the directories that have changed since the last poll are scanned again.
+     * All the directories are scanned on the first poll, when the watch service has lost events, and periodically (see
+     * the watchServiceFullScanInterval option) as a fallback. A directory is also scanned again when it had files to
+     * consume in the last poll, as these files may not have been consumed (for example due to a read lock or the
+     * maxMessagesPerPoll limit).
+     */
+    private final class DirectoryWatcher {
+
+        private final WatchService watchService;
+        private final Map<Path, WatchedDirectory> directories = new ConcurrentHashMap<>();
+        private final Map<WatchKey, WatchedDirectory> keys = new ConcurrentHashMap<>();
+        private final Set<WatchedDirectory> changed = ConcurrentHashMap.newKeySet();
+        private volatile boolean fullScan;
+        private volatile boolean watchFailed;
+        private boolean fullScanNeeded = true;
+        private long lastFullScan;
+
+        private DirectoryWatcher(WatchService watchService) {
+            this.watchService = watchService;
+        }
+
+        private boolean poll(File root, List<GenericFile<File>> fileList, int depth) {
+            drainEvents(root.toPath());
+
+            long interval = getEndpoint().getWatchServiceFullScanInterval();
+            if (interval > 0 && System.currentTimeMillis() - lastFullScan >= interval) {
+                LOG.trace("Full scan interval elapsed for directory: {}", root);
+                fullScanNeeded = true;
+            }
+
+            if (fullScanNeeded || watchFailed) {
+                LOG.debug("Scanning all the directories in: {}", root);
+                changed.clear();
+                boolean canPollMore;
+                fullScan = true;
+                try {
+                    canPollMore = scanDirectory(root, fileList, depth);
+                } finally {
+                    fullScan = false;
+                }
+                // we do not know which directories were not scanned when hitting the limit
+                fullScanNeeded = !canPollMore;
+                if (canPollMore) {
+                    lastFullScan = System.currentTimeMillis();
+                }
+                return canPollMore;
+            }
+
+            if (changed.isEmpty()) {
+                LOG.trace("No changes in directory: {}", root);
+                return true;
+            }
+
+            List<WatchedDirectory> toScan = new ArrayList<>(changed);
+            changed.clear();
+            for (int i = 0; i < toScan.size(); i++) {
+                WatchedDirectory directory = toScan.get(i);
+                if (!pollDirectory(directory.directory, fileList, directory.depth, null)) {
+                    // scan the remainder on the next poll
+                    changed.addAll(toScan.subList(i, toScan.size()));
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void drainEvents(Path root) {
+            WatchKey key;
+            while ((key = watchService.poll()) != null) {
+                WatchedDirectory directory = keys.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        LOG.debug("Events lost when watching directory: {}. Will scan all the directories.", root);
+                        fullScanNeeded = true;
+                    }
+                }
+                if (directory == null) {
+                    key.cancel();
+                } else if (key.reset()) {
+                    changed.add(directory);
+                } else {
+                    // the directory has been deleted
+                    keys.remove(key);
+                    directories.remove(directory.path);
+                    changed.remove(directory);
+                    if (directory.path.equals(root)) {
+                        fullScanNeeded = true;
+                    }
+                }
+            }
+        }
+
+        private void register(File directory, int depth) {
+            Path path = directory.toPath();
+            if (directories.containsKey(path)) {
+                return;
+            }
+
+            // register outside the map, as it does I/O and may block other threads scanning in parallel. If two
+            // threads register the same directory then they both get the same key, and only one is kept.
+            WatchKey key;
+            try {
+                key = path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+            } catch (IOException e) {
+                LOG.warn("Cannot watch directory: {} due {}. Will scan all the directories on every poll.", directory,
+                        e.getMessage(), e);
+                watchFailed = true;
+                return;
+            }
+
+            WatchedDirectory answer = new WatchedDirectory(directory, path, depth);
+            WatchedDirectory existing = directories.putIfAbsent(path, answer);
+            keys.putIfAbsent(key, existing != null ? existing : answer);
+            if (existing == null) {
+                LOG.trace("Watching directory: {}", directory);
+            }
+        }
+
+        /**
+         * Whether the directory can be skipped, as it is watched and scanned on its own when it has changed.
+         */
+        private boolean canSkip(File directory) {
+            return !fullScan && directories.containsKey(directory.toPath());
+        }
+
+        private void candidateFound(File directory) {
+            WatchedDirectory watched = directories.get(directory.toPath());
+            if (watched != null) {
+                changed.add(watched);
+            }
+        }
+    }
+
+    private static final class WatchedDirectory {
+
+        private final File directory;
+        private final Path path;
+        private final int depth;
+
+        private WatchedDirectory(File directory, Path path, int depth) {
+            this.directory = directory;
+            this.path = path;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * Scans a directory, and then its sub directories in parallel as sub tasks. The files found by each task are kept
+     * in their own list, so they are gathered in the same order regardless of which thread scanned them.
+     */
+    private final class DirectoryScanTask extends RecursiveAction {
+
+        private final File directory;
+        private final int depth;
+        private final AtomicInteger found;
+        private final AtomicBoolean limitHit;
+        private final List<GenericFile<File>> files = new ArrayList<>();
+        private final List<DirectoryScanTask> subTasks = new ArrayList<>();
+
+        private DirectoryScanTask(File directory, int depth, AtomicInteger found, AtomicBoolean limitHit) {
+            this.directory = directory;
+            this.depth = depth;
+            this.found = found;
+            this.limitHit = limitHit;
+        }
+
+        @Override
+        protected void compute() {
+            if (!pollDirectory(directory, files, depth, this)) {
+                limitHit.set(true);
+            }
+            if (!subTasks.isEmpty()) {
+                invokeAll(subTasks);
+            }
+        }
+
+        private boolean canPollMoreFiles() {
+            if (limitHit.get()) {
+                return false;
+            }
+            if (!isEagerLimitMaxMessagesPerPoll() || maxMessagesPerPoll <= 0) {
+                return true;
+            }
+            return found.get() < maxMessagesPerPoll;
+        }
+
+        private void fileAdded() {
+            found.incrementAndGet();
+        }
+
+        private void addSubDirectory(File subDirectory, int depth) {
+            subTasks.add(new DirectoryScanTask(subDirectory, depth, found, limitHit));
+        }
+
+        private void collect(List<GenericFile<File>> fileList) {
+            fileList.addAll(files);
+            for (DirectoryScanTask task : subTasks) {
+                task.collect(fileList);
+            }
+        }
+    }
 }
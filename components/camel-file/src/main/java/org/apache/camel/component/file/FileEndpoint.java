@@ -75,9 +75,17 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private int parallelScanThreads;
+    @UriParam(label = "consumer,advanced")
+    private boolean useWatchService;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long watchServiceFullScanInterval = 60000;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
+    private int appendChannelCacheSize;
+    @UriParam(label = "producer,advanced")
     private String chmod;
     @UriParam(label = "producer,advanced")
     private String chmodDirectory;
@@ -185,6 +193,9 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         } else if (getMoveExisting() != null && getFileExist() != GenericFileExist.Move) {
             throw new IllegalArgumentException("You must configure fileExist=Move when moveExisting has been set");
         }
+        if (getAppendChannelCacheSize() > 0 && getFileExist() != GenericFileExist.Append) {
+            throw new IllegalArgumentException("You must configure fileExist=Append when appendChannelCacheSize has been set");
+        }
         if (this.getMoveExistingFileStrategy() == null) {
             this.setMoveExistingFileStrategy(createDefaultMoveExistingFileStrategy());
         }
@@ -221,6 +232,13 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         return new GenericFileDefaultMoveExistingFileStrategy();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        // close any files kept open for appending
+        operations.closeAppendChannels();
+    }
+
     @Override
     protected GenericFileProcessStrategy<File> createGenericFileStrategy() {
         return new FileProcessStrategyFactory().createGenericFileProcessStrategy(getCamelContext(), getParamsAsMap());
@@ -335,6 +353,21 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.forceWrites = forceWrites;
     }
 
+    public int getAppendChannelCacheSize() {
+        return appendChannelCacheSize;
+    }
+
+    /**
+     * The maximum number of files the producer keeps open between exchanges when appending to files (fileExist=Append).
+     * By default (0) each file is opened and closed for every exchange. Keeping the files open saves the open and close
+     * system calls when appending many small messages to the same files, such as logs or aggregated output. The least
+     * recently used file is closed when the maximum is reached, and all the files are closed when the endpoint is
+     * stopped. A file which is moved or deleted by others while open is opened again on the next exchange.
+     */
+    public void setAppendChannelCacheSize(int appendChannelCacheSize) {
+        this.appendChannelCacheSize = appendChannelCacheSize;
+    }
+
     public boolean isProbeContentType() {
         return probeContentType;
     }
@@ -360,6 +393,49 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public int getParallelScanThreads() {
+        return parallelScanThreads;
+    }
+
+    /**
+     * The number of threads used to scan the sub directories in parallel when the recursive option is enabled. By
+     * default (0) the directories are scanned one by one by the polling thread. Scanning in parallel can speedup
+     * polling large directory trees, in particular on network file systems. The filters must then be thread-safe. This
+     * option is not used when a resume strategy is configured.
+     */
+    public void setParallelScanThreads(int parallelScanThreads) {
+        this.parallelScanThreads = parallelScanThreads;
+    }
+
+    public boolean isUseWatchService() {
+        return useWatchService;
+    }
+
+    /**
+     * Whether to use the file system {@link java.nio.file.WatchService} to only scan the directories that have changed
+     * since the last poll, instead of scanning all the directories on every poll. This makes polling idle directories
+     * with many files cheap, while the files are consumed as usual, so read locks, done files, idempotent and move
+     * options still apply. All the directories are scanned on the first poll, and again if the watch service has lost
+     * events. The watch service may not detect changes made by other hosts on network file systems.
+     */
+    public void setUseWatchService(boolean useWatchService) {
+        this.useWatchService = useWatchService;
+    }
+
+    public long getWatchServiceFullScanInterval() {
+        return watchServiceFullScanInterval;
+    }
+
+    /**
+     * The interval in millis to scan all the directories when useWatchService is enabled, as a fallback for changes the
+     * watch service did not report. The directories are scanned on the first poll after the interval has elapsed. Use 0
+     * or a negative value to only scan all the directories on the first poll, and when the watch service has lost
+     * events.
+     */
+    public void setWatchServiceFullScanInterval(long watchServiceFullScanInterval) {
+        this.watchServiceFullScanInterval = watchServiceFullScanInterval;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
@@ -17,6 +17,7 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -26,14 +27,21 @@ import java.io.Writer;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.camel.Exchange;
@@ -54,6 +62,7 @@ import static org.apache.camel.component.file.GenericFileHelper.asExclusiveReadL
 public class FileOperations implements GenericFileOperations<File> {
     private static final Logger LOG = LoggerFactory.getLogger(FileOperations.class);
     private FileEndpoint endpoint;
+    private volatile Map<String, AppendChannel> appendChannels;
 
     public FileOperations() {
     }
@@ -276,10 +285,11 @@ public class FileOperations implements GenericFileOperations<File> {
             }
         }
 
-        // we can write the file by 3 different techniques
+        // we can write the file by 4 different techniques
         // 1. write file to file
         // 2. rename a file from a local work path
-        // 3. write stream to file
+        // 3. write buffers or channel to file channel
+        // 4. write stream to file
         try {
 
             // is there an explicit charset configured we must write the file as
@@ -294,23 +304,8 @@ public class FileOperations implements GenericFileOperations<File> {
             if (charset == null && endpoint.getFileExist() != GenericFileExist.Append) {
                 // if no charset and not in appending mode, then we can try
                 // using file directly (optimized)
-                Object body = exchange.getIn().getBody();
-                if (body instanceof WrappedFile) {
-                    WrappedFile wrapped = (WrappedFile) body;
-                    body = wrapped.getFile();
-                    if (!(body instanceof File)) {
-                        // the wrapped file may be from remote (FTP) which then can store
-                        // a local java.io.File handle if storing to local work-dir so check for that
-                        Object maybeFile = wrapped.getBody();
-                        if (maybeFile instanceof File) {
-                            body = maybeFile;
-                        }
-                    }
-                }
-                if (body instanceof File) {
-                    source = (File) body;
-                    fileBased = true;
-                }
+                source = asFile(exchange.getIn().getBody());
+                fileBased = source != null;
             }
 
             if (fileBased) {
@@ -384,11 +379,15 @@ public class FileOperations implements GenericFileOperations<File> {
             } else if (exchange.getIn().getBody() instanceof String) {
                 // If the body is a string, write it directly
                 String stringBody = (String) exchange.getIn().getBody();
-                writeFileByString(stringBody, file);
+                if (isAppendChannelCached()) {
+                    // encode as Files.writeString does, so the string can be written to the open channel
+                    ByteBuffer[] buffers = { ByteBuffer.wrap(stringBody.getBytes(StandardCharsets.UTF_8)) };
+                    writeFileByByteBuffers(buffers, file, StandardCharsets.UTF_8);
+                } else {
+                    writeFileByString(stringBody, file);
+                }
             } else {
-                // fallback and use stream based
-                InputStream in = exchange.getIn().getMandatoryBody(InputStream.class);
-                writeFileByStream(in, file);
+                writeFileByBody(exchange, file);
             }
 
             // try to keep last modified timestamp if configured to do so
@@ -454,35 +453,283 @@ public class FileOperations implements GenericFileOperations<File> {
         }
     }
 
-    private void writeFileByStream(InputStream in, File target) throws IOException {
-        try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
-            LOG.debug("Using InputStream to write file: {}", target);
-            int size = endpoint.getBufferSize();
-            byte[] buffer = new byte[size];
-            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
-            int bytesRead;
-            while ((bytesRead = in.read(buffer)) != -1) {
-                if (bytesRead < size) {
-                    Buffer buf = byteBuffer;
-                    buf.limit(bytesRead);
+    /**
+     * Writes the message body without a charset. Bodies which are already NIO buffers, channels or files are written
+     * directly to the file channel, and anything else is converted to an {@link InputStream}.
+     */
+    private void writeFileByBody(Exchange exchange, File target) throws IOException, InvalidPayloadException {
+        Object body = exchange.getIn().getBody();
+
+        ByteBuffer[] buffers = asByteBuffers(body);
+        if (buffers != null) {
+            writeFileByByteBuffers(buffers, target, null);
+            return;
+        }
+        if (body instanceof ReadableByteChannel) {
+            writeFileByChannel((ReadableByteChannel) body, target);
+            return;
+        }
+        // the file to file copy is only used above when not appending
+        File source = asFile(body);
+        if (source != null && source.exists()) {
+            writeFileByFileChannel(source, target, exchange);
+            return;
+        }
+
+        // fallback and use stream based
+        InputStream in = exchange.getIn().getMandatoryBody(InputStream.class);
+        if (in instanceof FileInputStream) {
+            writeFileByChannel(((FileInputStream) in).getChannel(), target);
+        } else {
+            writeFileByStream(in, target);
+        }
+    }
+
+    private void writeFileByByteBuffers(ByteBuffer[] buffers, File target, Charset appendCharset) throws IOException {
+        writeFileByChannel(target, appendCharset, out -> {
+            LOG.debug("Using ByteBuffer to write file: {}", target);
+            if (buffers.length == 1) {
+                writeFully(out, buffers[0]);
+            } else {
+                // gathering write of all the buffers
+                long remaining = 0;
+                for (ByteBuffer buffer : buffers) {
+                    remaining += buffer.remaining();
+                }
+                while (remaining > 0) {
+                    remaining -= out.write(buffers);
                 }
-                out.write(byteBuffer);
-                Buffer buf = byteBuffer;
-                buf.clear();
             }
+        });
+    }
 
-            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
-            if (append && endpoint.getAppendChars() != null) {
-                byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
-                out.write(byteBuffer);
-                Buffer buf = byteBuffer;
-                buf.clear();
+    private void writeFileByChannel(ReadableByteChannel in, File target) throws IOException {
+        try {
+            writeFileByChannel(target, null, out -> {
+                LOG.debug("Using ReadableByteChannel to write file: {}", target);
+                // transferFrom does not update the position of the target channel
+                long position = out.position();
+                long count;
+                while ((count = out.transferFrom(in, position, Long.MAX_VALUE)) > 0) {
+                    position += count;
+                }
+                out.position(position);
+            });
+        } finally {
+            IOHelper.close(in, target.getName(), LOG);
+        }
+    }
+
+    private void writeFileByFileChannel(File source, File target, Exchange exchange) throws IOException {
+        // in case we are using file locks as read-locks then we need to use
+        // the channel which holds the lock
+        String path = source.getAbsolutePath();
+        FileChannel lockChannel
+                = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
+        FileChannel in = lockChannel != null ? lockChannel : FileChannel.open(source.toPath(), StandardOpenOption.READ);
+        try {
+            writeFileByChannel(target, null, out -> {
+                LOG.debug("Using FileChannel to write file: {} -> {}", source, target);
+                long size = in.size();
+                long position = 0;
+                while (position < size) {
+                    long count = in.transferTo(position, size - position, out);
+                    if (count <= 0) {
+                        // the source has been truncated
+                        break;
+                    }
+                    position += count;
+                }
+            });
+        } finally {
+            if (lockChannel == null) {
+                IOHelper.close(in, source.getName(), LOG);
             }
+        }
+    }
+
+    private void writeFileByStream(InputStream in, File target) throws IOException {
+        try {
+            writeFileByChannel(target, null, out -> {
+                LOG.debug("Using InputStream to write file: {}", target);
+                int size = endpoint.getBufferSize();
+                byte[] buffer = new byte[size];
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+                int bytesRead;
+                while ((bytesRead = in.read(buffer)) != -1) {
+                    if (bytesRead < size) {
+                        Buffer buf = byteBuffer;
+                        buf.limit(bytesRead);
+                    }
+                    writeFully(out, byteBuffer);
+                    Buffer buf = byteBuffer;
+                    buf.clear();
+                }
+            });
         } finally {
             IOHelper.close(in, target.getName(), LOG);
         }
     }
 
+    /**
+     * Writes to the file channel, either a channel kept open for appending or a channel opened for this write only,
+     * followed by the append chars when appending.
+     */
+    private void writeFileByChannel(File target, Charset appendCharset, ChannelWriter writer) throws IOException {
+        ChannelWriter answer = writer;
+        if (endpoint.getFileExist() == GenericFileExist.Append && endpoint.getAppendChars() != null) {
+            String chars = endpoint.getAppendChars();
+            byte[] data = appendCharset != null ? chars.getBytes(appendCharset) : chars.getBytes();
+            answer = out -> {
+                writer.write(out);
+                writeFully(out, ByteBuffer.wrap(data));
+            };
+        }
+
+        if (isAppendChannelCached()) {
+            writeFileByAppendChannel(target, answer);
+        } else {
+            try (FileChannel out = prepareOutputFileChannel(target)) {
+                answer.write(out);
+            }
+        }
+    }
+
+    private void writeFileByAppendChannel(File target, ChannelWriter writer) throws IOException {
+        // the channel may be closed by another thread if evicted, so then try again with a new channel
+        boolean done = false;
+        while (!done) {
+            AppendChannel channel = acquireAppendChannel(target);
+            try {
+                done = channel.write(writer);
+            } catch (IOException e) {
+                // do not keep a channel which failed, so the file is opened again on the next write
+                releaseAppendChannel(target, channel);
+                throw e;
+            }
+        }
+    }
+
+    private AppendChannel acquireAppendChannel(File target) throws IOException {
+        String key = target.getPath();
+        synchronized (appendChannels) {
+            AppendChannel answer = appendChannels.get(key);
+            if (answer != null && !answer.isOpenOn(target)) {
+                LOG.debug("Closing file: {} kept open for appending as the file has been moved or deleted", target);
+                appendChannels.remove(key);
+                answer.close();
+                answer = null;
+            }
+            if (answer == null) {
+                LOG.trace("Opening file: {} to keep open for appending", target);
+                FileChannel out = prepareOutputFileChannel(target);
+                try {
+                    answer = new AppendChannel(out, target);
+                } catch (IOException e) {
+                    IOHelper.close(out, target.getName(), LOG);
+                    throw e;
+                }
+                appendChannels.put(key, answer);
+            }
+            return answer;
+        }
+    }
+
+    private void releaseAppendChannel(File target, AppendChannel channel) {
+        synchronized (appendChannels) {
+            appendChannels.remove(target.getPath(), channel);
+        }
+        channel.close();
+    }
+
+    /**
+     * Closes the files which are kept open for appending when using the appendChannelCacheSize option.
+     */
+    public void closeAppendChannels() {
+        Map<String, AppendChannel> channels = appendChannels;
+        if (channels != null) {
+            synchronized (channels) {
+                channels.values().forEach(AppendChannel::close);
+                channels.clear();
+            }
+        }
+    }
+
+    private boolean isAppendChannelCached() {
+        if (endpoint.getAppendChannelCacheSize() <= 0 || endpoint.getFileExist() != GenericFileExist.Append) {
+            return false;
+        }
+        if (appendChannels == null) {
+            synchronized (this) {
+                if (appendChannels == null) {
+                    appendChannels = createAppendChannels(endpoint.getAppendChannelCacheSize());
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, AppendChannel> createAppendChannels(int maxSize) {
+        // access ordered so the least recently used file is closed first
+        return new LinkedHashMap<String, AppendChannel>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, AppendChannel> eldest) {
+                if (size() > maxSize) {
+                    LOG.trace("Closing file: {} kept open for appending as the cache is full", eldest.getKey());
+                    eldest.getValue().close();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private static void writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Returns the body as buffers to write, which are duplicated so the body can be read again, or <tt>null</tt> if the
+     * body is not a {@link ByteBuffer}, a non empty list of {@link ByteBuffer}s or a byte array.
+     */
+    private static ByteBuffer[] asByteBuffers(Object body) {
+        if (body instanceof ByteBuffer) {
+            return new ByteBuffer[] { ((ByteBuffer) body).duplicate() };
+        } else if (body instanceof byte[]) {
+            return new ByteBuffer[] { ByteBuffer.wrap((byte[]) body) };
+        } else if (body instanceof List && !((List<?>) body).isEmpty()) {
+            List<?> list = (List<?>) body;
+            ByteBuffer[] answer = new ByteBuffer[list.size()];
+            for (int i = 0; i < answer.length; i++) {
+                Object element = list.get(i);
+                if (!(element instanceof ByteBuffer)) {
+                    return null;
+                }
+                answer[i] = ((ByteBuffer) element).duplicate();
+            }
+            return answer;
+        }
+        return null;
+    }
+
+    private static File asFile(Object body) {
+        if (body instanceof WrappedFile) {
+            WrappedFile<?> wrapped = (WrappedFile<?>) body;
+            body = wrapped.getFile();
+            if (!(body instanceof File)) {
+                // the wrapped file may be from remote (FTP) which then can store
+                // a local java.io.File handle if storing to local work-dir so check for that
+                Object maybeFile = wrapped.getBody();
+                if (maybeFile instanceof File) {
+                    body = maybeFile;
+                }
+            }
+        }
+        return body instanceof File ? (File) body : null;
+    }
+
     private void writeFileByReaderWithCharset(Reader in, File target, String charset) throws IOException {
         boolean append = endpoint.getFileExist() == GenericFileExist.Append;
         try (Writer out = Files.newBufferedWriter(target.toPath(), Charset.forName(charset), StandardOpenOption.WRITE,
@@ -530,13 +777,60 @@ public class FileOperations implements GenericFileOperations<File> {
      * Creates and prepares the output file channel. Will position itself in correct position if the file is writable
      * eg. it should append or override any existing content.
      */
-    private SeekableByteChannel prepareOutputFileChannel(File target) throws IOException {
+    private FileChannel prepareOutputFileChannel(File target) throws IOException {
         if (endpoint.getFileExist() == GenericFileExist.Append) {
-            SeekableByteChannel out
-                    = Files.newByteChannel(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
             return out.position(out.size());
         }
-        return Files.newByteChannel(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
+        return FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
                 StandardOpenOption.CREATE);
     }
+
+    @FunctionalInterface
+    private interface ChannelWriter {
+        void write(FileChannel out) throws IOException;
+    }
+
+    /**
+     * A file kept open between exchanges for appending.
+     */
+    private static final class AppendChannel {
+        private final FileChannel channel;
+        private final Object fileKey;
+        private boolean closed;
+
+        AppendChannel(FileChannel channel, File target) throws IOException {
+            this.channel = channel;
+            // the file key (inode) identifies the file, so we can detect if the file has been replaced
+            this.fileKey = Files.readAttributes(target.toPath(), BasicFileAttributes.class).fileKey();
+        }
+
+        /**
+         * Whether the channel is still open on the target file, which may have been moved or deleted by others.
+         */
+        boolean isOpenOn(File target) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(target.toPath(), BasicFileAttributes.class);
+                return fileKey == null || fileKey.equals(attributes.fileKey());
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Writes to the channel, returning <tt>false</tt> if the channel has been closed.
+         */
+        synchronized boolean write(ChannelWriter writer) throws IOException {
+            if (closed) {
+                return false;
+            }
+            writer.write(channel);
+            return true;
+        }
+
+        synchronized void close() {
+            closed = true;
+            IOHelper.close(channel, null, LOG);
+        }
+    }
 }
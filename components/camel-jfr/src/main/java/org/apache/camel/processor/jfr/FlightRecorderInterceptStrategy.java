@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.jfr;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.NamedRoute;
+import org.apache.camel.Processor;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+
+/**
+ * An {@link InterceptStrategy} which emits a {@link FlightRecorderProcessorEvent} to Java Flight Recorder (JFR) around
+ * each processor in the routes.
+ * <p/>
+ * The events include the number of headers and exchange properties, which can be correlated with the JFR allocation
+ * events to find which processors allocate the most, and how the exchanges grow while being routed.
+ * <p/>
+ * The events are only created when JFR is recording with the event enabled, so there is very little overhead otherwise.
+ */
+public class FlightRecorderInterceptStrategy implements InterceptStrategy {
+
+    @Override
+    public Processor wrapProcessorInInterceptors(
+            CamelContext context, NamedNode definition, Processor target, Processor nextTarget)
+            throws Exception {
+        return new FlightRecorderProcessor(target, routeId(definition), definition.getId(), definition.getShortName());
+    }
+
+    private static String routeId(NamedNode definition) {
+        NamedNode node = definition;
+        while (node != null) {
+            if (node instanceof NamedRoute) {
+                return ((NamedRoute) node).getRouteId();
+            }
+            node = node.getParent();
+        }
+        return null;
+    }
+
+    private static final class FlightRecorderProcessor extends DelegateAsyncProcessor {
+
+        private final String routeId;
+        private final String processorId;
+        private final String processorType;
+
+        FlightRecorderProcessor(Processor processor, String routeId, String processorId, String processorType) {
+            super(processor);
+            this.routeId = routeId;
+            this.processorId = processorId;
+            this.processorType = processorType;
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            final FlightRecorderProcessorEvent event = new FlightRecorderProcessorEvent();
+            if (!event.isEnabled()) {
+                return processor.process(exchange, callback);
+            }
+
+            event.routeId = routeId;
+            event.processorId = processorId;
+            event.processorType = processorType;
+            event.exchangeId = exchange.getExchangeId();
+            event.headers = exchange.getMessage().hasHeaders() ? exchange.getMessage().getHeaders().size() : 0;
+            event.properties = exchange.hasProperties() ? exchange.getProperties().size() : 0;
+            event.begin();
+
+            return processor.process(exchange, doneSync -> {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.failed = exchange.isFailed();
+                    event.commit();
+                }
+                callback.done(doneSync);
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "FlightRecorder[" + processor + "]";
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderInterceptStrategyTest extends CamelTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).addInterceptStrategy(new FlightRecorderInterceptStrategy());
+        return context;
+    }
+
+    @Test
+    public void testProcessorEvents() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        Path file = Files.createTempFile("camel-jfr", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(FlightRecorderProcessorEvent.NAME);
+            recording.start();
+
+            template.sendBodyAndHeader("direct:start", "Hello World", "foo", "bar");
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> FlightRecorderProcessorEvent.NAME.equals(e.getEventType().getName()))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .collect(Collectors.toList());
+        Files.deleteIfExists(file);
+
+        assertEquals(2, events.size());
+        for (RecordedEvent event : events) {
+            assertEquals("myRoute", event.getString("routeId"));
+            assertFalse(event.getBoolean("failed"));
+            assertTrue(event.getInt("headers") >= 1);
+        }
+        assertEquals("setHeader", events.get(0).getString("processorType"));
+        assertEquals("to", events.get(1).getString("processorType"));
+        assertEquals(1, events.get(0).getInt("headers"));
+        assertEquals(2, events.get(1).getInt("headers"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("myRoute")
+                        .setHeader("beer", constant("Carlsberg"))
+                        .to("mock:result");
+            }
+        };
+    }
+}
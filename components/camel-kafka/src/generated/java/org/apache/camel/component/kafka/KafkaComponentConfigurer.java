@@ -40,6 +40,7 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": getOrCreateConfiguration(target).setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
         case "autowiredenabled":
         case "autowiredEnabled": target.setAutowiredEnabled(property(camelContext, boolean.class, value)); return true;
+        case "batching": getOrCreateConfiguration(target).setBatching(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": getOrCreateConfiguration(target).setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -135,6 +136,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noOfMetricsSample": getOrCreateConfiguration(target).setNoOfMetricsSample(property(camelContext, java.lang.Integer.class, value)); return true;
         case "offsetrepository":
         case "offsetRepository": getOrCreateConfiguration(target).setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": getOrCreateConfiguration(target).setParallelProcessingOrdering(property(camelContext, java.lang.String.class, value)); return true;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": getOrCreateConfiguration(target).setParallelProcessingThreads(property(camelContext, int.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": getOrCreateConfiguration(target).setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
@@ -258,6 +263,7 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return java.lang.String.class;
         case "autowiredenabled":
         case "autowiredEnabled": return boolean.class;
+        case "batching": return boolean.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -353,6 +359,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noOfMetricsSample": return java.lang.Integer.class;
         case "offsetrepository":
         case "offsetRepository": return org.apache.camel.spi.StateRepository.class;
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": return java.lang.String.class;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return int.class;
         case "partitionassignor":
         case "partitionAssignor": return java.lang.String.class;
         case "partitionkey":
@@ -472,6 +482,7 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return getOrCreateConfiguration(target).getAutoOffsetReset();
         case "autowiredenabled":
         case "autowiredEnabled": return target.isAutowiredEnabled();
+        case "batching": return getOrCreateConfiguration(target).isBatching();
         case "breakonfirsterror":
         case "breakOnFirstError": return getOrCreateConfiguration(target).isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -567,6 +578,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noOfMetricsSample": return getOrCreateConfiguration(target).getNoOfMetricsSample();
         case "offsetrepository":
         case "offsetRepository": return getOrCreateConfiguration(target).getOffsetRepository();
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": return getOrCreateConfiguration(target).getParallelProcessingOrdering();
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return getOrCreateConfiguration(target).getParallelProcessingThreads();
         case "partitionassignor":
         case "partitionAssignor": return getOrCreateConfiguration(target).getPartitionAssignor();
         case "partitionkey":
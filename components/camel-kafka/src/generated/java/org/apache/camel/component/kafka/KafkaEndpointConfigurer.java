@@ -31,6 +31,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitIntervalMs": target.getConfiguration().setAutoCommitIntervalMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "autooffsetreset":
         case "autoOffsetReset": target.getConfiguration().setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
+        case "batching": target.getConfiguration().setBatching(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": target.getConfiguration().setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -125,6 +126,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noOfMetricsSample": target.getConfiguration().setNoOfMetricsSample(property(camelContext, java.lang.Integer.class, value)); return true;
         case "offsetrepository":
         case "offsetRepository": target.getConfiguration().setOffsetRepository(property(camelContext, org.apache.camel.spi.StateRepository.class, value)); return true;
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": target.getConfiguration().setParallelProcessingOrdering(property(camelContext, java.lang.String.class, value)); return true;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": target.getConfiguration().setParallelProcessingThreads(property(camelContext, int.class, value)); return true;
         case "partitionassignor":
         case "partitionAssignor": target.getConfiguration().setPartitionAssignor(property(camelContext, java.lang.String.class, value)); return true;
         case "partitionkey":
@@ -233,6 +238,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitIntervalMs": return java.lang.Integer.class;
         case "autooffsetreset":
         case "autoOffsetReset": return java.lang.String.class;
+        case "batching": return boolean.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -327,6 +333,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noOfMetricsSample": return java.lang.Integer.class;
         case "offsetrepository":
         case "offsetRepository": return org.apache.camel.spi.StateRepository.class;
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": return java.lang.String.class;
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return int.class;
         case "partitionassignor":
         case "partitionAssignor": return java.lang.String.class;
         case "partitionkey":
@@ -436,6 +446,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitIntervalMs": return target.getConfiguration().getAutoCommitIntervalMs();
         case "autooffsetreset":
         case "autoOffsetReset": return target.getConfiguration().getAutoOffsetReset();
+        case "batching": return target.getConfiguration().isBatching();
         case "breakonfirsterror":
         case "breakOnFirstError": return target.getConfiguration().isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -530,6 +541,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noOfMetricsSample": return target.getConfiguration().getNoOfMetricsSample();
         case "offsetrepository":
         case "offsetRepository": return target.getConfiguration().getOffsetRepository();
+        case "parallelprocessingordering":
+        case "parallelProcessingOrdering": return target.getConfiguration().getParallelProcessingOrdering();
+        case "parallelprocessingthreads":
+        case "parallelProcessingThreads": return target.getConfiguration().getParallelProcessingThreads();
         case "partitionassignor":
         case "partitionAssignor": return target.getConfiguration().getPartitionAssignor();
         case "partitionkey":
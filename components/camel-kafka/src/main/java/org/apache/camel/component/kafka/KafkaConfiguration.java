@@ -77,6 +77,12 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
 
     @UriParam(label = "consumer", defaultValue = "1")
     private int consumersCount = 1;
+    @UriParam(label = "consumer")
+    private int parallelProcessingThreads;
+    @UriParam(label = "consumer", defaultValue = "key", enums = "key,partition")
+    private String parallelProcessingOrdering = "key";
+    @UriParam(label = "consumer")
+    private boolean batching;
     @UriParam(label = "consumer", description = "To use a custom KafkaHeaderDeserializer to deserialize kafka headers values")
     private KafkaHeaderDeserializer headerDeserializer = new DefaultKafkaHeaderDeserializer();
 
@@ -674,6 +680,52 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.consumersCount = consumersCount;
     }
 
+    public int getParallelProcessingThreads() {
+        return parallelProcessingThreads;
+    }
+
+    /**
+     * The number of threads used to process the polled records in parallel. By default (0) the records are processed
+     * one by one by the consumer thread that polled them. When enabled the records are processed in parallel, while
+     * records with the same key (or partition, see the parallelProcessingOrdering option) are still processed in order.
+     * The consumer waits for all the records from a poll to be processed before polling again, and then commits the
+     * highest contiguous processed offset of each partition. This option cannot be used together with
+     * allowManualCommit.
+     */
+    public void setParallelProcessingThreads(int parallelProcessingThreads) {
+        this.parallelProcessingThreads = parallelProcessingThreads;
+    }
+
+    public String getParallelProcessingOrdering() {
+        return parallelProcessingOrdering;
+    }
+
+    /**
+     * When processing records in parallel (parallelProcessingThreads), then whether to preserve the ordering of records
+     * with the same key (records without a key are ordered by their partition), or the ordering of records in the same
+     * partition.
+     */
+    public void setParallelProcessingOrdering(String parallelProcessingOrdering) {
+        this.parallelProcessingOrdering = parallelProcessingOrdering;
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether to route all the records from a poll as a single exchange, instead of one exchange per record. The
+     * message body is then a java.util.List of exchanges, one per record, carrying the usual Kafka headers. The size of
+     * a batch is bounded by the maxPollRecords and pollTimeoutMs options. The offsets of the whole batch are committed
+     * when the exchange is done, and with allowManualCommit the KafkaManualCommit header commits the whole batch. If
+     * the batch fails and breakOnFirstError is enabled, the batch is polled again, otherwise the error is handled by
+     * the exception handler and the batch is committed. This option cannot be used together with
+     * parallelProcessingThreads.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
     public String getClientId() {
         return clientId;
     }
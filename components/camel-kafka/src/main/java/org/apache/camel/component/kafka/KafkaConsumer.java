@@ -50,6 +50,7 @@ public class KafkaConsumer extends DefaultConsumer
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
     protected ExecutorService executor;
+    private ExecutorService parallelProcessingExecutor;
     private final KafkaEndpoint endpoint;
     private KafkaConsumerHealthCheck consumerHealthCheck;
     private KafkaHealthCheckRepository healthCheckRepository;
@@ -84,6 +85,14 @@ public class KafkaConsumer extends DefaultConsumer
         this.consumerListener = consumerListener;
     }
 
+    /**
+     * The thread pool used for processing the polled records in parallel, or <tt>null</tt> if the records are processed
+     * by the polling thread.
+     */
+    public ExecutorService getParallelProcessingExecutor() {
+        return parallelProcessingExecutor;
+    }
+
     @Override
     protected void doBuild() throws Exception {
         super.doBuild();
@@ -144,6 +153,23 @@ public class KafkaConsumer extends DefaultConsumer
 
         executor = endpoint.createExecutor();
 
+        int parallelThreads = endpoint.getConfiguration().getParallelProcessingThreads();
+        if (parallelThreads > 0) {
+            if (endpoint.getConfiguration().isBatching()) {
+                throw new IllegalArgumentException(
+                        "The option parallelProcessingThreads cannot be used together with batching");
+            }
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException(
+                        "The option parallelProcessingThreads cannot be used together with allowManualCommit");
+            }
+            LOG.info("Processing records from Kafka topic: {} in parallel using {} threads ordered by {}",
+                    endpoint.getConfiguration().getTopic(), parallelThreads,
+                    endpoint.getConfiguration().getParallelProcessingOrdering());
+            parallelProcessingExecutor = endpoint.getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "KafkaConsumer[" + endpoint.getConfiguration().getTopic() + "]-Processing", parallelThreads);
+        }
+
         String topic = endpoint.getConfiguration().getTopic();
         Pattern pattern = null;
         if (endpoint.getConfiguration().isTopicIsPattern()) {
@@ -202,6 +228,12 @@ public class KafkaConsumer extends DefaultConsumer
         tasks.clear();
         executor = null;
 
+        if (parallelProcessingExecutor != null) {
+            // the polling threads wait for the records to be processed, so there is nothing left to do
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(parallelProcessingExecutor);
+            parallelProcessingExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the polled records in parallel using a pool of worker threads.
+ * <p/>
+ * The records are grouped into lanes by their key (or partition), and each lane is processed in order by a single
+ * worker thread, which preserves the ordering of records with the same key (or from the same partition). The records
+ * from a poll are all processed before the next poll, so the Kafka consumer (which is not thread-safe) is only used by
+ * the polling thread. After processing then the highest contiguous completed offset of each partition is committed.
+ * When breaking on the first error, the partitions that were not completed are seeked back to the first record that was
+ * not processed, so these records are polled again.
+ */
+public class KafkaParallelRecordProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaParallelRecordProcessor.class);
+
+    private static final byte PENDING = 0;
+    private static final byte COMPLETED = 1;
+    private static final byte BREAK_ON_ERROR = 2;
+
+    private final KafkaConsumer camelKafkaConsumer;
+    private final String threadId;
+    private final CommitManager commitManager;
+    private final ExecutorService executorService;
+    private final Consumer<?, ?> consumer;
+    private final KafkaRecordProcessor kafkaRecordProcessor;
+    private final int lanes;
+    private final boolean orderByPartition;
+    private volatile boolean breakOnErrorHit;
+
+    public KafkaParallelRecordProcessor(KafkaConsumer camelKafkaConsumer, String threadId, CommitManager commitManager,
+                                        ExecutorService executorService, Consumer<?, ?> consumer) {
+        this.camelKafkaConsumer = camelKafkaConsumer;
+        this.threadId = threadId;
+        this.commitManager = commitManager;
+        this.executorService = executorService;
+        this.consumer = consumer;
+
+        KafkaConfiguration configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        this.lanes = configuration.getParallelProcessingThreads();
+        this.orderByPartition = "partition".equalsIgnoreCase(configuration.getParallelProcessingOrdering());
+        // the records are processed by the worker threads, so we must not commit from the record processor
+        this.kafkaRecordProcessor = new KafkaRecordProcessor(
+                configuration, camelKafkaConsumer.getProcessor(), commitManager, false);
+    }
+
+    /**
+     * Processes the polled records, and commits the offsets of each partition.
+     *
+     * @return whether the processing failed or broke on the first error. The offsets have been committed per partition,
+     *         so the result has no partition last offset.
+     */
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
+        breakOnErrorHit = false;
+
+        // the processing status of each record per partition (in offset order)
+        Map<TopicPartition, byte[]> status = new HashMap<>();
+        List<List<LaneRecord>> grouped = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            grouped.add(new ArrayList<>());
+        }
+
+        Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
+        while (partitionIterator.hasNext()) {
+            TopicPartition partition = partitionIterator.next();
+            boolean partitionHasNext = partitionIterator.hasNext();
+
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            byte[] partitionStatus = new byte[partitionRecords.size()];
+            status.put(partition, partitionStatus);
+
+            for (int i = 0; i < partitionRecords.size(); i++) {
+                ConsumerRecord<Object, Object> record = partitionRecords.get(i);
+                LaneRecord lr = new LaneRecord(
+                        partition, record, partitionStatus, i, partitionHasNext, i < partitionRecords.size() - 1);
+                grouped.get(laneOf(partition, record)).add(lr);
+            }
+        }
+
+        List<Future<?>> futures = new ArrayList<>(lanes);
+        for (List<LaneRecord> lane : grouped) {
+            if (!lane.isEmpty()) {
+                futures.add(executorService.submit(() -> processLane(lane)));
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Processing {} records on thread {} in {} parallel lanes", allRecords.count(), threadId,
+                    futures.size());
+        }
+
+        boolean failed = false;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                LOG.info("Interrupted while waiting for the records to be processed on thread {}", threadId);
+                // stop processing more records
+                breakOnErrorHit = true;
+                failed = true;
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                LOG.warn("Error processing records on thread {} due to {}", threadId, e.getCause().getMessage(), e.getCause());
+                breakOnErrorHit = true;
+                failed = true;
+            }
+        }
+
+        return commitCompleted(allRecords, status, failed);
+    }
+
+    private ProcessingResult commitCompleted(
+            ConsumerRecords<Object, Object> allRecords, Map<TopicPartition, byte[]> status, boolean failed) {
+        for (TopicPartition partition : allRecords.partitions()) {
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            byte[] partitionStatus = status.get(partition);
+
+            // find the highest contiguous completed offset
+            long partitionLastOffset = partitionRecords.get(0).offset() - 1;
+            boolean complete = true;
+            for (int i = 0; i < partitionStatus.length; i++) {
+                if (partitionStatus[i] == COMPLETED) {
+                    partitionLastOffset = partitionRecords.get(i).offset();
+                } else {
+                    failed |= partitionStatus[i] == BREAK_ON_ERROR;
+                    complete = false;
+                    break;
+                }
+            }
+
+            if (!complete && breakOnErrorHit) {
+                // seek back and force commit, so we resume on next poll where we failed
+                LOG.debug("Committing offset {} of partition {} after breaking on error", partitionLastOffset, partition);
+                consumer.seek(partition, partitionLastOffset + 1);
+                commitManager.forceCommit(partition, partitionLastOffset);
+            } else {
+                LOG.debug("Committing offset {} of partition {}", partitionLastOffset, partition);
+                commitManager.recordOffset(partition, partitionLastOffset);
+                commitManager.commit(partition);
+            }
+        }
+
+        return new ProcessingResult(breakOnErrorHit, AbstractCommitManager.START_OFFSET, failed);
+    }
+
+    private void processLane(List<LaneRecord> lane) {
+        for (LaneRecord lr : lane) {
+            if (breakOnErrorHit || camelKafkaConsumer.isStopping()) {
+                // another lane broke on error, or we are stopping, so leave the remainder pending
+                return;
+            }
+
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", lr.record.partition(),
+                        lr.record.offset(), lr.record.key(), lr.record.value());
+            }
+
+            Exchange exchange = camelKafkaConsumer.createExchange(false);
+            try {
+                ProcessingResult lastResult = new ProcessingResult(false, lr.record.offset() - 1, false);
+                ProcessingResult result = kafkaRecordProcessor.processExchange(exchange, lr.partition,
+                        lr.partitionHasNext, lr.recordHasNext, lr.record, lastResult,
+                        camelKafkaConsumer.getExceptionHandler());
+
+                if (result.isBreakOnErrorHit()) {
+                    lr.status[lr.index] = BREAK_ON_ERROR;
+                    breakOnErrorHit = true;
+                    return;
+                }
+                lr.status[lr.index] = COMPLETED;
+            } finally {
+                camelKafkaConsumer.releaseExchange(exchange, false);
+            }
+        }
+    }
+
+    private int laneOf(TopicPartition partition, ConsumerRecord<Object, Object> record) {
+        Object key = record.key();
+        int hash;
+        if (orderByPartition || key == null) {
+            // records without a key are ordered by their partition
+            hash = partition.hashCode();
+        } else if (key instanceof byte[]) {
+            hash = Arrays.hashCode((byte[]) key);
+        } else {
+            hash = key.hashCode();
+        }
+        return Math.floorMod(hash, lanes);
+    }
+
+    private static final class LaneRecord {
+        private final TopicPartition partition;
+        private final ConsumerRecord<Object, Object> record;
+        private final byte[] status;
+        private final int index;
+        private final boolean partitionHasNext;
+        private final boolean recordHasNext;
+
+        private LaneRecord(TopicPartition partition, ConsumerRecord<Object, Object> record, byte[] status, int index,
+                           boolean partitionHasNext, boolean recordHasNext) {
+            this.partition = partition;
+            this.record = record;
+            this.status = status;
+            this.index = index;
+            this.partitionHasNext = partitionHasNext;
+            this.recordHasNext = recordHasNext;
+        }
+    }
+}
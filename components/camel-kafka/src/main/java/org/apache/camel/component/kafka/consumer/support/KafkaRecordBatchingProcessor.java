@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.KafkaManualCommit;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes all the records from a poll as a single exchange.
+ * <p/>
+ * The message body is a {@link List} of exchanges, one per record, which carry the same body and headers as when the
+ * records are processed one by one. The offsets of the whole batch are committed when the exchange has been processed.
+ * If the processing fails and breakOnFirstError is enabled, then the consumer is seeked back to the start of the batch
+ * (and this offset is committed), so the whole batch is polled again.
+ */
+public class KafkaRecordBatchingProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordBatchingProcessor.class);
+
+    private final KafkaConsumer camelKafkaConsumer;
+    private final String threadId;
+    private final KafkaConfiguration configuration;
+    private final CommitManager commitManager;
+    private final KafkaRecordProcessor kafkaRecordProcessor;
+    private final Consumer<?, ?> consumer;
+
+    public KafkaRecordBatchingProcessor(KafkaConsumer camelKafkaConsumer, String threadId, CommitManager commitManager,
+                                        Consumer<?, ?> consumer) {
+        this.camelKafkaConsumer = camelKafkaConsumer;
+        this.threadId = threadId;
+        this.commitManager = commitManager;
+        this.consumer = consumer;
+        this.configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        this.kafkaRecordProcessor = new KafkaRecordProcessor(configuration, camelKafkaConsumer.getProcessor(), commitManager);
+    }
+
+    /**
+     * Processes the polled records as a single exchange, and commits the offsets of each partition.
+     *
+     * @return whether the processing failed or broke on the first error. The offsets have been committed per partition,
+     *         so the result has no partition last offset.
+     */
+    public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
+        Exchange exchange = camelKafkaConsumer.createExchange(false);
+        List<Exchange> exchanges = new ArrayList<>(allRecords.count());
+        try {
+            List<KafkaManualCommit> manualCommits = configuration.isAllowManualCommit() ? new ArrayList<>() : null;
+
+            for (TopicPartition partition : allRecords.partitions()) {
+                List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+                for (ConsumerRecord<Object, Object> record : partitionRecords) {
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
+                                record.offset(), record.key(), record.value());
+                    }
+                    Exchange child = camelKafkaConsumer.createExchange(false);
+                    kafkaRecordProcessor.setupExchange(child, record);
+                    exchanges.add(child);
+                }
+                if (manualCommits != null) {
+                    // committing the last record of each partition commits the whole batch
+                    ConsumerRecord<Object, Object> last = partitionRecords.get(partitionRecords.size() - 1);
+                    manualCommits.add(commitManager.getManualCommit(exchange, partition, last));
+                }
+            }
+
+            exchange.getMessage().setBody(exchanges);
+            if (manualCommits != null) {
+                exchange.getMessage().setHeader(KafkaConstants.MANUAL_COMMIT, new KafkaManualBatchCommit(manualCommits));
+            }
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Processing batch of {} records on thread {}", exchanges.size(), threadId);
+            }
+
+            try {
+                camelKafkaConsumer.getProcessor().process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+
+            if (exchange.getException() != null) {
+                return processException(exchange, allRecords);
+            }
+
+            return commitBatch(allRecords, false);
+        } finally {
+            for (Exchange child : exchanges) {
+                camelKafkaConsumer.releaseExchange(child, false);
+            }
+            camelKafkaConsumer.releaseExchange(exchange, false);
+        }
+    }
+
+    private ProcessingResult processException(Exchange exchange, ConsumerRecords<Object, Object> allRecords) {
+        if (configuration.isBreakOnFirstError()) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Error during processing batch of {} records {} on thread {}. Will poll the batch again.",
+                        allRecords.count(), exchange, threadId, exchange.getException());
+            }
+
+            // seek back and force commit the offset before the batch, so we resume on next poll where the batch started
+            for (TopicPartition partition : allRecords.partitions()) {
+                long firstOffset = allRecords.records(partition).get(0).offset();
+                LOG.debug("Seeking to offset {} of partition {} after breaking on error", firstOffset, partition);
+                consumer.seek(partition, firstOffset);
+                commitManager.forceCommit(partition, firstOffset - 1);
+            }
+            return new ProcessingResult(true, AbstractCommitManager.START_OFFSET, true);
+        }
+
+        // will handle/log the exception and then continue with the next batch
+        camelKafkaConsumer.getExceptionHandler().handleException("Error during processing", exchange,
+                exchange.getException());
+        return commitBatch(allRecords, true);
+    }
+
+    private ProcessingResult commitBatch(ConsumerRecords<Object, Object> allRecords, boolean failed) {
+        for (TopicPartition partition : allRecords.partitions()) {
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            long lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
+
+            LOG.debug("Committing offset {} of partition {}", lastOffset, partition);
+            commitManager.recordOffset(partition, lastOffset);
+            commitManager.commit(partition);
+        }
+
+        return new ProcessingResult(false, AbstractCommitManager.START_OFFSET, failed);
+    }
+
+    /**
+     * Commits the offsets of all the partitions in the batch.
+     */
+    private static final class KafkaManualBatchCommit implements KafkaManualCommit {
+        private final List<KafkaManualCommit> manualCommits;
+
+        private KafkaManualBatchCommit(List<KafkaManualCommit> manualCommits) {
+            this.manualCommits = manualCommits;
+        }
+
+        @Override
+        public void commit() {
+            for (KafkaManualCommit manualCommit : manualCommits) {
+                manualCommit.commit();
+            }
+        }
+    }
+}
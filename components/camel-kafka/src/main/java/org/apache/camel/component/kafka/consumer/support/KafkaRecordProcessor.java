@@ -42,12 +42,25 @@ public class KafkaRecordProcessor {
     private final KafkaConfiguration configuration;
     private final Processor processor;
     private final CommitManager commitManager;
+    private final boolean forceCommitOnBreak;
 
     public KafkaRecordProcessor(KafkaConfiguration configuration, Processor processor, CommitManager commitManager) {
+        this(configuration, processor, commitManager, true);
+    }
+
+    /**
+     * @param forceCommitOnBreak whether to force commit the last offset when breaking on the first error. This must be
+     *                           <tt>false</tt> when records are processed by other threads than the thread polling the
+     *                           Kafka consumer (which is not thread-safe); the caller is then responsible for
+     *                           committing.
+     */
+    public KafkaRecordProcessor(KafkaConfiguration configuration, Processor processor, CommitManager commitManager,
+                                boolean forceCommitOnBreak) {
         this.autoCommitEnabled = configuration.isAutoCommitEnable();
         this.configuration = configuration;
         this.processor = processor;
         this.commitManager = commitManager;
+        this.forceCommitOnBreak = forceCommitOnBreak;
     }
 
     private void setupExchangeMessage(Message message, ConsumerRecord record) {
@@ -80,6 +93,15 @@ public class KafkaRecordProcessor {
                         headerDeserializer.deserialize(header.key(), header.value())));
     }
 
+    /**
+     * Sets the record value as the message body, and the record metadata and headers as message headers.
+     */
+    void setupExchange(Exchange exchange, ConsumerRecord<Object, Object> record) {
+        setupExchangeMessage(exchange.getMessage(), record);
+
+        propagateHeaders(record, exchange);
+    }
+
     public ProcessingResult processExchange(
             Exchange exchange, TopicPartition partition, boolean partitionHasNext,
             boolean recordHasNext, ConsumerRecord<Object, Object> record, ProcessingResult lastResult,
@@ -87,9 +109,7 @@ public class KafkaRecordProcessor {
 
         Message message = exchange.getMessage();
 
-        setupExchangeMessage(message, record);
-
-        propagateHeaders(record, exchange);
+        setupExchange(exchange, record);
 
         // if not auto commit then we have additional information on the exchange
         if (!autoCommitEnabled) {
@@ -132,7 +152,9 @@ public class KafkaRecordProcessor {
             }
 
             // force commit, so we resume on next poll where we failed
-            commitManager.forceCommit(partition, partitionLastOffset);
+            if (forceCommitOnBreak) {
+                commitManager.forceCommit(partition, partitionLastOffset);
+            }
 
             // continue to next partition
             return true;
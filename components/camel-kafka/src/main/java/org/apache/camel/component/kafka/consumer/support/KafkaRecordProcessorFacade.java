@@ -20,11 +20,13 @@ package org.apache.camel.component.kafka.consumer.support;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.component.kafka.KafkaConsumer;
 import org.apache.camel.component.kafka.consumer.CommitManager;
 import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.TopicPartition;
@@ -39,15 +41,33 @@ public class KafkaRecordProcessorFacade {
     private final KafkaRecordProcessor kafkaRecordProcessor;
     private final CommitManager commitManager;
     private final KafkaConsumerListener consumerListener;
+    private final KafkaParallelRecordProcessor parallelRecordProcessor;
+    private final KafkaRecordBatchingProcessor batchingProcessor;
 
     public KafkaRecordProcessorFacade(KafkaConsumer camelKafkaConsumer, String threadId,
-                                      CommitManager commitManager, KafkaConsumerListener consumerListener) {
+                                      CommitManager commitManager, KafkaConsumerListener consumerListener,
+                                      Consumer<?, ?> consumer) {
         this.camelKafkaConsumer = camelKafkaConsumer;
         this.threadId = threadId;
         this.commitManager = commitManager;
 
         kafkaRecordProcessor = buildKafkaRecordProcessor(commitManager);
         this.consumerListener = consumerListener;
+
+        ExecutorService parallelExecutor = camelKafkaConsumer.getParallelProcessingExecutor();
+        if (parallelExecutor != null) {
+            parallelRecordProcessor
+                    = new KafkaParallelRecordProcessor(
+                            camelKafkaConsumer, threadId, commitManager, parallelExecutor, consumer);
+        } else {
+            parallelRecordProcessor = null;
+        }
+
+        if (camelKafkaConsumer.getEndpoint().getConfiguration().isBatching()) {
+            batchingProcessor = new KafkaRecordBatchingProcessor(camelKafkaConsumer, threadId, commitManager, consumer);
+        } else {
+            batchingProcessor = null;
+        }
     }
 
     private boolean isStopping() {
@@ -57,6 +77,13 @@ public class KafkaRecordProcessorFacade {
     public ProcessingResult processPolledRecords(ConsumerRecords<Object, Object> allRecords) {
         logRecords(allRecords);
 
+        if (parallelRecordProcessor != null) {
+            return processPolledRecordsInParallel(allRecords);
+        }
+        if (batchingProcessor != null) {
+            return processPolledRecordsAsBatch(allRecords);
+        }
+
         Set<TopicPartition> partitions = allRecords.partitions();
         Iterator<TopicPartition> partitionIterator = partitions.iterator();
 
@@ -95,6 +122,32 @@ public class KafkaRecordProcessorFacade {
         return lastResult;
     }
 
+    private ProcessingResult processPolledRecordsInParallel(ConsumerRecords<Object, Object> allRecords) {
+        if (allRecords.isEmpty() || isStopping()) {
+            return ProcessingResult.newUnprocessed();
+        }
+
+        ProcessingResult result = parallelRecordProcessor.processPolledRecords(allRecords);
+        if (consumerListener != null) {
+            // the offsets have already been committed
+            consumerListener.afterProcess(result);
+        }
+        return result;
+    }
+
+    private ProcessingResult processPolledRecordsAsBatch(ConsumerRecords<Object, Object> allRecords) {
+        if (allRecords.isEmpty() || isStopping()) {
+            return ProcessingResult.newUnprocessed();
+        }
+
+        ProcessingResult result = batchingProcessor.processPolledRecords(allRecords);
+        if (consumerListener != null) {
+            // the offsets have already been committed
+            consumerListener.afterProcess(result);
+        }
+        return result;
+    }
+
     private void logRecordsInPartition(List<ConsumerRecord<Object, Object>> partitionRecords, TopicPartition partition) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Records count {} received for partition {}", partitionRecords.size(),
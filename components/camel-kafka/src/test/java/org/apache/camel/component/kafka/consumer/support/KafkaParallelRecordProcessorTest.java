@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KafkaParallelRecordProcessorTest {
+
+    private static final String TOPIC = "test";
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+    private final KafkaConsumer kafkaConsumer = mock(KafkaConsumer.class);
+    private final CommitManager commitManager = mock(CommitManager.class);
+    private final Consumer<?, ?> consumer = mock(Consumer.class);
+    private ExecutorService executorService;
+
+    @BeforeEach
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        configuration.setParallelProcessingThreads(4);
+
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(kafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(kafkaConsumer.getExceptionHandler()).thenReturn(mock(ExceptionHandler.class));
+        when(kafkaConsumer.createExchange(anyBoolean())).thenAnswer(i -> new DefaultExchange(context));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testOrderedByKey() {
+        Map<Object, List<Long>> processed = new ConcurrentHashMap<>();
+        when(kafkaConsumer.getProcessor()).thenReturn(exchange -> {
+            Object key = exchange.getMessage().getHeader(KafkaConstants.KEY);
+            long offset = exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+            processed.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>())).add(offset);
+        });
+
+        TopicPartition p0 = new TopicPartition(TOPIC, 0);
+        TopicPartition p1 = new TopicPartition(TOPIC, 1);
+        ConsumerRecords<Object, Object> records = createRecords(p0, p1);
+
+        KafkaParallelRecordProcessor processor
+                = new KafkaParallelRecordProcessor(kafkaConsumer, "thread-0", commitManager, executorService, consumer);
+        ProcessingResult result = processor.processPolledRecords(records);
+
+        assertFalse(result.isBreakOnErrorHit());
+        assertFalse(result.isFailed());
+        // the offsets are committed per partition
+        assertEquals(AbstractCommitManager.START_OFFSET, result.getPartitionLastOffset());
+
+        // records with the same key are processed in the order of their offset
+        assertEquals(10, processed.size());
+        for (List<Long> offsets : processed.values()) {
+            assertEquals(10, offsets.size());
+            for (int i = 1; i < offsets.size(); i++) {
+                assertTrue(offsets.get(i - 1) < offsets.get(i), "Should be ordered: " + offsets);
+            }
+        }
+
+        verify(commitManager).recordOffset(p0, 49);
+        verify(commitManager).commit(p0);
+        verify(commitManager).recordOffset(p1, 49);
+        verify(commitManager).commit(p1);
+    }
+
+    @Test
+    public void testBreakOnFirstError() {
+        configuration.setBreakOnFirstError(true);
+        configuration.setParallelProcessingOrdering("partition");
+
+        // both partitions reach offset 10 before failing, so neither is stopped earlier by the other breaking
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Processor failOnTen = exchange -> {
+            long offset = exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+            if (offset == 10) {
+                barrier.await(5, TimeUnit.SECONDS);
+                throw new IllegalArgumentException("Forced");
+            }
+        };
+        when(kafkaConsumer.getProcessor()).thenReturn(failOnTen);
+
+        TopicPartition p0 = new TopicPartition(TOPIC, 0);
+        TopicPartition p1 = new TopicPartition(TOPIC, 1);
+        ConsumerRecords<Object, Object> records = createRecords(p0, p1);
+
+        KafkaParallelRecordProcessor processor
+                = new KafkaParallelRecordProcessor(kafkaConsumer, "thread-0", commitManager, executorService, consumer);
+        ProcessingResult result = processor.processPolledRecords(records);
+
+        assertTrue(result.isBreakOnErrorHit());
+        assertTrue(result.isFailed());
+
+        // resume from the record that failed in each partition
+        verify(consumer).seek(p0, 10);
+        verify(commitManager).forceCommit(p0, 9);
+        verify(consumer).seek(p1, 10);
+        verify(commitManager).forceCommit(p1, 9);
+        verify(commitManager, never()).recordOffset(any(), anyLong());
+        verify(commitManager, never()).commit(any());
+    }
+
+    private static ConsumerRecords<Object, Object> createRecords(TopicPartition... partitions) {
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> map = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            List<ConsumerRecord<Object, Object>> list = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                String key = "key-" + partition.partition() + "-" + (i % 5);
+                list.add(new ConsumerRecord<>(TOPIC, partition.partition(), i, key, "value-" + i));
+            }
+            map.put(partition, list);
+        }
+        return new ConsumerRecords<>(map);
+    }
+}
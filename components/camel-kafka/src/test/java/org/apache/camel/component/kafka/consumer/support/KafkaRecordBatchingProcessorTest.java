@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.KafkaManualCommit;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KafkaRecordBatchingProcessorTest {
+
+    private static final String TOPIC = "test";
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+    private final KafkaConsumer kafkaConsumer = mock(KafkaConsumer.class);
+    private final CommitManager commitManager = mock(CommitManager.class);
+    private final ExceptionHandler exceptionHandler = mock(ExceptionHandler.class);
+    private final Consumer<?, ?> consumer = mock(Consumer.class);
+
+    @BeforeEach
+    public void setUp() {
+        configuration.setBatching(true);
+
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(kafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(kafkaConsumer.getExceptionHandler()).thenReturn(exceptionHandler);
+        when(kafkaConsumer.createExchange(anyBoolean())).thenAnswer(i -> new DefaultExchange(context));
+    }
+
+    @Test
+    public void testBatch() {
+        AtomicReference<Exchange> batch = new AtomicReference<>();
+        when(kafkaConsumer.getProcessor()).thenReturn(batch::set);
+
+        TopicPartition p0 = new TopicPartition(TOPIC, 0);
+        TopicPartition p1 = new TopicPartition(TOPIC, 1);
+        ConsumerRecords<Object, Object> records = createRecords(p0, p1);
+
+        KafkaRecordBatchingProcessor processor
+                = new KafkaRecordBatchingProcessor(kafkaConsumer, "thread-0", commitManager, consumer);
+        ProcessingResult result = processor.processPolledRecords(records);
+
+        assertFalse(result.isBreakOnErrorHit());
+        assertFalse(result.isFailed());
+        // the offsets are committed per partition
+        assertEquals(AbstractCommitManager.START_OFFSET, result.getPartitionLastOffset());
+
+        // all the records are routed as one exchange
+        assertNotNull(batch.get());
+        List<?> body = batch.get().getMessage().getBody(List.class);
+        assertEquals(20, body.size());
+        Exchange first = (Exchange) body.get(0);
+        assertEquals(TOPIC, first.getMessage().getHeader(KafkaConstants.TOPIC));
+        assertEquals(0L, first.getMessage().getHeader(KafkaConstants.OFFSET));
+        assertEquals("value-0", first.getMessage().getBody());
+
+        verify(commitManager).recordOffset(p0, 9);
+        verify(commitManager).commit(p0);
+        verify(commitManager).recordOffset(p1, 9);
+        verify(commitManager).commit(p1);
+
+        // the batch exchange and the exchange of each record are released
+        verify(kafkaConsumer, times(21)).releaseExchange(any(), eq(false));
+    }
+
+    @Test
+    public void testManualCommit() {
+        configuration.setAllowManualCommit(true);
+
+        KafkaManualCommit manualCommit = mock(KafkaManualCommit.class);
+        when(commitManager.getManualCommit(any(), any(), any())).thenReturn(manualCommit);
+        when(kafkaConsumer.getProcessor()).thenReturn(exchange -> exchange.getMessage()
+                .getHeader(KafkaConstants.MANUAL_COMMIT, KafkaManualCommit.class).commit());
+
+        TopicPartition p0 = new TopicPartition(TOPIC, 0);
+        TopicPartition p1 = new TopicPartition(TOPIC, 1);
+        ConsumerRecords<Object, Object> records = createRecords(p0, p1);
+
+        KafkaRecordBatchingProcessor processor
+                = new KafkaRecordBatchingProcessor(kafkaConsumer, "thread-0", commitManager, consumer);
+        processor.processPolledRecords(records);
+
+        // the last record of each partition is committed
+        verify(commitManager).getManualCommit(any(), eq(p0), eq(records.records(p0).get(9)));
+        verify(commitManager).getManualCommit(any(), eq(p1), eq(records.records(p1).get(9)));
+        verify(manualCommit, times(2)).commit();
+    }
+
+    @Test
+    public void testBreakOnFirstError() {
+        configuration.setBreakOnFirstError(true);
+        when(kafkaConsumer.getProcessor()).thenReturn(exchange -> {
+            throw new IllegalArgumentException("Forced");
+        });
+
+        TopicPartition p0 = new TopicPartition(TOPIC, 0);
+        TopicPartition p1 = new TopicPartition(TOPIC, 1);
+        ConsumerRecords<Object, Object> records = createRecords(5, p0, p1);
+
+        KafkaRecordBatchingProcessor processor
+                = new KafkaRecordBatchingProcessor(kafkaConsumer, "thread-0", commitManager, consumer);
+        ProcessingResult result = processor.processPolledRecords(records);
+
+        assertTrue(result.isBreakOnErrorHit());
+        assertTrue(result.isFailed());
+
+        // the batch is not committed, but each partition is seeked back to the start of the batch
+        verify(commitManager, never()).recordOffset(any(), anyLong());
+        verify(commitManager, never()).commit(any());
+        verify(consumer).seek(p0, 5);
+        verify(commitManager).forceCommit(p0, 4);
+        verify(consumer).seek(p1, 5);
+        verify(commitManager).forceCommit(p1, 4);
+    }
+
+    @Test
+    public void testErrorHandled() {
+        when(kafkaConsumer.getProcessor()).thenReturn(exchange -> {
+            throw new IllegalArgumentException("Forced");
+        });
+
+        TopicPartition p0 = new TopicPartition(TOPIC, 0);
+        ConsumerRecords<Object, Object> records = createRecords(p0);
+
+        KafkaRecordBatchingProcessor processor
+                = new KafkaRecordBatchingProcessor(kafkaConsumer, "thread-0", commitManager, consumer);
+        ProcessingResult result = processor.processPolledRecords(records);
+
+        assertFalse(result.isBreakOnErrorHit());
+        assertTrue(result.isFailed());
+
+        verify(exceptionHandler).handleException(any(), any(Exchange.class), any(IllegalArgumentException.class));
+        verify(commitManager).recordOffset(p0, 9);
+        verify(commitManager).commit(p0);
+    }
+
+    private static ConsumerRecords<Object, Object> createRecords(TopicPartition... partitions) {
+        return createRecords(0, partitions);
+    }
+
+    private static ConsumerRecords<Object, Object> createRecords(int startOffset, TopicPartition... partitions) {
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> map = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            List<ConsumerRecord<Object, Object>> list = new ArrayList<>();
+            for (int i = startOffset; i < startOffset + 10; i++) {
+                list.add(new ConsumerRecord<>(TOPIC, partition.partition(), i, "key-" + i, "value-" + i));
+            }
+            map.put(partition, list);
+        }
+        return new ConsumerRecords<>(map);
+    }
+}
@@ -21,12 +21,13 @@ public class SedaEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(19);
+        Set<String> props = new HashSet<>(20);
         props.add("blockWhenFull");
         props.add("bridgeErrorHandler");
         props.add("concurrentConsumers");
         props.add("discardIfNoConsumers");
         props.add("discardWhenFull");
+        props.add("drainBatchSize");
         props.add("exceptionHandler");
         props.add("exchangePattern");
         props.add("failIfNoConsumers");
@@ -16,10 +16,12 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -50,15 +52,18 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private static final Logger LOG = LoggerFactory.getLogger(SedaConsumer.class);
 
     private final AtomicInteger taskCount = new AtomicInteger();
+    private final AtomicInteger drainedCount = new AtomicInteger();
     private volatile CountDownLatch latch;
     private volatile boolean shutdownPending;
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int drainBatchSize;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.drainBatchSize = endpoint.getDrainBatchSize();
     }
 
     @Override
@@ -80,7 +85,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         if (getEndpoint().isPurgeWhenStopping()) {
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        // include the exchanges drained from the queue which are not yet being processed
+        return getEndpoint().getQueue().size() + drainedCount.get();
     }
 
     @Override
@@ -137,6 +143,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
     protected void doRun() {
         BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        // the exchanges drained from the queue in addition to the polled exchange
+        List<Exchange> batch = drainBatchSize > 1 ? new ArrayList<>(drainBatchSize - 1) : null;
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
 
@@ -172,6 +180,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
             }
 
             Exchange exchange = null;
+            int next = 0;
             try {
                 // use the end user configured poll timeout
                 exchange = queue.poll(pollTimeout, TimeUnit.MILLISECONDS);
@@ -180,20 +189,20 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                             exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        // prepare the exchange before sending to consumer
-                        Exchange newExchange = prepareExchange(exchange);
-                        // process the exchange
-                        sendToConsumers(newExchange);
-                        // copy result back
-                        ExchangeHelper.copyResults(exchange, newExchange);
-                        // log exception if an exception occurred and was not handled
-                        if (exchange.getException() != null) {
-                            getExceptionHandler().handleException("Error processing exchange", exchange,
-                                    exchange.getException());
+                    if (batch != null) {
+                        // take the exchanges already waiting on the queue in one go
+                        drainedCount.addAndGet(queue.drainTo(batch, drainBatchSize - 1));
+                        LOG.trace("Drained {} additional exchanges from queue {}", batch.size(),
+                                ObjectHelper.getIdentityHashCode(queue));
+                    }
+                    processExchange(exchange);
+                    if (batch != null) {
+                        while (next < batch.size()) {
+                            exchange = batch.get(next++);
+                            drainedCount.decrementAndGet();
+                            processExchange(exchange);
                         }
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                        batch.clear();
                     }
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
@@ -209,7 +218,41 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                 } else {
                     getExceptionHandler().handleException(e);
                 }
+                if (batch != null) {
+                    // the remainder of the batch is not processed, so fail these exchanges instead of losing them
+                    for (int i = next; i < batch.size(); i++) {
+                        drainedCount.decrementAndGet();
+                        failExchange(batch.get(i), e);
+                    }
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private void failExchange(Exchange exchange, Throwable cause) {
+        exchange.setException(new RejectedExecutionException(
+                "Exchange not processed as a previous exchange drained from the queue in the same batch failed", cause));
+        // done the completions so any caller waiting for the reply is not blocked until its timeout
+        UnitOfWorkHelper.doneSynchronizations(exchange, exchange.adapt(ExtendedExchange.class).handoverCompletions(), LOG);
+        getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+    }
+
+    private void processExchange(Exchange exchange) {
+        try {
+            // prepare the exchange before sending to consumer
+            Exchange newExchange = prepareExchange(exchange);
+            // process the exchange
+            sendToConsumers(newExchange);
+            // copy result back
+            ExchangeHelper.copyResults(exchange, newExchange);
+            // log exception if an exception occurred and was not handled
+            if (exchange.getException() != null) {
+                getExceptionHandler().handleException("Error processing exchange", exchange,
+                        exchange.getException());
             }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
         }
     }
 
@@ -84,6 +84,8 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int drainBatchSize = 1;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -440,6 +442,21 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getDrainBatchSize() {
+        return drainBatchSize;
+    }
+
+    /**
+     * The maximum number of exchanges each consumer thread takes from the queue per poll. When more than one, then
+     * after polling an exchange, the consumer also drains the exchanges which are already waiting on the queue (up to
+     * this size) in one go, and processes them one by one in the same consumer thread. This reduces the contention on
+     * the queue under high load, but the drained exchanges are no longer available to the other concurrent consumers.
+     */
+    public void setDrainBatchSize(int drainBatchSize) {
+        this.drainBatchSize = drainBatchSize;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
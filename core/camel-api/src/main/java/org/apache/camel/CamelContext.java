@@ -1434,4 +1434,20 @@ public interface CamelContext extends CamelContextLifecycle, RuntimeConfiguratio
      */
     StartupSummaryLevel getStartupSummaryLevel();
 
+    /**
+     * Sets the number of threads used for warming up and starting routes in parallel when {@link CamelContext} starts.
+     * <p/>
+     * Routes that have an explicit startup order configured are started one by one in that order, and routes without
+     * are started in parallel. This can reduce the startup time of applications with many routes where the consumers
+     * spend time connecting to remote systems.
+     * <p/>
+     * The default value is 1, which starts the routes one by one.
+     */
+    void setRouteStartupPoolSize(int routeStartupPoolSize);
+
+    /**
+     * Gets the number of threads used for warming up and starting routes in parallel when {@link CamelContext} starts.
+     */
+    int getRouteStartupPoolSize();
+
 }
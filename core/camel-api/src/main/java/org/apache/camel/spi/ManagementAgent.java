@@ -259,6 +259,56 @@ public interface ManagementAgent extends Service {
      */
     Boolean getLoadStatisticsEnabled();
 
+    /**
+     * Sets whether histogram statistics is enabled (records the processing times of routes and processors in a
+     * histogram, to calculate percentiles such as p99).
+     * <p/>
+     * The default value is <tt>false</tt>
+     *
+     * @param flag <tt>true</tt> to enable histogram statistics
+     */
+    void setHistogramStatisticsEnabled(Boolean flag);
+
+    /**
+     * Gets whether histogram statistics is enabled
+     *
+     * @return <tt>true</tt> if enabled
+     */
+    Boolean getHistogramStatisticsEnabled();
+
+    /**
+     * Sets the number of bits of precision of the histograms, where the relative error of the percentiles is at most
+     * 1/2^precision. A higher precision uses more memory per route and processor.
+     * <p/>
+     * The default value is <tt>4</tt> (6.25% relative error)
+     *
+     * @param precision the precision (between 1 and 10)
+     */
+    void setHistogramPrecision(Integer precision);
+
+    /**
+     * Gets the number of bits of precision of the histograms
+     *
+     * @return the precision
+     */
+    Integer getHistogramPrecision();
+
+    /**
+     * Sets the sliding time window in millis which the histograms covers.
+     * <p/>
+     * The default value is <tt>60000</tt>
+     *
+     * @param window the window in millis
+     */
+    void setHistogramWindow(Long window);
+
+    /**
+     * Gets the sliding time window in millis which the histograms covers.
+     *
+     * @return the window in millis
+     */
+    Long getHistogramWindow();
+
     /**
      * Sets whether endpoint runtime statistics is enabled (gathers runtime usage of each incoming and outgoing
      * endpoints).
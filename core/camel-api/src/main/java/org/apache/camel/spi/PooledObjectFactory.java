@@ -49,6 +49,22 @@ public interface PooledObjectFactory<T> extends Service, CamelContextAware {
          */
         long getDiscardedCounter();
 
+        /**
+         * Total number of message headers of the exchanges when released or discarded, which can be used to compute the
+         * average number of headers per exchange.
+         */
+        default long getHeadersCounter() {
+            return 0;
+        }
+
+        /**
+         * Total number of exchange properties of the exchanges when released or discarded, which can be used to compute
+         * the average number of properties per exchange.
+         */
+        default long getPropertiesCounter() {
+            return 0;
+        }
+
         /**
          * Reset the counters
          */
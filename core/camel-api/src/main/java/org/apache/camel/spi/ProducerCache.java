@@ -112,6 +112,26 @@ public interface ProducerCache extends Service {
      */
     void purge();
 
+    /**
+     * Number of times a pooled producer was reused from this cache
+     */
+    long getHits();
+
+    /**
+     * Number of times a producer had to be created as there was no pooled producer in this cache
+     */
+    long getMisses();
+
+    /**
+     * Number of producers evicted from this cache
+     */
+    long getEvicted();
+
+    /**
+     * Resets the hits, misses and evicted statistics
+     */
+    void resetCacheStatistics();
+
     /**
      * Cleanup the cache (purging stale entries)
      */
@@ -108,4 +108,24 @@ public interface StartupStepRecorder extends StaticService {
      */
     void endStep(StartupStep step);
 
+    /**
+     * Gets the current step that is in progress by the calling thread.
+     *
+     * @return the current step, or <tt>null</tt> if no step is in progress
+     */
+    default StartupStep getCurrentStep() {
+        return null;
+    }
+
+    /**
+     * Sets the current step of the calling thread, which the steps the calling thread begins are nested under. This is
+     * used when steps are recorded by another thread than the thread that began the step, such as when routes are
+     * started in parallel.
+     *
+     * @param step the step (usually from {@link #getCurrentStep()} of the other thread), or <tt>null</tt> to clear
+     */
+    default void setCurrentStep(StartupStep step) {
+        // noop
+    }
+
 }
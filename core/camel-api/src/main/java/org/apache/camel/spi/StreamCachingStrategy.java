@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -181,6 +182,42 @@ public interface StreamCachingStrategy extends StaticService {
 
     boolean isRemoveSpoolDirectoryWhenStopping();
 
+    /**
+     * Sets whether to spool to pooled direct (off-heap) memory buffers instead of temporary files in the spool
+     * directory. When the pooled direct memory is used up, then spooling falls back to use temporary files.
+     * <p/>
+     * The spool cipher is not in use when spooling to direct memory.
+     * <p/>
+     * This option is default <tt>false</tt>
+     */
+    void setSpoolDirectMemory(boolean spoolDirectMemory);
+
+    boolean isSpoolDirectMemory();
+
+    /**
+     * Sets the maximum size in bytes of the pooled direct memory buffers when {@link #setSpoolDirectMemory(boolean)} is
+     * in use.
+     * <p/>
+     * The default size is 64mb.
+     */
+    void setSpoolDirectMemoryMaxSize(long maxSize);
+
+    long getSpoolDirectMemoryMaxSize();
+
+    /**
+     * Acquires a direct memory buffer from the pool for spooling to direct memory.
+     *
+     * @return the cleared buffer, or <tt>null</tt> if the pooled direct memory is used up
+     */
+    ByteBuffer acquireSpoolBuffer();
+
+    /**
+     * Releases the buffer back to the pool, after which it must no longer be used.
+     *
+     * @param buffer the buffer acquired by {@link #acquireSpoolBuffer()}
+     */
+    void releaseSpoolBuffer(ByteBuffer buffer);
+
     /**
      * Sets whether if just any of the {@link org.apache.camel.spi.StreamCachingStrategy.SpoolRule} rules returns
      * <tt>true</tt> then {@link #shouldSpoolCache(long)} returns <tt>true</tt>. If this option is <tt>false</tt>, then
@@ -60,6 +60,11 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Number of successful conversions which was converted by a fallback type converter
+         */
+        long getFallbackCounter();
+
         /**
          * Reset the counters
          */
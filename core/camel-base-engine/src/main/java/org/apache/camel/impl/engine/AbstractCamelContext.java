@@ -358,6 +358,7 @@ public abstract class AbstractCamelContext extends BaseService
     private long startDate;
     private SSLContextParameters sslContextParameters;
     private StartupSummaryLevel startupSummaryLevel = StartupSummaryLevel.Default;
+    private int routeStartupPoolSize = 1;
     private boolean logJvmUptime;
 
     /**
@@ -4923,6 +4924,16 @@ public abstract class AbstractCamelContext extends BaseService
         this.startupSummaryLevel = startupSummaryLevel;
     }
 
+    @Override
+    public int getRouteStartupPoolSize() {
+        return routeStartupPoolSize;
+    }
+
+    @Override
+    public void setRouteStartupPoolSize(int routeStartupPoolSize) {
+        this.routeStartupPoolSize = routeStartupPoolSize;
+    }
+
     @Override
     public HeadersMapFactory getHeadersMapFactory() {
         return headersMapFactory;
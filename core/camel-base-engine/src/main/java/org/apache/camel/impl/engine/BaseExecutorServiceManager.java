@@ -194,7 +194,7 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, isVirtualThreads(profile));
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -220,7 +220,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     @Override
     public ExecutorService newCachedThreadPool(Object source, String name) {
         String sanitizedName = URISupport.sanitizeUri(name);
-        ExecutorService answer = threadPoolFactory.newCachedThreadPool(createThreadFactory(sanitizedName, true));
+        ExecutorService answer = threadPoolFactory.newCachedThreadPool(
+                createThreadFactory(sanitizedName, true, isVirtualThreads(getDefaultThreadPoolProfile())));
         onThreadPoolCreated(answer, source, null);
 
         if (LOG.isDebugEnabled()) {
@@ -584,7 +585,15 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     }
 
     protected ThreadFactory createThreadFactory(String name, boolean isDaemon) {
-        return new CamelThreadFactory(threadNamePattern, name, isDaemon);
+        return createThreadFactory(name, isDaemon, false);
+    }
+
+    protected ThreadFactory createThreadFactory(String name, boolean isDaemon, boolean isVirtual) {
+        return new CamelThreadFactory(threadNamePattern, name, isDaemon, isVirtual);
+    }
+
+    private static boolean isVirtualThreads(ThreadPoolProfile profile) {
+        return profile != null && profile.getVirtualThreads() != null && profile.getVirtualThreads();
     }
 
 }
@@ -19,19 +19,25 @@ package org.apache.camel.impl.engine;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.StartupListener;
+import org.apache.camel.StartupStep;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.CamelLogger;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.IntrospectionSupport;
 import org.apache.camel.support.service.ServiceSupport;
 import org.slf4j.Logger;
@@ -45,8 +51,11 @@ public class DefaultBeanIntrospection extends ServiceSupport implements BeanIntr
 
     private CamelContext camelContext;
     private volatile boolean preStartDone;
+    private volatile boolean startupDone;
     private final List<String> preStartLogs = new ArrayList<>();
     private final AtomicLong invoked = new AtomicLong();
+    // the classes (and their properties) where reflection was used for property binding during startup
+    private final Map<String, Set<String>> startupReflection = new ConcurrentSkipListMap<>();
     private volatile boolean extendedStatistics;
     private LoggingLevel loggingLevel = LoggingLevel.TRACE;
     private CamelLogger logger = new CamelLogger(LOG, loggingLevel);
@@ -118,6 +127,29 @@ public class DefaultBeanIntrospection extends ServiceSupport implements BeanIntr
         }
     }
 
+    /**
+     * The classes where reflection was used for property binding during startup, and the names of the properties that
+     * were bound. Generating configurers for these classes allows Camel to bind their properties without reflection.
+     */
+    public Map<String, Set<String>> getStartupReflection() {
+        return Collections.unmodifiableMap(startupReflection);
+    }
+
+    private void recordStartupReflection(Class<?> type, String name) {
+        if (!startupDone && type != null) {
+            Set<String> names = startupReflection.computeIfAbsent(type.getName(), k -> new ConcurrentSkipListSet<>());
+            if (name != null) {
+                names.add(name);
+            }
+        }
+    }
+
+    private void recordStartupReflection(Object target, String name) {
+        if (!startupDone && target != null) {
+            recordStartupReflection(target.getClass(), name);
+        }
+    }
+
     @Override
     public ClassInfo cacheClass(Class<?> clazz) {
         invoked.incrementAndGet();
@@ -153,6 +185,7 @@ public class DefaultBeanIntrospection extends ServiceSupport implements BeanIntr
         if (!preStartDone || logger.shouldLog()) {
             log("getProperties", target);
         }
+        recordStartupReflection(target, null);
         return IntrospectionSupport.getProperties(target, properties, optionPrefix);
     }
 
@@ -162,6 +195,7 @@ public class DefaultBeanIntrospection extends ServiceSupport implements BeanIntr
         if (!preStartDone || logger.shouldLog()) {
             log("getProperties", target);
         }
+        recordStartupReflection(target, null);
         return IntrospectionSupport.getProperties(target, properties, optionPrefix, includeNull);
     }
 
@@ -171,6 +205,7 @@ public class DefaultBeanIntrospection extends ServiceSupport implements BeanIntr
         if (!preStartDone || logger.shouldLog()) {
             log("getOrElseProperty", target, propertyName);
         }
+        recordStartupReflection(target, propertyName);
         return IntrospectionSupport.getOrElseProperty(target, propertyName, defaultValue, ignoreCase);
     }
 
@@ -180,6 +215,7 @@ public class DefaultBeanIntrospection extends ServiceSupport implements BeanIntr
         if (!preStartDone || logger.shouldLog()) {
             log("getPropertyGetter", type, propertyName);
         }
+        recordStartupReflection(type, propertyName);
         return IntrospectionSupport.getPropertyGetter(type, propertyName, ignoreCase);
     }
 
@@ -196,6 +232,7 @@ public class DefaultBeanIntrospection extends ServiceSupport implements BeanIntr
             }
             log("setProperty", target, name, text);
         }
+        recordStartupReflection(target, name);
         return IntrospectionSupport.setProperty(context, typeConverter, target, name, value, refName, allowBuilderPattern,
                 allowPrivateSetter, ignoreCase);
     }
@@ -210,6 +247,7 @@ public class DefaultBeanIntrospection extends ServiceSupport implements BeanIntr
             }
             log("setProperty", target, name, text);
         }
+        recordStartupReflection(target, name);
         return IntrospectionSupport.setProperty(context, target, name, value);
     }
 
@@ -220,6 +258,7 @@ public class DefaultBeanIntrospection extends ServiceSupport implements BeanIntr
         if (!preStartDone || logger.shouldLog()) {
             log("findSetterMethods", clazz);
         }
+        recordStartupReflection(clazz, name);
         return IntrospectionSupport.findSetterMethods(clazz, name, allowBuilderPattern, allowPrivateSetter, ignoreCase);
     }
 
@@ -231,6 +270,32 @@ public class DefaultBeanIntrospection extends ServiceSupport implements BeanIntr
         preStartDone = true;
     }
 
+    private void reportStartupReflection() {
+        if (startupReflection.isEmpty()) {
+            return;
+        }
+
+        // record a step per class, so they are included with the startup steps (such as in flight recorder)
+        StartupStepRecorder recorder = camelContext != null
+                ? camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder() : null;
+        if (recorder != null && recorder.isEnabled()) {
+            for (Map.Entry<String, Set<String>> entry : startupReflection.entrySet()) {
+                String desc = entry.getValue().isEmpty() ? "Reflection" : "Reflection " + entry.getValue();
+                StartupStep step = recorder.beginStep(BeanIntrospection.class, entry.getKey(), desc);
+                recorder.endStep(step);
+            }
+        }
+
+        String classes = String.join(",", startupReflection.keySet());
+        if (extendedStatistics) {
+            LOG.info("Reflection was used for property binding on {} classes during startup: {}", startupReflection.size(),
+                    classes);
+        } else {
+            LOG.debug("Reflection was used for property binding on {} classes during startup: {}",
+                    startupReflection.size(), classes);
+        }
+    }
+
     @Override
     protected void doInit() throws Exception {
         if (camelContext != null) {
@@ -254,5 +319,11 @@ public class DefaultBeanIntrospection extends ServiceSupport implements BeanIntr
     public void onCamelContextStarted(CamelContext context, boolean alreadyStarted) throws Exception {
         // ensure after properties is called
         afterPropertiesConfigured(camelContext);
+        // properties may be configured after the context is configured (such as by camel-main)
+        // so the startup is done when the context is started
+        if (!startupDone) {
+            startupDone = true;
+            reportStartupReflection();
+        }
     }
 }
@@ -163,6 +163,28 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
             return answer;
         }
 
+        @Override
+        public long getHeadersCounter() {
+            long answer = 0;
+            if (statisticsEnabled) {
+                for (ExchangeFactory ef : factories.values()) {
+                    answer += ef.getStatistics().getHeadersCounter();
+                }
+            }
+            return answer;
+        }
+
+        @Override
+        public long getPropertiesCounter() {
+            long answer = 0;
+            if (statisticsEnabled) {
+                for (ExchangeFactory ef : factories.values()) {
+                    answer += ef.getStatistics().getPropertiesCounter();
+                }
+            }
+            return answer;
+        }
+
     }
 
     @Override
@@ -16,13 +16,17 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -38,69 +42,92 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default {@link org.apache.camel.spi.InflightRepository}.
+ * <p/>
+ * The counters are striped ({@link LongAdder}) to avoid contention when many threads add and remove exchanges. When
+ * browsing is enabled then the inflight exchanges are kept in insertion ordered shards (one for all exchanges, and one
+ * per route the exchanges were created from), so the oldest inflight exchange can be found without scanning and sorting
+ * all the inflight exchanges. When browsing is disabled (default) then only the counters are kept.
  */
 public class DefaultInflightRepository extends ServiceSupport implements InflightRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultInflightRepository.class);
-
-    private final AtomicInteger size = new AtomicInteger();
-    private final ConcurrentMap<String, Exchange> inflight = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, AtomicInteger> routeCount = new ConcurrentHashMap<>();
+    // number of stripes per shard (power of two)
+    private static final int STRIPES
+            = Math.min(16, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 2);
+
+    private final LongAdder size = new LongAdder();
+    private final InflightShard inflight = new InflightShard();
+    private final ConcurrentMap<String, InflightShard> routeInflight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<>();
     private boolean inflightExchangeEnabled;
 
     @Override
     public void add(Exchange exchange) {
-        size.incrementAndGet();
+        size.increment();
 
         if (inflightExchangeEnabled) {
-            inflight.put(exchange.getExchangeId(), exchange);
+            inflight.add(exchange);
         }
     }
 
     @Override
     public void remove(Exchange exchange) {
-        size.decrementAndGet();
+        size.decrement();
 
         if (inflightExchangeEnabled) {
-            inflight.remove(exchange.getExchangeId());
+            inflight.remove(exchange);
+            String fromRouteId = exchange.getFromRouteId();
+            if (fromRouteId != null) {
+                InflightShard shard = routeInflight.get(fromRouteId);
+                if (shard != null) {
+                    shard.remove(exchange);
+                }
+            }
         }
     }
 
     @Override
     public void add(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.incrementAndGet();
+            existing.increment();
+        }
+
+        // keep track of the exchanges per route they were created from (the exchange is
+        // removed again when it is completed and removed from this repository)
+        if (inflightExchangeEnabled && routeId != null && routeId.equals(exchange.getFromRouteId())) {
+            routeInflight.computeIfAbsent(routeId, k -> new InflightShard()).add(exchange);
         }
     }
 
     @Override
     public void remove(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.decrementAndGet();
+            existing.decrement();
         }
     }
 
     @Override
     public int size() {
-        return size.get();
+        return size.intValue();
     }
 
     @Override
     public void addRoute(String routeId) {
-        routeCount.putIfAbsent(routeId, new AtomicInteger());
+        routeCount.putIfAbsent(routeId, new LongAdder());
     }
 
     @Override
     public void removeRoute(String routeId) {
         routeCount.remove(routeId);
+        routeInflight.remove(routeId);
     }
 
     @Override
     public int size(String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
-        return existing != null ? existing.get() : 0;
+        LongAdder existing = routeCount.get(routeId);
+        return existing != null ? existing.intValue() : 0;
     }
 
     @Override
@@ -134,16 +161,19 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
             return Collections.emptyList();
         }
 
-        Stream<Exchange> values;
+        List<Exchange> list = new ArrayList<>();
         if (fromRouteId == null) {
             // all values
-            values = inflight.values().stream();
+            inflight.collect(list);
         } else {
             // only if route match
-            values = inflight.values().stream()
-                    .filter(e -> fromRouteId.equals(e.getFromRouteId()));
+            InflightShard shard = routeInflight.get(fromRouteId);
+            if (shard != null) {
+                shard.collect(list);
+            }
         }
 
+        Stream<Exchange> values = list.stream();
         if (sortByLongestDuration) {
             // sort by duration and grab the first
             values = values.sorted((e1, e2) -> {
@@ -171,25 +201,18 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
             return null;
         }
 
-        Stream<Exchange> values;
-
+        Exchange first = null;
         if (fromRouteId == null) {
             // all values
-            values = inflight.values().stream();
+            first = inflight.oldest();
         } else {
             // only if route match
-            values = inflight.values().stream()
-                    .filter(e -> fromRouteId.equals(e.getFromRouteId()));
+            InflightShard shard = routeInflight.get(fromRouteId);
+            if (shard != null) {
+                first = shard.oldest();
+            }
         }
 
-        // sort by duration and grab the first
-        Exchange first = values.sorted((e1, e2) -> {
-            long d1 = getExchangeDuration(e1);
-            long d2 = getExchangeDuration(e2);
-            // need the biggest number first
-            return -1 * Long.compare(d1, d2);
-        }).findFirst().orElse(null);
-
         if (first != null) {
             return new InflightExchangeEntry(first);
         } else {
@@ -206,12 +229,82 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
             LOG.debug("Shutting down with no inflight exchanges.");
         }
         routeCount.clear();
+        routeInflight.clear();
+    }
+
+    private static Exchange older(Exchange e1, Exchange e2) {
+        if (e1 == null) {
+            return e2;
+        } else if (e2 == null) {
+            return e1;
+        }
+        return e2.getCreated() < e1.getCreated() ? e2 : e1;
     }
 
     private static long getExchangeDuration(Exchange exchange) {
         return System.currentTimeMillis() - exchange.getCreated();
     }
 
+    /**
+     * The inflight exchanges (all or created from the same route). The exchanges are spread over a number of insertion
+     * ordered stripes (by exchange id), each with its own lock, so the head of each stripe is the oldest exchange in
+     * the stripe.
+     */
+    private static final class InflightShard {
+
+        private final Map<String, Exchange>[] stripes;
+
+        @SuppressWarnings("unchecked")
+        private InflightShard() {
+            stripes = new Map[STRIPES];
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new LinkedHashMap<>();
+            }
+        }
+
+        private Map<String, Exchange> stripe(Exchange exchange) {
+            int h = exchange.getExchangeId().hashCode();
+            return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+        }
+
+        void add(Exchange exchange) {
+            Map<String, Exchange> stripe = stripe(exchange);
+            synchronized (stripe) {
+                stripe.put(exchange.getExchangeId(), exchange);
+            }
+        }
+
+        void remove(Exchange exchange) {
+            Map<String, Exchange> stripe = stripe(exchange);
+            synchronized (stripe) {
+                stripe.remove(exchange.getExchangeId());
+            }
+        }
+
+        Exchange oldest() {
+            Exchange answer = null;
+            for (Map<String, Exchange> stripe : stripes) {
+                Exchange head = null;
+                synchronized (stripe) {
+                    Iterator<Exchange> it = stripe.values().iterator();
+                    if (it.hasNext()) {
+                        head = it.next();
+                    }
+                }
+                answer = older(answer, head);
+            }
+            return answer;
+        }
+
+        void collect(List<Exchange> list) {
+            for (Map<String, Exchange> stripe : stripes) {
+                synchronized (stripe) {
+                    list.addAll(stripe.values());
+                }
+            }
+        }
+    }
+
     private static final class InflightExchangeEntry implements InflightExchange {
 
         private final Exchange exchange;
@@ -19,8 +19,12 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -41,6 +45,7 @@ import org.slf4j.LoggerFactory;
 public class DefaultStreamCachingStrategy extends ServiceSupport implements CamelContextAware, StreamCachingStrategy {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
+    private static final int SPOOL_BUFFER_SIZE = 64 * 1024;
 
     private CamelContext camelContext;
     private boolean enabled;
@@ -55,6 +60,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
+    private boolean spoolDirectMemory;
+    private long spoolDirectMemoryMaxSize = 64 * 1024 * 1024L;
+    private final Queue<ByteBuffer> spoolBuffers = new ConcurrentLinkedQueue<>();
+    private final AtomicLong spoolBuffersSize = new AtomicLong();
 
     @Override
     public CamelContext getCamelContext() {
@@ -161,6 +170,47 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.anySpoolRules = anySpoolTasks;
     }
 
+    @Override
+    public boolean isSpoolDirectMemory() {
+        return spoolDirectMemory;
+    }
+
+    @Override
+    public void setSpoolDirectMemory(boolean spoolDirectMemory) {
+        this.spoolDirectMemory = spoolDirectMemory;
+    }
+
+    @Override
+    public long getSpoolDirectMemoryMaxSize() {
+        return spoolDirectMemoryMaxSize;
+    }
+
+    @Override
+    public void setSpoolDirectMemoryMaxSize(long spoolDirectMemoryMaxSize) {
+        this.spoolDirectMemoryMaxSize = spoolDirectMemoryMaxSize;
+    }
+
+    @Override
+    public ByteBuffer acquireSpoolBuffer() {
+        ByteBuffer answer = spoolBuffers.poll();
+        if (answer == null) {
+            // allocate a new buffer if the pool has not yet grown to its maximum size
+            if (spoolBuffersSize.addAndGet(SPOOL_BUFFER_SIZE) > spoolDirectMemoryMaxSize) {
+                spoolBuffersSize.addAndGet(-SPOOL_BUFFER_SIZE);
+                LOG.trace("Direct memory for spooling is used up");
+                return null;
+            }
+            answer = ByteBuffer.allocateDirect(SPOOL_BUFFER_SIZE);
+        }
+        return answer;
+    }
+
+    @Override
+    public void releaseSpoolBuffer(ByteBuffer buffer) {
+        buffer.clear();
+        spoolBuffers.offer(buffer);
+    }
+
     @Override
     public Statistics getStatistics() {
         return statistics;
@@ -324,7 +374,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
         LOG.debug("StreamCaching configuration {}", this);
 
-        if (spoolDirectory != null) {
+        if (spoolDirectory != null && spoolDirectMemory) {
+            LOG.info("StreamCaching in use with spool to direct memory (max {}K) and spool directory: {} and rules: {}",
+                    spoolDirectMemoryMaxSize >> 10, spoolDirectory.getPath(), spoolRules);
+        } else if (spoolDirectory != null) {
             LOG.info("StreamCaching in use with spool directory: {} and rules: {}", spoolDirectory.getPath(), spoolRules);
         } else {
             LOG.info("StreamCaching in use with rules: {}", spoolRules);
@@ -343,6 +396,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+        spoolBuffers.clear();
+        spoolBuffersSize.set(0);
     }
 
     @Override
@@ -353,6 +408,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
+               + ", spoolDirectMemory=" + spoolDirectMemory
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
@@ -19,10 +19,14 @@ package org.apache.camel.impl.engine;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
@@ -30,14 +34,17 @@ import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.MultipleConsumersSupport;
 import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.StartupListener;
 import org.apache.camel.StartupStep;
 import org.apache.camel.StatefulService;
 import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
+import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
@@ -283,9 +290,14 @@ class InternalRouteStartupManager {
         return true;
     }
 
-    void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws FailedToStartRouteException {
+    void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws Exception {
         // now prepare the routes by starting its services before we start the
         // input
+        if (isParallel(inputs)) {
+            doInParallel(inputs, "RouteWarmUp", order -> doWarmUpRoute(order.getRouteService(), autoStartup));
+            return;
+        }
+
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
             // defer starting inputs till later as we want to prepare the routes
             // by starting
@@ -295,19 +307,22 @@ class InternalRouteStartupManager {
             // routes as all routes
             // will then be prepared in time before we start inputs which will
             // consume messages to be routed
-            RouteService routeService = entry.getValue().getRouteService();
-            StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
-                    "Warump Route");
-            try {
-                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
-                setupRoute.set(routeService.getRoute());
-                // ensure we setup before warmup
-                routeService.setUp();
-                routeService.warmUp();
-            } finally {
-                setupRoute.remove();
-                abstractCamelContext.getStartupStepRecorder().endStep(step);
-            }
+            doWarmUpRoute(entry.getValue().getRouteService(), autoStartup);
+        }
+    }
+
+    private void doWarmUpRoute(RouteService routeService, boolean autoStartup) throws FailedToStartRouteException {
+        StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
+                "Warump Route");
+        try {
+            LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            setupRoute.set(routeService.getRoute());
+            // ensure we setup before warmup
+            routeService.setUp();
+            routeService.warmUp();
+        } finally {
+            setupRoute.remove();
+            abstractCamelContext.getStartupStepRecorder().endStep(step);
         }
     }
 
@@ -326,6 +341,11 @@ class InternalRouteStartupManager {
     private void doStartOrResumeRouteConsumers(
             Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute)
             throws Exception {
+        if (isParallel(inputs)) {
+            doStartOrResumeRouteConsumersInParallel(inputs, resumeOnly, addingRoute);
+            return;
+        }
+
         List<Endpoint> routeInputs = new ArrayList<>();
 
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
@@ -351,30 +371,8 @@ class InternalRouteStartupManager {
             if (consumer != null) {
                 Endpoint endpoint = consumer.getEndpoint();
 
-                // check multiple consumer violation, with the other routes to be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
-
-                // check for multiple consumer violations with existing routes
-                // which have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : abstractCamelContext.getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
-                    }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = abstractCamelContext.getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
-                    }
-                }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+                // check multiple consumer violation, with the other routes to be started and existing routes
+                doCheckMultipleConsumerSupportClash(route, endpoint, routeInputs);
 
                 // start the consumer on the route
                 LOG.debug("Route: {} >>> {}", route.getId(), route);
@@ -448,6 +446,235 @@ class InternalRouteStartupManager {
         }
     }
 
+    private void doStartOrResumeRouteConsumersInParallel(
+            Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute)
+            throws Exception {
+        // the checks for multiple consumers clash and the lifecycle strategies are done one by one up front,
+        // and only the consumers and routes are started in parallel
+        Map<Integer, DefaultRouteStartupOrder> startable = new TreeMap<>();
+        List<Endpoint> routeInputs = new ArrayList<>();
+        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
+            Route route = entry.getValue().getRoute();
+            RouteService routeService = entry.getValue().getRouteService();
+
+            boolean autoStartup = routeService.isAutoStartup();
+            if (addingRoute && !autoStartup) {
+                routeLogger.log(
+                        "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
+                        getRouteLoggerLogLevel());
+                continue;
+            }
+
+            Consumer consumer = routeService.getInput();
+            if (consumer != null) {
+                Endpoint endpoint = consumer.getEndpoint();
+                doCheckMultipleConsumerSupportClash(route, endpoint, routeInputs);
+                if (!resumeOnly || !route.supportsSuspension()) {
+                    for (LifecycleStrategy strategy : abstractCamelContext.getLifecycleStrategies()) {
+                        strategy.onServiceAdd(abstractCamelContext.getCamelContextReference(), consumer, route);
+                    }
+                }
+                routeInputs.add(endpoint);
+            }
+            startable.put(entry.getKey(), entry.getValue());
+        }
+
+        try {
+            doInParallel(startable, "RouteStartup", order -> doStartOrResumeRouteConsumer(order, resumeOnly));
+        } finally {
+            // add the routes which was started to the order which they was started, so we know how to stop them
+            // in reverse order (also if some routes failed to start)
+            for (DefaultRouteStartupOrder order : startable.values()) {
+                Route route = order.getRoute();
+                Consumer consumer = order.getRouteService().getInput();
+                if (consumer != null && ServiceHelper.isStarted(consumer)) {
+                    boolean found = false;
+                    for (RouteStartupOrder other : abstractCamelContext.getRouteStartupOrder()) {
+                        if (other.getRoute().getId().equals(route.getId())) {
+                            found = true;
+                            break;
+                        }
+                    }
+                    if (!found) {
+                        abstractCamelContext.getRouteStartupOrder().add(order);
+                    }
+                }
+            }
+        }
+    }
+
+    private void doStartOrResumeRouteConsumer(DefaultRouteStartupOrder order, boolean resumeOnly) throws Exception {
+        Route route = order.getRoute();
+        RouteService routeService = order.getRouteService();
+
+        StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, route.getRouteId(),
+                "Start Route");
+        try {
+            Consumer consumer = routeService.getInput();
+            if (consumer != null) {
+                Endpoint endpoint = consumer.getEndpoint();
+                // use basic endpoint uri to not log verbose details or potential sensitive data
+                String uri = URISupport.sanitizeUri(endpoint.getEndpointBaseUri());
+                if (resumeOnly && route.supportsSuspension()) {
+                    LOG.debug("Resuming consumer (order: {}) on route: {}", order.getStartupOrder(), route.getId());
+                    ServiceHelper.resumeService(consumer);
+                    routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
+                            getRouteLoggerLogLevel());
+                } else {
+                    LOG.debug("Starting consumer (order: {}) on route: {}", order.getStartupOrder(), route.getId());
+                    try {
+                        abstractCamelContext.startService(consumer);
+                        route.getProperties().remove("route.start.exception");
+                    } catch (Exception e) {
+                        route.getProperties().put("route.start.exception", e);
+                        throw e;
+                    }
+                    routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
+                            getRouteLoggerLogLevel());
+                }
+            }
+
+            if (resumeOnly) {
+                routeService.resume();
+            } else {
+                // and start the route service (no need to start children as
+                // they are already warmed up)
+                try {
+                    routeService.start();
+                    route.getProperties().remove("route.start.exception");
+                } catch (Exception e) {
+                    route.getProperties().put("route.start.exception", e);
+                    throw e;
+                }
+            }
+        } finally {
+            abstractCamelContext.getStartupStepRecorder().endStep(step);
+        }
+    }
+
+    private void doCheckMultipleConsumerSupportClash(Route route, Endpoint endpoint, List<Endpoint> routeInputs)
+            throws FailedToStartRouteException {
+        // check multiple consumer violation, with the other routes to be started
+        if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+            throw new FailedToStartRouteException(
+                    route.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+
+        // check for multiple consumer violations with existing routes
+        // which have already been started, or is currently starting
+        List<Endpoint> existingEndpoints = new ArrayList<>();
+        for (Route existingRoute : abstractCamelContext.getRoutes()) {
+            if (route.getId().equals(existingRoute.getId())) {
+                // skip ourselves
+                continue;
+            }
+            ServiceStatus status = abstractCamelContext.getRouteStatus(existingRoute.getId());
+            if (status != null && (status.isStarted() || status.isStarting())) {
+                existingEndpoints.add(existingRoute.getEndpoint());
+            }
+        }
+        if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+            throw new FailedToStartRouteException(
+                    route.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+    }
+
+    /**
+     * Whether the given routes should be warmed up and started in parallel
+     */
+    private boolean isParallel(Map<Integer, DefaultRouteStartupOrder> inputs) {
+        return abstractCamelContext.getRouteStartupPoolSize() > 1 && inputs.size() > 1;
+    }
+
+    /**
+     * Groups the routes into batches which are executed one after the other, where the routes within a batch do not
+     * depend on each other and can be executed in parallel.
+     * <p/>
+     * A route with an explicit startup order must be started after the routes with a lower order, and before the routes
+     * with a higher order, and is therefore executed in a batch of its own. The consecutive routes with an auto
+     * assigned startup order are grouped into the same batch.
+     */
+    static List<List<DefaultRouteStartupOrder>> groupInBatches(Collection<DefaultRouteStartupOrder> orders) {
+        List<List<DefaultRouteStartupOrder>> answer = new ArrayList<>();
+        List<DefaultRouteStartupOrder> batch = null;
+        for (DefaultRouteStartupOrder order : orders) {
+            if (order.getRoute().getStartupOrder() != null) {
+                answer.add(Collections.singletonList(order));
+                batch = null;
+            } else {
+                if (batch == null) {
+                    batch = new ArrayList<>();
+                    answer.add(batch);
+                }
+                batch.add(order);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Executes the task for the given routes using a thread pool of the configured route startup pool size. The routes
+     * are executed in batches (see {@link #groupInBatches(Collection)}), and a batch is completed before the next batch
+     * is executed. If any of the routes in a batch fails, then the exception of the first failed route (by startup
+     * order) is thrown and the remaining batches are not executed.
+     */
+    private void doInParallel(Map<Integer, DefaultRouteStartupOrder> inputs, String name, RouteTask task) throws Exception {
+        ExecutorServiceManager manager = abstractCamelContext.getExecutorServiceManager();
+        ExecutorService executor = null;
+        try {
+            for (List<DefaultRouteStartupOrder> batch : groupInBatches(inputs.values())) {
+                if (batch.size() == 1) {
+                    task.run(batch.get(0));
+                    continue;
+                }
+                if (executor == null) {
+                    executor = manager.newFixedThreadPool(this, name, abstractCamelContext.getRouteStartupPoolSize());
+                }
+                // the steps recorded by the routes are nested under the current step of this thread
+                StartupStepRecorder recorder = abstractCamelContext.getStartupStepRecorder();
+                StartupStep parent = recorder.getCurrentStep();
+                List<Future<?>> futures = new ArrayList<>(batch.size());
+                for (DefaultRouteStartupOrder order : batch) {
+                    futures.add(executor.submit(() -> {
+                        abstractCamelContext.setStartingRoutes(true);
+                        recorder.setCurrentStep(parent);
+                        try {
+                            task.run(order);
+                        } finally {
+                            recorder.setCurrentStep(null);
+                            abstractCamelContext.setStartingRoutes(false);
+                        }
+                        return null;
+                    }));
+                }
+                // wait for all the routes in the batch to complete, before we fail
+                Exception cause = null;
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        if (cause == null) {
+                            cause = e.getCause() instanceof Exception
+                                    ? (Exception) e.getCause() : new RuntimeCamelException(e.getCause());
+                        }
+                    }
+                }
+                if (cause != null) {
+                    throw cause;
+                }
+            }
+        } finally {
+            if (executor != null) {
+                manager.shutdownNow(executor);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RouteTask {
+        void run(DefaultRouteStartupOrder order) throws Exception;
+    }
+
     private boolean doCheckMultipleConsumerSupportClash(Endpoint endpoint, List<Endpoint> routeInputs) {
         // is multiple consumers supported
         boolean multipleConsumersSupported = false;
@@ -0,0 +1,496 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, which is optimized for storing message
+ * headers.
+ * <p/>
+ * The entries are stored in arrays in insertion order, and looked up using an open addressing (linear probing) index
+ * with pre-computed case-folded hashes of the keys. This means lookups are O(1) and do not create any garbage. The
+ * case-folded hashes of the well known Camel header keys (the constants from {@link Exchange}) are computed only once.
+ * <p/>
+ * A copy of the map created by {@link #copy()} shares the arrays with the original map until either of the maps is
+ * changed (copy-on-write), which makes copying headers cheap when creating many copies of an exchange, such as with the
+ * multicast and splitter EIPs.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public final class OpenAddressingHeadersMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final String[] KNOWN_KEYS;
+    private static final int[] KNOWN_HASHES;
+    private static final int KNOWN_MASK;
+
+    static {
+        List<String> keys = new ArrayList<>();
+        for (Field field : Exchange.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                try {
+                    keys.add((String) field.get(null));
+                } catch (IllegalAccessException e) {
+                    // ignore
+                }
+            }
+        }
+        int capacity = tableSizeFor(keys.size() * 2);
+        KNOWN_KEYS = new String[capacity];
+        KNOWN_HASHES = new int[capacity];
+        KNOWN_MASK = capacity - 1;
+        for (String key : keys) {
+            // the constants are interned so they are found by identity when looked up
+            key = key.intern();
+            int slot = key.hashCode() & KNOWN_MASK;
+            while (KNOWN_KEYS[slot] != null && !KNOWN_KEYS[slot].equals(key)) {
+                slot = (slot + 1) & KNOWN_MASK;
+            }
+            KNOWN_KEYS[slot] = key;
+            KNOWN_HASHES[slot] = foldedHash(key);
+        }
+    }
+
+    // entries in insertion order (removed entries have a null key)
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    // open addressing index which holds the position of the entry + 1 (0 is an empty slot)
+    private int[] index;
+    private int used;
+    private int size;
+    private transient int modCount;
+    // whether the arrays are shared with a copy of this map
+    private transient boolean shared;
+    private transient Set<Entry<String, Object>> entrySet;
+
+    public OpenAddressingHeadersMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public OpenAddressingHeadersMap(int initialCapacity) {
+        int capacity = Math.max(DEFAULT_CAPACITY, tableSizeFor(initialCapacity));
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        index = new int[capacity * 2];
+    }
+
+    public OpenAddressingHeadersMap(Map<? extends String, ?> map) {
+        this(map.size());
+        putAll(map);
+    }
+
+    private OpenAddressingHeadersMap(OpenAddressingHeadersMap source) {
+        keys = source.keys;
+        values = source.values;
+        hashes = source.hashes;
+        index = source.index;
+        used = source.used;
+        size = source.size;
+        shared = true;
+        source.shared = true;
+    }
+
+    /**
+     * Creates a copy of this map. The copy shares the content with this map until either of the maps is changed.
+     */
+    public OpenAddressingHeadersMap copy() {
+        return new OpenAddressingHeadersMap(this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && findPosition((String) key, hash((String) key)) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String) {
+            int pos = findPosition((String) key, hash((String) key));
+            if (pos >= 0) {
+                return values[pos];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int hash = hash(key);
+        int pos = findPosition(key, hash);
+        ensureNotShared();
+        if (pos >= 0) {
+            // keep the original key case
+            Object answer = values[pos];
+            values[pos] = value;
+            return answer;
+        }
+        if (used == keys.length) {
+            resize();
+        }
+        pos = used++;
+        keys[pos] = key;
+        values[pos] = value;
+        hashes[pos] = hash;
+        insertIndex(hash, pos);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (map instanceof OpenAddressingHeadersMap) {
+            // reuse the computed hashes
+            OpenAddressingHeadersMap other = (OpenAddressingHeadersMap) map;
+            for (int i = 0; i < other.used; i++) {
+                String key = other.keys[i];
+                if (key != null) {
+                    put(key, other.hashes[i], other.values[i]);
+                }
+            }
+        } else {
+            for (Entry<? extends String, ?> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String) {
+            int pos = findPosition((String) key, hash((String) key));
+            if (pos >= 0) {
+                Object answer = values[pos];
+                removePosition(pos);
+                return answer;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0 && used == 0) {
+            return;
+        }
+        if (shared) {
+            keys = new String[keys.length];
+            values = new Object[values.length];
+            hashes = new int[hashes.length];
+            index = new int[index.length];
+            shared = false;
+        } else {
+            for (int i = 0; i < used; i++) {
+                keys[i] = null;
+                values[i] = null;
+            }
+            for (int i = 0; i < index.length; i++) {
+                index[i] = 0;
+            }
+        }
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void put(String key, int hash, Object value) {
+        int pos = findPosition(key, hash);
+        ensureNotShared();
+        if (pos >= 0) {
+            values[pos] = value;
+            return;
+        }
+        if (used == keys.length) {
+            resize();
+        }
+        pos = used++;
+        keys[pos] = key;
+        values[pos] = value;
+        hashes[pos] = hash;
+        insertIndex(hash, pos);
+        size++;
+        modCount++;
+    }
+
+    private int findPosition(String key, int hash) {
+        final int[] index = this.index;
+        final int mask = index.length - 1;
+        int slot = mix(hash) & mask;
+        int pos;
+        while ((pos = index[slot]) != 0) {
+            pos--;
+            String k = keys[pos];
+            if (k == key || hashes[pos] == hash && k.equalsIgnoreCase(key)) {
+                return pos;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertIndex(int hash, int pos) {
+        final int mask = index.length - 1;
+        int slot = mix(hash) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = pos + 1;
+    }
+
+    private void removePosition(int pos) {
+        ensureNotShared();
+        final int mask = index.length - 1;
+        int slot = mix(hashes[pos]) & mask;
+        while (index[slot] != pos + 1) {
+            slot = (slot + 1) & mask;
+        }
+        // backward shift deletion so the index do not need tombstones
+        int next = (slot + 1) & mask;
+        while (index[next] != 0) {
+            int ideal = mix(hashes[index[next] - 1]) & mask;
+            if (((next - ideal) & mask) >= ((next - slot) & mask)) {
+                index[slot] = index[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        index[slot] = 0;
+        keys[pos] = null;
+        values[pos] = null;
+        size--;
+        modCount++;
+    }
+
+    private void ensureNotShared() {
+        if (shared) {
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            index = index.clone();
+            shared = false;
+        }
+    }
+
+    private void resize() {
+        // grow only if there are not enough removed entries to compact the arrays
+        int capacity = size >= used / 2 ? keys.length * 2 : keys.length;
+        String[] newKeys = new String[capacity];
+        Object[] newValues = new Object[capacity];
+        int[] newHashes = new int[capacity];
+        int n = 0;
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null) {
+                newKeys[n] = keys[i];
+                newValues[n] = values[i];
+                newHashes[n] = hashes[i];
+                n++;
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        index = new int[capacity * 2];
+        used = n;
+        for (int i = 0; i < n; i++) {
+            insertIndex(newHashes[i], i);
+        }
+    }
+
+    private static int hash(String key) {
+        int slot = key.hashCode() & KNOWN_MASK;
+        String known;
+        while ((known = KNOWN_KEYS[slot]) != null) {
+            if (known == key) {
+                return KNOWN_HASHES[slot];
+            }
+            slot = (slot + 1) & KNOWN_MASK;
+        }
+        return foldedHash(key);
+    }
+
+    private static int foldedHash(String key) {
+        // same folding as String.equalsIgnoreCase
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+        }
+        return h;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        return Math.max(2, n);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            OpenAddressingHeadersMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            advance();
+            return new HeaderEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removePosition(last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        private void advance() {
+            while (next < used && keys[next] == null) {
+                next++;
+            }
+        }
+    }
+
+    private final class HeaderEntry implements Entry<String, Object> {
+        private final int pos;
+        private final String key;
+
+        HeaderEntry(int pos) {
+            this.pos = pos;
+            this.key = keys[pos];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return keys[pos] == key ? values[pos] : null;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (keys[pos] != key) {
+                throw new IllegalStateException("Entry is removed");
+            }
+            ensureNotShared();
+            Object answer = values[pos];
+            values[pos] = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            Object value = getValue();
+            return key.equals(e.getKey()) && (value == null ? e.getValue() == null : value.equals(e.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
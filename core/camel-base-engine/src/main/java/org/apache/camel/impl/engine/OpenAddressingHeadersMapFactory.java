@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Map;
+
+import org.apache.camel.spi.HeadersMapFactory;
+
+/**
+ * {@link HeadersMapFactory} which uses the {@link OpenAddressingHeadersMap}, a case insensitive map which is optimized
+ * for storing message headers. The map is faster than the {@link org.apache.camel.util.CaseInsensitiveMap} which is
+ * used by default.
+ * <p/>
+ * By default copies of the headers (such as when an exchange is copied by the multicast or splitter EIPs) share the
+ * content with the original headers until either of them is changed (copy-on-write).
+ */
+public class OpenAddressingHeadersMapFactory implements HeadersMapFactory {
+
+    private boolean copyOnWrite = true;
+
+    public boolean isCopyOnWrite() {
+        return copyOnWrite;
+    }
+
+    /**
+     * Whether copies of the headers should share the content with the original headers until either of them is changed.
+     * <p/>
+     * This is enabled by default.
+     */
+    public void setCopyOnWrite(boolean copyOnWrite) {
+        this.copyOnWrite = copyOnWrite;
+    }
+
+    @Override
+    public Map<String, Object> newMap() {
+        return new OpenAddressingHeadersMap();
+    }
+
+    @Override
+    public Map<String, Object> newMap(Map<String, Object> map) {
+        if (copyOnWrite && map instanceof OpenAddressingHeadersMap) {
+            return ((OpenAddressingHeadersMap) map).copy();
+        }
+        return new OpenAddressingHeadersMap(map);
+    }
+
+    @Override
+    public boolean isInstanceOf(Map<String, Object> map) {
+        return map instanceof OpenAddressingHeadersMap;
+    }
+
+    @Override
+    public boolean isCaseInsensitive() {
+        return true;
+    }
+}
@@ -104,6 +104,10 @@ public final class PooledExchangeFactory extends PrototypeExchangeFactory {
 
     @Override
     public boolean release(Exchange exchange) {
+        if (statisticsEnabled) {
+            // count before the exchange is reset
+            countSizes(exchange);
+        }
         try {
             // done exchange before returning back to pool
             PooledExchange ee = (PooledExchange) exchange;
@@ -109,10 +109,21 @@ public class PrototypeExchangeFactory extends PooledObjectFactorySupport<Exchang
     public boolean release(Exchange exchange) {
         if (statisticsEnabled) {
             statistics.released.increment();
+            countSizes(exchange);
         }
         return true;
     }
 
+    void countSizes(Exchange exchange) {
+        // use has methods to avoid creating the maps if there are no headers or properties
+        if (exchange.getMessage().hasHeaders()) {
+            statistics.headers.add(exchange.getMessage().getHeaders().size());
+        }
+        if (exchange.hasProperties()) {
+            statistics.properties.add(exchange.getProperties().size());
+        }
+    }
+
     @Override
     public boolean isPooled() {
         return false;
@@ -18,9 +18,13 @@ package org.apache.camel.impl.converter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.CamelContext;
@@ -61,6 +65,10 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final List<BulkTypeConverters> bulkTypeConverters = new ArrayList<>();
     // custom type converters (from camel components and end users)
     protected final DoubleMap<Class<?>, Class<?>, TypeConverter> typeMappings = new DoubleMap<>(16);
+    // conversions (to, from) where no type converter could be looked up, so only the fallback converters can be used
+    protected final Map<Class<?>, Set<Class<?>>> lookupMisses = new ConcurrentHashMap<>();
+    // incremented whenever the lookup misses are cleared, so a miss is not remembered when a converter was added meanwhile
+    private final AtomicLong lookupMissesGeneration = new AtomicLong();
     // fallback converters
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     // special enum converter for optional performance
@@ -72,6 +80,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final LongAdder missCounter = new LongAdder();
     protected final LongAdder hitCounter = new LongAdder();
     protected final LongAdder failedCounter = new LongAdder();
+    protected final LongAdder fallbackCounter = new LongAdder();
 
     protected TypeConverterExists typeConverterExists = TypeConverterExists.Ignore;
     protected LoggingLevel typeConverterExistsLoggingLevel = LoggingLevel.DEBUG;
@@ -524,6 +533,9 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             }
 
             if (rc != null) {
+                if (statisticsEnabled) {
+                    fallbackCounter.increment();
+                }
                 // if fallback can promote then let it be promoted to a first class type converter
                 if (fallback.isCanPromote()) {
                     // add it as a known type converter since we found a fallback that could do it
@@ -571,6 +583,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 this.bulkTypeConverters.add(bulkTypeConverters);
             }
             sumBulkTypeConverters += bulkTypeConverters.size();
+            // the new converters may be found when looking up again
+            clearLookupMisses();
         }
     }
 
@@ -581,6 +595,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed so add this converter
             typeMappings.put(toType, fromType, typeConverter);
+            clearLookupMisses();
             return;
         }
 
@@ -608,6 +623,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                // the new converter may be found when looking up again
+                clearLookupMisses();
             }
         }
     }
@@ -636,16 +653,37 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
     protected TypeConverter getOrFindTypeConverter(Class<?> toType, Class<?> fromType) {
         TypeConverter converter = typeMappings.get(toType, fromType);
-        if (converter == null) {
+        if (converter == null && !isLookupMiss(toType, fromType)) {
+            long generation = lookupMissesGeneration.get();
             // converter not found, try to lookup then
             converter = lookup(toType, fromType);
             if (converter != null) {
                 typeMappings.put(toType, fromType, converter);
+            } else {
+                // remember the lookup missed, to avoid looking up again (which is expensive) for every conversion
+                // that the fallback converters must be used for
+                Set<Class<?>> misses = lookupMisses.computeIfAbsent(toType, k -> ConcurrentHashMap.newKeySet());
+                misses.add(fromType);
+                if (generation != lookupMissesGeneration.get()) {
+                    // a converter was added while looking up, which the lookup may not have seen
+                    misses.remove(fromType);
+                }
             }
         }
         return converter;
     }
 
+    private boolean isLookupMiss(Class<?> toType, Class<?> fromType) {
+        Set<Class<?>> misses = lookupMisses.get(toType);
+        return misses != null && misses.contains(fromType);
+    }
+
+    private void clearLookupMisses() {
+        // increment before clearing, so a lookup that is in progress does not remember its miss afterwards
+        lookupMissesGeneration.incrementAndGet();
+        lookupMisses.clear();
+    }
+
     protected TypeConverter doLookup(Class<?> toType, Class<?> fromType, boolean isSuper) {
 
         if (fromType != null) {
@@ -767,6 +805,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
 
         typeMappings.clear();
+        clearLookupMisses();
         statistics.reset();
     }
 
@@ -802,8 +841,14 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             return failedCounter.longValue();
         }
 
+        @Override
+        public long getFallbackCounter() {
+            return fallbackCounter.longValue();
+        }
+
         @Override
         public void reset() {
+            fallbackCounter.reset();
             noopCounter.reset();
             attemptCounter.reset();
             hitCounter.reset();
@@ -823,8 +868,10 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
         @Override
         public String toString() {
-            return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s]",
-                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter());
+            return String.format(
+                    "TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s, fallbacks=%s]",
+                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(),
+                    getFallbackCounter());
         }
     }
 
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.console;
+
+import java.util.Map;
+
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.annotations.DevConsole;
+import org.apache.camel.util.URISupport;
+
+@DevConsole("exchange-factory")
+public class ExchangeFactoryDevConsole extends AbstractDevConsole {
+
+    public ExchangeFactoryDevConsole() {
+        super("camel", "exchange-factory", "Exchange Factory", "Displays the exchange factory and pooling statistics");
+    }
+
+    @Override
+    protected Object doCall(MediaType mediaType, Map<String, Object> options) {
+        // only text is supported
+        StringBuilder sb = new StringBuilder();
+
+        ExchangeFactoryManager manager = getCamelContext().adapt(ExtendedCamelContext.class).getExchangeFactoryManager();
+        if (manager != null) {
+            sb.append(String.format("Consumers: %s", manager.getConsumerCounter()));
+            sb.append(String.format("\nCapacity: %s", manager.getCapacity()));
+            sb.append(String.format("\nPooled: %s", manager.getPooledCounter()));
+            sb.append(String.format("\nStatistics Enabled: %s", manager.isStatisticsEnabled()));
+            if (manager.isStatisticsEnabled()) {
+                appendStatistics(sb, "", manager.getStatistics());
+            }
+            sb.append("\n");
+
+            for (ExchangeFactory ef : manager.getExchangeFactories()) {
+                String uri = URISupport.sanitizeUri(ef.getConsumer().getEndpoint().getEndpointUri());
+                sb.append(String.format("\n    %s (%s)", ef.getRouteId(), uri));
+                sb.append(String.format("\n        Pooled: %s/%s", ef.getSize(), ef.getCapacity()));
+                if (ef.isStatisticsEnabled()) {
+                    appendStatistics(sb, "        ", ef.getStatistics());
+                }
+                sb.append("\n");
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private static void appendStatistics(StringBuilder sb, String indent, ExchangeFactory.Statistics statistics) {
+        long created = statistics.getCreatedCounter();
+        long acquired = statistics.getAcquiredCounter();
+        long released = statistics.getReleasedCounter();
+        long discarded = statistics.getDiscardedCounter();
+        // exchanges which are in use, or has leaked if the consumer is idle
+        long unreleased = Math.max(0, (created + acquired) - (released + discarded));
+        long total = created + acquired;
+        double hitRatio = total > 0 ? (double) acquired / total : 0;
+        // the sizes are counted when the exchanges are released or discarded
+        long done = released + discarded;
+        double headers = done > 0 ? (double) statistics.getHeadersCounter() / done : 0;
+        double properties = done > 0 ? (double) statistics.getPropertiesCounter() / done : 0;
+
+        sb.append(String.format("\n%sCreated: %s", indent, created));
+        sb.append(String.format("\n%sAcquired: %s", indent, acquired));
+        sb.append(String.format("\n%sReleased: %s", indent, released));
+        sb.append(String.format("\n%sDiscarded: %s", indent, discarded));
+        sb.append(String.format("\n%sUnreleased: %s", indent, unreleased));
+        sb.append(String.format("\n%sHit Ratio: %.2f", indent, hitRatio));
+        sb.append(String.format("\n%sAverage Headers: %.2f", indent, headers));
+        sb.append(String.format("\n%sAverage Properties: %.2f", indent, properties));
+    }
+}
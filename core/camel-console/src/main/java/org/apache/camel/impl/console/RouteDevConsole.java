@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.console;
+
+import java.util.Map;
+
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.api.management.ManagedCamelContext;
+import org.apache.camel.api.management.mbean.ManagedPerformanceCounterMBean;
+import org.apache.camel.api.management.mbean.ManagedProcessorMBean;
+import org.apache.camel.api.management.mbean.ManagedRouteMBean;
+import org.apache.camel.spi.IdAware;
+import org.apache.camel.spi.ManagementAgent;
+import org.apache.camel.spi.annotations.DevConsole;
+
+@DevConsole("route")
+public class RouteDevConsole extends AbstractDevConsole {
+
+    public RouteDevConsole() {
+        super("camel", "route", "Route", "Route and processor statistics");
+    }
+
+    @Override
+    protected Object doCall(MediaType mediaType, Map<String, Object> options) {
+        // only text is supported
+        StringBuilder sb = new StringBuilder();
+
+        ManagedCamelContext mcc = getCamelContext().getExtension(ManagedCamelContext.class);
+        if (mcc != null) {
+            boolean histogram = isHistogramStatisticsEnabled();
+            for (Route route : getCamelContext().getRoutes()) {
+                ManagedRouteMBean mrb = mcc.getManagedRoute(route.getRouteId());
+                if (mrb == null) {
+                    continue;
+                }
+                sb.append(String.format("\n    %s (%s) %s uptime %s", mrb.getRouteId(), mrb.getEndpointUri(), mrb.getState(),
+                        mrb.getUptime()));
+                appendStatistics(sb, "        ", mrb, histogram);
+                sb.append("\n");
+
+                for (Processor processor : route.filter("*")) {
+                    String id = ((IdAware) processor).getId();
+                    ManagedProcessorMBean mpb = mcc.getManagedProcessor(id);
+                    if (mpb != null) {
+                        sb.append(String.format("\n        %s", mpb.getProcessorId()));
+                        appendStatistics(sb, "            ", mpb, histogram);
+                        sb.append("\n");
+                    }
+                }
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private boolean isHistogramStatisticsEnabled() {
+        ManagementAgent agent = getCamelContext().getManagementStrategy().getManagementAgent();
+        return agent != null && agent.getHistogramStatisticsEnabled() != null && agent.getHistogramStatisticsEnabled();
+    }
+
+    private static void appendStatistics(
+            StringBuilder sb, String indent, ManagedPerformanceCounterMBean mb, boolean histogram) {
+        sb.append(String.format("\n%sTotal: %s", indent, mb.getExchangesTotal()));
+        sb.append(String.format("\n%sFailed: %s", indent, mb.getExchangesFailed()));
+        sb.append(String.format("\n%sInflight: %s", indent, mb.getExchangesInflight()));
+        sb.append(String.format("\n%sMean Time: %s", indent, mb.getMeanProcessingTime()));
+        sb.append(String.format("\n%sMax Time: %s", indent, mb.getMaxProcessingTime()));
+        sb.append(String.format("\n%sMin Time: %s", indent, mb.getMinProcessingTime()));
+        if (histogram) {
+            sb.append(String.format("\n%sP50 Time: %s", indent, mb.getP50ProcessingTime()));
+            sb.append(String.format("\n%sP95 Time: %s", indent, mb.getP95ProcessingTime()));
+            sb.append(String.format("\n%sP99 Time: %s", indent, mb.getP99ProcessingTime()));
+            sb.append(String.format("\n%sP99.9 Time: %s", indent, mb.getP999ProcessingTime()));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.console;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.console.DevConsole;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.DefaultEndpoint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ExchangeFactoryDevConsoleTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).getExchangeFactory().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testExchangeFactory() throws Exception {
+        DefaultEndpoint endpoint = new DefaultEndpoint("my:foo", null) {
+            @Override
+            public Producer createProducer() throws Exception {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Consumer createConsumer(Processor processor) throws Exception {
+                return new DefaultConsumer(this, processor);
+            }
+        };
+        endpoint.setCamelContext(context);
+
+        DefaultConsumer consumer = (DefaultConsumer) endpoint.createConsumer(e -> {
+        });
+        consumer.setRouteId("myRoute");
+        consumer.start();
+
+        Exchange exchange = consumer.createExchange(false);
+        exchange.getMessage().setHeader("foo", "bar");
+        exchange.getMessage().setHeader("beer", "Carlsberg");
+        consumer.releaseExchange(exchange, false);
+
+        DevConsole con = context.adapt(ExtendedCamelContext.class).getDevConsoleResolver()
+                .resolveDevConsole("exchange-factory");
+        Assertions.assertNotNull(con);
+        Assertions.assertEquals("camel", con.getGroup());
+        Assertions.assertEquals("exchange-factory", con.getId());
+
+        String out = (String) con.call(DevConsole.MediaType.TEXT);
+        Assertions.assertNotNull(out);
+        log.info(out);
+        Assertions.assertTrue(out.contains("Statistics Enabled: true"));
+        Assertions.assertTrue(out.contains("myRoute (my:foo)"));
+        Assertions.assertTrue(out.contains("Created: 1"));
+        Assertions.assertTrue(out.contains("Released: 1"));
+        Assertions.assertTrue(out.contains("Average Headers: 2"));
+
+        consumer.stop();
+    }
+}
@@ -163,6 +163,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "RouteController": target.setRouteController(property(camelContext, org.apache.camel.spi.RouteController.class, value)); return true;
         case "routefactory":
         case "RouteFactory": target.setRouteFactory(property(camelContext, org.apache.camel.spi.RouteFactory.class, value)); return true;
+        case "routestartuppoolsize":
+        case "RouteStartupPoolSize": target.setRouteStartupPoolSize(property(camelContext, int.class, value)); return true;
         case "routesloader":
         case "RoutesLoader": target.setRoutesLoader(property(camelContext, org.apache.camel.spi.RoutesLoader.class, value)); return true;
         case "runtimecamelcatalog":
@@ -366,6 +368,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "RouteController": return org.apache.camel.spi.RouteController.class;
         case "routefactory":
         case "RouteFactory": return org.apache.camel.spi.RouteFactory.class;
+        case "routestartuppoolsize":
+        case "RouteStartupPoolSize": return int.class;
         case "routesloader":
         case "RoutesLoader": return org.apache.camel.spi.RoutesLoader.class;
         case "runtimecamelcatalog":
@@ -570,6 +574,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "RouteController": return target.getRouteController();
         case "routefactory":
         case "RouteFactory": return target.getRouteFactory();
+        case "routestartuppoolsize":
+        case "RouteStartupPoolSize": return target.getRouteStartupPoolSize();
         case "routesloader":
         case "RoutesLoader": return target.getRoutesLoader();
         case "runtimecamelcatalog":
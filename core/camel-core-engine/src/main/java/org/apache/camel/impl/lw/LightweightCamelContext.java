@@ -1043,6 +1043,16 @@ public class LightweightCamelContext implements ExtendedCamelContext, CatalogCam
         return delegate.getStartupSummaryLevel();
     }
 
+    @Override
+    public void setRouteStartupPoolSize(int routeStartupPoolSize) {
+        delegate.setRouteStartupPoolSize(routeStartupPoolSize);
+    }
+
+    @Override
+    public int getRouteStartupPoolSize() {
+        return delegate.getRouteStartupPoolSize();
+    }
+
     @Override
     public void setStreamCaching(Boolean cache) {
         delegate.setStreamCaching(cache);
@@ -213,6 +213,7 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
     private final String version;
     private Date startDate;
     private StartupSummaryLevel startupSummaryLevel;
+    private final int routeStartupPoolSize;
 
     LightweightRuntimeCamelContext(CamelContext reference, CamelContext context) {
         this.reference = reference;
@@ -266,6 +267,7 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         logExhaustedMessageBody = context.isLogExhaustedMessageBody();
         version = context.getVersion();
         startupSummaryLevel = context.getStartupSummaryLevel();
+        routeStartupPoolSize = context.getRouteStartupPoolSize();
     }
 
     /**
@@ -1377,6 +1379,16 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         return startupSummaryLevel;
     }
 
+    @Override
+    public void setRouteStartupPoolSize(int routeStartupPoolSize) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getRouteStartupPoolSize() {
+        return routeStartupPoolSize;
+    }
+
     @Override
     public Endpoint getPrototypeEndpoint(String uri) {
         throw new UnsupportedOperationException();
@@ -17,6 +17,7 @@
 package org.apache.camel.language.simple;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
@@ -66,8 +67,8 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         if (cacheExpression == null && cachePredicate == null && getCamelContext() != null) {
             int maxSize = CamelContextHelper.getMaximumSimpleCacheSize(getCamelContext());
             if (maxSize > 0) {
-                cacheExpression = LRUCacheFactory.newLRUCache(16, maxSize, false);
-                cachePredicate = LRUCacheFactory.newLRUCache(16, maxSize, false);
+                cacheExpression = newCache(maxSize);
+                cachePredicate = newCache(maxSize);
                 LOG.debug("Simple language predicate/expression cache size: {}", maxSize);
             } else {
                 LOG.debug("Simple language disabled predicate/expression cache");
@@ -75,6 +76,17 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         }
     }
 
+    private static <V> Map<String, V> newCache(int maxSize) {
+        Map<String, V> cache = LRUCacheFactory.newLRUCache(16, maxSize, false);
+        if (cache instanceof LRUCache) {
+            return cache;
+        }
+        // the cache is shared by all routes in the CamelContext, and expressions can be created at runtime
+        // (such as dynamic endpoints) by concurrent threads, so the default LRU cache (which is not thread-safe)
+        // is not used, as it would need a lock for every lookup
+        return new ConcurrentCache<>(maxSize);
+    }
+
     @Override
     public void start() {
         if (getCamelContext() != null) {
@@ -274,4 +286,32 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         return SIMPLE.createPredicate(predicate);
     }
 
+    /**
+     * A thread-safe cache which does not lock on lookup. When the cache is full then an arbitrary entry is evicted
+     * (instead of the least recently used).
+     */
+    private static final class ConcurrentCache<V> extends ConcurrentHashMap<String, V> {
+
+        private final int maxSize;
+
+        ConcurrentCache(int maxSize) {
+            super(16);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public V put(String key, V value) {
+            V answer = super.put(key, value);
+            if (answer == null && size() > maxSize) {
+                for (String k : keySet()) {
+                    if (!k.equals(key)) {
+                        remove(k);
+                        break;
+                    }
+                }
+            }
+            return answer;
+        }
+    }
+
 }
@@ -21,6 +21,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -30,6 +31,7 @@ import org.apache.camel.language.simple.types.BinaryOperatorType;
 import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
 import org.apache.camel.language.simple.types.SimpleParserException;
 import org.apache.camel.language.simple.types.SimpleToken;
+import org.apache.camel.support.ConstantExpressionAdapter;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.builder.ExpressionBuilder;
 import org.apache.camel.support.builder.PredicateBuilder;
@@ -170,6 +172,20 @@ public class BinaryExpression extends BaseSimpleNode {
 
     private Expression createRegexExpression(
             final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
+        String pattern = constantText(camelContext, rightExp);
+        if (pattern != null) {
+            try {
+                // the pattern is constant so we only need to compile it once
+                Predicate predicate = PredicateBuilder.regex(leftExp, pattern);
+                if (operator == BinaryOperatorType.NOT_REGEX) {
+                    predicate = PredicateBuilder.not(predicate);
+                }
+                return createExpression(camelContext, leftExp, rightExp, predicate);
+            } catch (PatternSyntaxException e) {
+                // ignore and let the error happen during evaluation
+            }
+        }
+
         return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
@@ -191,6 +207,22 @@ public class BinaryExpression extends BaseSimpleNode {
 
     private Expression createInExpression(
             final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
+        String text = constantText(camelContext, rightExp);
+        if (text != null) {
+            // the values are constant so we only need to build the list of values once
+            Iterator<?> it = ObjectHelper.createIterator(text);
+            List<Object> values = new ArrayList<>();
+            while (it.hasNext()) {
+                values.add(it.next());
+            }
+            ValueBuilder vb = new ValueBuilder(leftExp);
+            Predicate predicate = vb.in(values.toArray());
+            if (operator == BinaryOperatorType.NOT_IN) {
+                predicate = PredicateBuilder.not(predicate);
+            }
+            return createExpression(camelContext, leftExp, rightExp, predicate);
+        }
+
         return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
@@ -221,6 +253,20 @@ public class BinaryExpression extends BaseSimpleNode {
 
     private Expression createRangeExpression(
             final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
+        String text = constantText(camelContext, rightExp);
+        Matcher constant = text != null ? RANGE_PATTERN.matcher(text) : null;
+        if (constant != null && constant.matches()) {
+            // the range is constant so we only need to build the predicate once
+            Expression from = ExpressionBuilder.constantExpression(constant.group(1));
+            Expression to = ExpressionBuilder.constantExpression(constant.group(3));
+            Predicate predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
+            predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
+            if (operator == BinaryOperatorType.NOT_RANGE) {
+                predicate = PredicateBuilder.not(predicate);
+            }
+            return createExpression(camelContext, leftExp, rightExp, predicate);
+        }
+
         return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
@@ -256,6 +302,21 @@ public class BinaryExpression extends BaseSimpleNode {
         };
     }
 
+    /**
+     * Returns the text of the expression if its a constant (such as a literal on the right hand side), or <tt>null</tt>
+     * if the expression is dynamic and must be evaluated per exchange.
+     */
+    private static String constantText(CamelContext camelContext, Expression exp) {
+        if (camelContext != null && exp instanceof ConstantExpressionAdapter) {
+            exp.init(camelContext);
+            Object value = ((ConstantExpressionAdapter) exp).getValue();
+            if (value != null) {
+                return camelContext.getTypeConverter().convertTo(String.class, value);
+            }
+        }
+        return null;
+    }
+
     private Expression createExpression(
             final CamelContext camelContext, final Expression left, final Expression right, final Predicate predicate) {
         return new Expression() {
@@ -50,6 +50,7 @@ import org.apache.camel.model.errorhandler.ErrorHandlerRefDefinition;
 import org.apache.camel.model.rest.RestConfigurationDefinition;
 import org.apache.camel.model.rest.RestDefinition;
 import org.apache.camel.model.rest.RestsDefinition;
+import org.apache.camel.spi.CamelContextCustomizer;
 import org.apache.camel.spi.OnCamelContextEvent;
 import org.apache.camel.spi.PropertiesComponent;
 import org.apache.camel.spi.Resource;
@@ -75,6 +76,7 @@ public abstract class RouteBuilder extends BuilderSupport implements RoutesBuild
     private final List<RouteBuilderLifecycleStrategy> lifecycleInterceptors = new ArrayList<>();
     private final List<TransformerBuilder> transformerBuilders = new ArrayList<>();
     private final List<ValidatorBuilder> validatorBuilders = new ArrayList<>();
+    private final List<CamelContextCustomizer> camelContextCustomizers = new ArrayList<>();
 
     private RestsDefinition restCollection = new RestsDefinition();
     private RestConfigurationDefinition restConfiguration;
@@ -654,6 +656,22 @@ public abstract class RouteBuilder extends BuilderSupport implements RoutesBuild
         lifecycleInterceptors.remove(interceptor);
     }
 
+    /**
+     * Customizes the {@link CamelContext} with the given {@link CamelContextCustomizer}, such as beans or rest
+     * configuration which are not part of the routes.
+     */
+    public void customizeCamelContext(CamelContextCustomizer customizer) {
+        customizer.configure(getContext());
+        camelContextCustomizers.add(customizer);
+    }
+
+    /**
+     * The {@link CamelContextCustomizer}s which this builder has customized the {@link CamelContext} with.
+     */
+    public List<CamelContextCustomizer> getCamelContextCustomizers() {
+        return camelContextCustomizers;
+    }
+
     // Implementation methods
     // -----------------------------------------------------------------------
     protected void checkInitialized() throws Exception {
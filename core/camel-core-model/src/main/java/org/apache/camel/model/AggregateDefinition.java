@@ -90,6 +90,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String lockStripes;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
     @XmlAttribute
@@ -455,6 +458,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -954,6 +965,36 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Turns on using lock stripes, which allows aggregating different correlation keys in parallel, while messages with
+     * the same correlation key are still aggregated sequentially. The correlation key is hashed to select one of the
+     * lock stripes, and the AggregationStrategy must be thread-safe as it is called concurrently for different
+     * correlation keys. This option cannot be used together with optimistic locking, completionFromBatchConsumer or
+     * completionOnNewCorrelationGroup.
+     *
+     * @param  lockStripes the number of lock stripes, must be greater than 1 to be in use
+     * @return             builder
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
+    /**
+     * Turns on using lock stripes, which allows aggregating different correlation keys in parallel, while messages with
+     * the same correlation key are still aggregated sequentially. The correlation key is hashed to select one of the
+     * lock stripes, and the AggregationStrategy must be thread-safe as it is called concurrently for different
+     * correlation keys. This option cannot be used together with optimistic locking, completionFromBatchConsumer or
+     * completionOnNewCorrelationGroup.
+     *
+     * @param  lockStripes the number of lock stripes, must be greater than 1 to be in use
+     * @return             builder
+     */
+    public AggregateDefinition lockStripes(String lockStripes) {
+        setLockStripes(lockStripes);
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
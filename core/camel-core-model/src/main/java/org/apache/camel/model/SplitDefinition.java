@@ -67,6 +67,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(javaType = "java.lang.Boolean")
     private String streaming;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String parallelWindowSize;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
@@ -318,6 +321,45 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages which can be in-flight at the same time when using parallel processing.
+     * When the limit is reached, then the splitter does not split the next message, until a split message has been
+     * completed and aggregated. This ensures that splitting a large message in streaming mode with parallel processing
+     * uses a bounded amount of memory, as the splitter does not split the message faster than the split messages can be
+     * processed.
+     * <p/>
+     * The split messages are aggregated in the order they are completed when streaming mode is enabled, and in the same
+     * order as the messages was split when streaming is disabled.
+     * <p/>
+     * By default there is no limit.
+     *
+     * @param  parallelWindowSize the maximum number of in-flight split messages
+     * @return                    the builder
+     */
+    public SplitDefinition parallelWindowSize(int parallelWindowSize) {
+        return parallelWindowSize(Integer.toString(parallelWindowSize));
+    }
+
+    /**
+     * Sets the maximum number of split messages which can be in-flight at the same time when using parallel processing.
+     * When the limit is reached, then the splitter does not split the next message, until a split message has been
+     * completed and aggregated. This ensures that splitting a large message in streaming mode with parallel processing
+     * uses a bounded amount of memory, as the splitter does not split the message faster than the split messages can be
+     * processed.
+     * <p/>
+     * The split messages are aggregated in the order they are completed when streaming mode is enabled, and in the same
+     * order as the messages was split when streaming is disabled.
+     * <p/>
+     * By default there is no limit.
+     *
+     * @param  parallelWindowSize the maximum number of in-flight split messages
+     * @return                    the builder
+     */
+    public SplitDefinition parallelWindowSize(String parallelWindowSize) {
+        setParallelWindowSize(parallelWindowSize);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred during processing of an
      * {@link org.apache.camel.Exchange} and the caused exception will be thrown.
@@ -530,6 +572,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = streaming;
     }
 
+    public String getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    public void setParallelWindowSize(String parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
     public String getParallelAggregate() {
         return parallelAggregate;
     }
@@ -60,6 +60,9 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String rejectExecution;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String tokenBucket;
 
     public ThrottleDefinition() {
     }
@@ -251,6 +254,39 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Whether to use a token bucket to throttle, which calculates when the next exchange is allowed to continue,
+     * instead of holding a permit per allowed request in a delay queue. The delayed exchanges are scheduled on the
+     * thread pool when asyncDelayed is enabled, so no thread is blocked while waiting. This uses less memory and is
+     * recommended when throttling by a correlation expression with many correlation keys, as the state of idle keys is
+     * removed.
+     * <p/>
+     * Is by default <tt>false</tt>
+     *
+     * @param  tokenBucket whether to use a token bucket
+     * @return             the builder
+     */
+    public ThrottleDefinition tokenBucket(boolean tokenBucket) {
+        return tokenBucket(Boolean.toString(tokenBucket));
+    }
+
+    /**
+     * Whether to use a token bucket to throttle, which calculates when the next exchange is allowed to continue,
+     * instead of holding a permit per allowed request in a delay queue. The delayed exchanges are scheduled on the
+     * thread pool when asyncDelayed is enabled, so no thread is blocked while waiting. This uses less memory and is
+     * recommended when throttling by a correlation expression with many correlation keys, as the state of idle keys is
+     * removed.
+     * <p/>
+     * Is by default <tt>false</tt>
+     *
+     * @param  tokenBucket whether to use a token bucket
+     * @return             the builder
+     */
+    public ThrottleDefinition tokenBucket(String tokenBucket) {
+        setTokenBucket(tokenBucket);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -329,6 +365,14 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.rejectExecution = rejectExecution;
     }
 
+    public String getTokenBucket() {
+        return tokenBucket;
+    }
+
+    public void setTokenBucket(String tokenBucket) {
+        this.tokenBucket = tokenBucket;
+    }
+
     /**
      * The expression used to calculate the correlation key to use for throttle grouping. The Exchange which has the
      * same correlation key is throttled together.
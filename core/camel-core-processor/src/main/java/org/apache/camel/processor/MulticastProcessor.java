@@ -170,6 +170,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private final long timeout;
     private final ConcurrentMap<Processor, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
+    private int parallelWindowSize;
 
     public MulticastProcessor(CamelContext camelContext, Route route, Collection<Processor> processors) {
         this(camelContext, route, processors, null);
@@ -383,6 +384,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean paused = new AtomicBoolean();
         final Map<String, String> mdc;
 
         private MulticastTask() {
@@ -439,6 +441,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
                         doAggregate(result, exchange, original);
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
+                        } else {
+                            resumeIfPaused();
                         }
                     }
                 } catch (Throwable e) {
@@ -479,6 +483,28 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
         }
 
+        /**
+         * Pauses sending more exchanges if the maximum number of in-flight exchanges has been reached. The task is
+         * scheduled again when an exchange has been aggregated.
+         *
+         * @return <tt>true</tt> if paused, <tt>false</tt> if more exchanges can be sent
+         */
+        protected boolean pauseIfWindowFull() {
+            if (parallelWindowSize <= 0 || nbExchangeSent.get() - nbAggregated.get() < parallelWindowSize) {
+                return false;
+            }
+            paused.set(true);
+            // an exchange may have been aggregated in the meantime, and then we should not pause
+            return nbExchangeSent.get() - nbAggregated.get() >= parallelWindowSize || !paused.compareAndSet(true, false);
+        }
+
+        protected void resumeIfPaused() {
+            if (paused.get() && !done.get() && nbExchangeSent.get() - nbAggregated.get() < parallelWindowSize
+                    && paused.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
         protected void doDone(Exchange exchange, boolean forceExhaust) {
             if (done.compareAndSet(false, true)) {
                 MulticastProcessor.this.doDone(original, exchange, pairs, callback, false, forceExhaust);
@@ -576,7 +602,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     });
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
-                if (hasNext && isParallelProcessing()) {
+                // unless the maximum number of in-flight exchanges has been reached
+                if (hasNext && isParallelProcessing() && !pauseIfWindowFull()) {
                     schedule(this);
                 }
             } catch (Exception e) {
@@ -1248,6 +1275,20 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return shareUnitOfWork;
     }
 
+    public int getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    /**
+     * Sets the maximum number of exchanges which can be in-flight at the same time when using parallel processing. When
+     * the limit is reached then no more exchanges are sent until an exchange has been completed and aggregated.
+     * <p/>
+     * Use zero or a negative value for no limit (default).
+     */
+    public void setParallelWindowSize(int parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
     public ExecutorService getAggregateExecutorService() {
         return aggregateExecutorService;
     }
@@ -24,6 +24,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.AsyncCallback;
@@ -55,6 +56,14 @@ import org.slf4j.LoggerFactory;
  * those permits). Callers trying to acquire a permit from the DelayQueue will block if necessary. The end result is a
  * rolling window of time. Where from the callers point of view in the last timePeriodMillis no more than
  * maxRequestsPerPeriod have been allowed to be acquired.
+ *
+ * Alternatively the throttler can use a token bucket (see {@link #setTokenBucket(boolean)}), which is implemented using
+ * the generic cell rate algorithm. Instead of holding a permit per allowed request, then each correlation key only
+ * keeps the theoretical arrival time of the next exchange, and from this the time an exchange is allowed to continue is
+ * calculated. This allows a burst of up to maxRequestsPerPeriod exchanges, and otherwise spaces the exchanges evenly
+ * within the time period. The delayed exchanges are scheduled on the async executor (when asyncDelayed is enabled) so
+ * no thread is blocked while waiting, and the state of correlation keys which has been idle is removed periodically,
+ * which keeps the memory usage bounded when throttling by many correlation keys.
  */
 public class Throttler extends AsyncProcessorSupport implements Traceable, IdAware, RouteIdAware {
 
@@ -83,8 +92,11 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     private boolean rejectExecution;
     private boolean asyncDelayed;
     private boolean callerRunsWhenRejected = true;
+    private boolean tokenBucket;
     private Expression correlationExpression;
     private Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+    private Map<String, TokenBucketState> buckets = new ConcurrentHashMap<>();
+    private volatile ScheduledFuture<?> cleanBucketsFuture;
 
     public Throttler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression,
                      final long timePeriodMillis,
@@ -126,6 +138,16 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
             if (correlationExpression != null) {
                 key = correlationExpression.evaluate(exchange, String.class);
             }
+            if (tokenBucket) {
+                TokenBucketState bucket = buckets.computeIfAbsent(key, k -> new TokenBucketState());
+                bucket.calculateAndSetMaxRequestsPerPeriod(exchange);
+                if (!acquireTokenBucket(exchange, callback, bucket, state)) {
+                    // the exchange will be continued asynchronously when its allowed
+                    return false;
+                }
+                callback.done(doneSync);
+                return doneSync;
+            }
             ThrottlingState throttlingState = states.computeIfAbsent(key, ThrottlingState::new);
             throttlingState.calculateAndSetMaxRequestsPerPeriod(exchange);
 
@@ -241,15 +263,100 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         }
     }
 
+    /**
+     * Acquires from the token bucket, and if the throttle rate is exceeded then either rejects the exchange, schedules
+     * the exchange to continue on the asyncExecutor when its allowed, or blocks the current thread until then.
+     *
+     * @return <tt>true</tt> to continue the exchange in the current thread, <tt>false</tt> if the exchange is continued
+     *         asynchronously
+     */
+    private boolean acquireTokenBucket(
+            final Exchange exchange, final AsyncCallback callback, TokenBucketState bucket, State state)
+            throws Exception {
+        // when continued asynchronously then the throttle rate may still be zero, so schedule again instead of
+        // blocking the thread of the async executor
+        boolean async = isAsyncDelayed() && !exchange.isTransacted() && state != State.ASYNC_REJECTED;
+        while (true) {
+            long delay = bucket.acquire(!isRejectExecution());
+            if (delay == 0) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                }
+                return true;
+            }
+            if (isRejectExecution()) {
+                throw new ThrottlerRejectedExecutionException(
+                        "Exceeded the max throttle rate of " + bucket.getThrottleRate() + " within " + timePeriodMillis
+                                                              + "ms");
+            }
+
+            if (async) {
+                try {
+                    if (delay < 0) {
+                        // the throttle rate is zero, so try again (and evaluate the rate) in the next period
+                        exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC);
+                        asyncExecutor.schedule(() -> process(exchange, callback), timePeriodMillis, TimeUnit.MILLISECONDS);
+                    } else {
+                        if (LOG.isDebugEnabled()) {
+                            LOG.debug("Throttle rate exceeded but AsyncDelayed enabled, so delaying for {}ms, exchangeId: {}",
+                                    TimeUnit.NANOSECONDS.toMillis(delay), exchange.getExchangeId());
+                        }
+                        asyncExecutor.schedule(() -> callback.done(false), delay, TimeUnit.NANOSECONDS);
+                    }
+                    return false;
+                } catch (final RejectedExecutionException e) {
+                    if (!isCallerRunsWhenRejected()) {
+                        throw e;
+                    }
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}",
+                                exchange.getExchangeId());
+                    }
+                    async = false;
+                }
+            }
+
+            // block waiting
+            if (delay < 0) {
+                TimeUnit.MILLISECONDS.sleep(timePeriodMillis);
+                bucket.calculateAndSetMaxRequestsPerPeriod(exchange);
+            } else {
+                TimeUnit.NANOSECONDS.sleep(delay);
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Throttled for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(delay),
+                            exchange.getExchangeId());
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes the token buckets which has been idle, which is the same as a new bucket as they are full again.
+     */
+    protected void cleanTokenBuckets() {
+        long now = System.nanoTime();
+        long idle = TimeUnit.MILLISECONDS.toNanos(cleanPeriodMillis);
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idle));
+    }
+
     @Override
     protected void doStart() throws Exception {
         if (isAsyncDelayed()) {
             ObjectHelper.notNull(asyncExecutor, "executorService", this);
         }
+        if (tokenBucket && asyncExecutor != null) {
+            cleanBucketsFuture = asyncExecutor.scheduleWithFixedDelay(this::cleanTokenBuckets, cleanPeriodMillis,
+                    cleanPeriodMillis, TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        if (cleanBucketsFuture != null) {
+            cleanBucketsFuture.cancel(false);
+            cleanBucketsFuture = null;
+        }
     }
 
     @Override
@@ -258,6 +365,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
             camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
         }
         states.clear();
+        buckets.clear();
         super.doShutdown();
     }
 
@@ -316,17 +424,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
          * Evaluates the maxRequestsPerPeriodExpression and adjusts the throttle rate up or down.
          */
         public synchronized void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
-            Integer newThrottle = maxRequestsPerPeriodExpression.evaluate(exchange, Integer.class);
-
-            if (newThrottle != null && newThrottle < 0) {
-                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
-            }
-
-            if (newThrottle == null && throttleRate == 0) {
-                throw new RuntimeExchangeException(
-                        "The maxRequestsPerPeriodExpression was evaluated as null: " + maxRequestsPerPeriodExpression,
-                        exchange);
-            }
+            Integer newThrottle = evaluateMaxRequestsPerPeriod(exchange, throttleRate);
 
             if (newThrottle != null) {
                 if (newThrottle != throttleRate) {
@@ -372,6 +470,88 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         }
     }
 
+    /**
+     * Token bucket using the generic cell rate algorithm, which only keeps the theoretical arrival time of the next
+     * exchange.
+     */
+    private class TokenBucketState {
+        // the time (in nanos) the next exchange would arrive if exchanges arrived evenly spaced at the throttle rate
+        private final AtomicLong arrivalTime = new AtomicLong(System.nanoTime());
+        private volatile int throttleRate;
+
+        public int getThrottleRate() {
+            return throttleRate;
+        }
+
+        /**
+         * Acquires from the bucket.
+         *
+         * @param  reserve whether to reserve the next time the exchange is allowed when the throttle rate is exceeded
+         * @return         0 if the exchange is allowed now, the delay in nanos until the exchange is allowed, or -1 if
+         *                 the throttle rate is zero and the exchange is not allowed
+         */
+        public long acquire(boolean reserve) {
+            int rate = throttleRate;
+            if (rate == 0) {
+                return -1;
+            }
+            long period = TimeUnit.MILLISECONDS.toNanos(timePeriodMillis);
+            long interval = period / rate;
+            // allow a burst of up to the throttle rate
+            long tolerance = period - interval;
+            while (true) {
+                long now = System.nanoTime();
+                long current = arrivalTime.get();
+                long next = current - now > 0 ? current : now;
+                long delay = next - tolerance - now;
+                if (delay > 0 && !reserve) {
+                    return delay;
+                }
+                if (arrivalTime.compareAndSet(current, next + interval)) {
+                    return Math.max(0, delay);
+                }
+            }
+        }
+
+        /**
+         * Whether the bucket has been idle for at least the given time
+         */
+        public boolean isIdle(long now, long idle) {
+            return now - arrivalTime.get() > idle;
+        }
+
+        public void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
+            Integer newThrottle = evaluateMaxRequestsPerPeriod(exchange, throttleRate);
+            if (newThrottle != null && newThrottle != throttleRate) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate changed from {} to {}, triggered by ExchangeId: {}", throttleRate,
+                            newThrottle, exchange.getExchangeId());
+                }
+                throttleRate = newThrottle;
+            }
+        }
+    }
+
+    /**
+     * Evaluates the maxRequestsPerPeriodExpression
+     *
+     * @return the new throttle rate, or <tt>null</tt> to keep the current throttle rate
+     */
+    private Integer evaluateMaxRequestsPerPeriod(final Exchange exchange, int throttleRate) throws Exception {
+        Integer newThrottle = maxRequestsPerPeriodExpression.evaluate(exchange, Integer.class);
+
+        if (newThrottle != null && newThrottle < 0) {
+            throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+        }
+
+        if (newThrottle == null && throttleRate == 0) {
+            throw new RuntimeExchangeException(
+                    "The maxRequestsPerPeriodExpression was evaluated as null: " + maxRequestsPerPeriodExpression,
+                    exchange);
+        }
+        return newThrottle;
+    }
+
     /**
      * Permit that implements the Delayed interface needed by DelayQueue.
      */
@@ -413,6 +593,17 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         this.asyncDelayed = asyncDelayed;
     }
 
+    public boolean isTokenBucket() {
+        return tokenBucket;
+    }
+
+    /**
+     * Whether to use a token bucket instead of a delay queue with permits
+     */
+    public void setTokenBucket(boolean tokenBucket) {
+        this.tokenBucket = tokenBucket;
+    }
+
     public boolean isCallerRunsWhenRejected() {
         return callerRunsWhenRejected;
     }
@@ -457,6 +648,9 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
      * than the max per period within the group will return
      */
     public int getCurrentMaximumRequestsPerPeriod() {
+        if (tokenBucket) {
+            return buckets.values().stream().mapToInt(TokenBucketState::getThrottleRate).max().orElse(0);
+        }
         return states.values().stream().mapToInt(ThrottlingState::getThrottleRate).max().orElse(0);
     }
 
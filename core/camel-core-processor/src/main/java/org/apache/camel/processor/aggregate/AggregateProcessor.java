@@ -17,6 +17,7 @@
 package org.apache.camel.processor.aggregate;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,7 +30,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.AsyncCallback;
@@ -64,6 +67,7 @@ import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.support.DefaultTimeoutMap;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.LRUCache;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.NoLock;
@@ -99,7 +103,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
     public static final String COMPLETED_BY_FORCE = "force";
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
+    // the shared lock which is used for tasks that work across all the correlation groups
     private volatile Lock lock;
+    // the striped locks for aggregating correlation groups in parallel (only in use when lock stripes are enabled)
+    private volatile StripedLock[] stripedLocks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -230,6 +237,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -403,13 +411,13 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        lockKey(key);
         try {
             aggregated = doAggregation(key, copy);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            unlockKey(key);
         }
 
         // we are completed so do that work outside the lock
@@ -460,6 +468,40 @@ public class AggregateProcessor extends AsyncProcessorSupport
         return exchange.getIn().getHeader(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS_INCLUSIVE, false, boolean.class);
     }
 
+    /**
+     * Locks the given correlation key for aggregating.
+     * <p/>
+     * When lock stripes are enabled then the lock stripe is selected by hashing the correlation key, which allows
+     * different correlation keys to be aggregated in parallel, while the same correlation key is always aggregated
+     * sequentially. Otherwise the shared aggregation lock is used.
+     *
+     * @param key the correlation key
+     */
+    private void lockKey(String key) {
+        StripedLock[] locks = stripedLocks;
+        if (locks != null) {
+            locks[stripeIndex(key, locks.length)].lock();
+        } else {
+            lock.lock();
+        }
+    }
+
+    private void unlockKey(String key) {
+        StripedLock[] locks = stripedLocks;
+        if (locks != null) {
+            locks[stripeIndex(key, locks.length)].unlock();
+        } else {
+            lock.unlock();
+        }
+    }
+
+    private static int stripeIndex(String key, int stripes) {
+        // spread the hash code as correlation keys are often similar strings
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return (hash & Integer.MAX_VALUE) % stripes;
+    }
+
     /**
      * Aggregates the exchange with the given correlation key
      * <p/>
@@ -575,6 +617,13 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
+            if (stripedLocks != null) {
+                // other correlation groups may be aggregated in parallel, so we cannot get exclusive access to
+                // complete all the groups before the current group is updated
+                throw new CamelExchangeException(
+                        "Forcing completion of all groups from the AggregationStrategy is not supported when using lockStripes",
+                        newExchange);
+            }
             forceCompletionOfAllGroups();
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
@@ -1096,6 +1145,27 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Sets the number of lock stripes to use, which allows aggregating different correlation keys in parallel while
+     * exchanges with the same correlation key are still aggregated sequentially. The correlation key is hashed to
+     * select one of the lock stripes. Background tasks such as completion timeout, completion interval, recovery and
+     * force completion acquire exclusive access across all the stripes.
+     * <p/>
+     * The {@link AggregationStrategy} is called concurrently for different correlation keys, and must be thread-safe.
+     * The aggregation repository must also support being accessed concurrently for different correlation keys.
+     * <p/>
+     * Is by default 0 which means a single shared lock is used. This option cannot be used together with optimistic
+     * locking, completionFromBatchConsumer or completionOnNewCorrelationGroup, and the AggregationStrategy cannot force
+     * completion of all groups by setting the {@link Exchange#AGGREGATION_COMPLETE_ALL_GROUPS} property.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1248,6 +1318,38 @@ public class AggregateProcessor extends AsyncProcessorSupport
         }
     }
 
+    /**
+     * A lock for a lock stripe, which acquires the shared read lock before the lock stripe itself, so tasks that work
+     * across all the correlation groups can get exclusive access by using the write lock.
+     */
+    private static final class StripedLock {
+        private final Lock sharedLock;
+        private final Lock stripeLock;
+
+        private StripedLock(Lock sharedLock, Lock stripeLock) {
+            this.sharedLock = sharedLock;
+            this.stripeLock = stripeLock;
+        }
+
+        void lock() {
+            sharedLock.lock();
+            try {
+                stripeLock.lock();
+            } catch (RuntimeException e) {
+                sharedLock.unlock();
+                throw e;
+            }
+        }
+
+        void unlock() {
+            try {
+                stripeLock.unlock();
+            } finally {
+                sharedLock.unlock();
+            }
+        }
+    }
+
     /**
      * Background task that looks for aggregated exchanges which is triggered by completion timeouts.
      */
@@ -1255,7 +1357,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (however when using lock stripes the timeout map is updated concurrently and must use its own locking)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || lockStripes > 1);
             addListener(this::onEviction);
         }
 
@@ -1523,6 +1626,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 LOG.info("Using ClosedCorrelationKeys with a LRUCache with a capacity of {}",
                         getCloseCorrelationKeyOnCompletion());
                 closedCorrelationKeys = LRUCacheFactory.newLRUCache(getCloseCorrelationKeyOnCompletion());
+                if (lockStripes > 1 && !(closedCorrelationKeys instanceof LRUCache)) {
+                    // the groups are aggregated in parallel, so the cache must be thread-safe
+                    closedCorrelationKeys = Collections.synchronizedMap(closedCorrelationKeys);
+                }
             } else {
                 LOG.info("Using ClosedCorrelationKeys with unbounded capacity");
                 closedCorrelationKeys = new ConcurrentHashMap<>();
@@ -1542,6 +1649,20 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (lockStripes > 1) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Only one of lockStripes or optimisticLocking can be used, not both.");
+            }
+            if (isCompletionFromBatchConsumer()) {
+                throw new IllegalArgumentException(
+                        "Only one of lockStripes or completionFromBatchConsumer can be used, not both.");
+            }
+            if (isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException(
+                        "Only one of lockStripes or completionOnNewCorrelationGroup can be used, not both.");
+            }
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1625,6 +1746,17 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (lockStripes > 1) {
+            // aggregating is done holding the read lock together with the lock stripe for the correlation key,
+            // and tasks that work across all the correlation groups use the write lock to get exclusive access
+            ReadWriteLock rwLock = new ReentrantReadWriteLock();
+            StripedLock[] locks = new StripedLock[lockStripes];
+            for (int i = 0; i < lockStripes; i++) {
+                locks[i] = new StripedLock(rwLock.readLock(), new ReentrantLock());
+            }
+            lock = rwLock.writeLock();
+            stripedLocks = locks;
+            LOG.info("Using {} lock stripes to aggregate correlation groups in parallel", lockStripes);
         } else {
             lock = new ReentrantLock();
         }
@@ -1734,10 +1866,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
     }
 
     public int forceCompletionOfGroup(String key) {
-        // must acquire the shared aggregation lock to be able to trigger force completion
+        // must acquire the aggregation lock for the key to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        lockKey(key);
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1751,7 +1883,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            unlockKey(key);
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1807,10 +1939,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
     }
 
     public int forceDiscardingOfGroup(String key) {
-        // must acquire the shared aggregation lock to be able to trigger force completion
+        // must acquire the aggregation lock for the key to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        lockKey(key);
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1820,7 +1952,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            unlockKey(key);
         }
         LOG.trace("Completed force discarded of group {}", key);
 
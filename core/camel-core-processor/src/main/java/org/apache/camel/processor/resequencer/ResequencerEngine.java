@@ -17,6 +17,8 @@
 package org.apache.camel.processor.resequencer;
 
 import java.util.Timer;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.camel.util.concurrent.ThreadHelper;
 
@@ -44,6 +46,11 @@ import org.apache.camel.util.concurrent.ThreadHelper;
  * adjusted accordingly. If the last-delivered element is <code>null</code> i.e. the resequencer was newly created the
  * first arriving element needs <code>timeout</code> milliseconds in any case for becoming <i>ready-for-delivery</i>.
  * <p>
+ * This resequencer is thread-safe. Elements can be inserted by many threads concurrently, and only take a short lock on
+ * the sequence. The delivery of elements are serialized by a separate lock, and elements are sent to the
+ * {@link SequenceSender} without holding the lock on the sequence, so inserting elements is not blocked while elements
+ * are being delivered.
+ * <p>
  */
 public class ResequencerEngine<E> {
 
@@ -67,6 +74,11 @@ public class ResequencerEngine<E> {
      */
     private Timer timer;
 
+    /**
+     * A lock to ensure elements are delivered one at a time, and in order.
+     */
+    private final Lock deliveryLock = new ReentrantLock();
+
     /**
      * A strategy for sending sequence elements.
      */
@@ -159,7 +171,7 @@ public class ResequencerEngine<E> {
      *
      * @return the last delivered element or <code>null</code> if no delivery has been made yet.
      */
-    E getLastDelivered() {
+    synchronized E getLastDelivered() {
         if (lastDelivered == null) {
             return null;
         }
@@ -171,7 +183,7 @@ public class ResequencerEngine<E> {
      *
      * @param o an element.
      */
-    void setLastDelivered(E o) {
+    synchronized void setLastDelivered(E o) {
         lastDelivered = new Element<>(o);
     }
 
@@ -227,9 +239,14 @@ public class ResequencerEngine<E> {
      *
      * @see              ResequencerEngine#deliverNext()
      */
-    public synchronized void deliver() throws Exception {
-        while (deliverNext()) {
-            // do nothing here
+    public void deliver() throws Exception {
+        deliveryLock.lock();
+        try {
+            while (deliverNext()) {
+                // do nothing here
+            }
+        } finally {
+            deliveryLock.unlock();
         }
     }
 
@@ -244,28 +261,47 @@ public class ResequencerEngine<E> {
      *
      */
     public boolean deliverNext() throws Exception {
+        deliveryLock.lock();
+        try {
+            Element<E> element = nextDeliverable();
+            if (element == null) {
+                return false;
+            }
+
+            // deliver the sequence element (outside the lock on the sequence so elements can be inserted meanwhile)
+            sequenceSender.sendElement(element.getObject());
+
+            // element has been delivered
+            return true;
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element with the lowest sequence value if its ready for delivery, and marks it as the last delivered
+     * element.
+     *
+     * @return the element to deliver, or <code>null</code> if no element is ready for delivery.
+     */
+    private synchronized Element<E> nextDeliverable() {
         if (sequence.isEmpty()) {
-            return false;
+            return null;
         }
         // inspect element with the lowest sequence value
         Element<E> element = sequence.first();
 
         // if element is scheduled do not deliver and return
         if (element.scheduled()) {
-            return false;
+            return null;
         }
 
         // remove deliverable element from sequence
-        sequence.remove(element);
+        sequence.pollFirst();
 
         // set the delivered element to last delivered element
         lastDelivered = element;
-
-        // deliver the sequence element
-        sequenceSender.sendElement(element.getObject());
-
-        // element has been delivered
-        return true;
+        return element;
     }
 
     /**
@@ -75,6 +75,10 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     threadPool, shutdownThreadPool, isStreaming, isStopOnException, timeout, prepare,
                     isShareUnitOfWork, isParallelAggregate);
         }
+        Integer parallelWindowSize = parseInt(definition.getParallelWindowSize());
+        if (parallelWindowSize != null) {
+            answer.setParallelWindowSize(parallelWindowSize);
+        }
 
         return answer;
     }
@@ -56,6 +56,7 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
                 camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
 
         answer.setAsyncDelayed(async);
+        answer.setTokenBucket(parseBoolean(definition.getTokenBucket(), false));
         // should be true by default
         answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
 
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit test for using the watch service to only scan the changed directories
+ */
+public class FileConsumerWatchServiceTest extends ContextTestSupport {
+
+    private final AtomicBoolean accept = new AtomicBoolean();
+    private final AtomicInteger scans = new AtomicInteger();
+
+    @Test
+    public void testWatchService() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("a", "b");
+
+        template.sendBodyAndHeader(fileUri(), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("foo"), "b", Exchange.FILE_NAME, "b.txt");
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        // files in existing and new sub directories are picked up
+        mock.reset();
+        mock.expectedBodiesReceivedInAnyOrder("c", "d", "e");
+
+        template.sendBodyAndHeader(fileUri("foo"), "c", Exchange.FILE_NAME, "c.txt");
+        template.sendBodyAndHeader(fileUri("bar/baz"), "d", Exchange.FILE_NAME, "d.txt");
+        template.sendBodyAndHeader(fileUri(), "e", Exchange.FILE_NAME, "e.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testWatchServiceFullScanInterval() throws Exception {
+        // the file is rejected on the first scan, and as the directory does not change it is only picked up by a full
+        // scan after the interval
+        template.sendBodyAndHeader(fileUri("rescan"), "f", Exchange.FILE_NAME, "f.txt");
+
+        context.getRouteController().startRoute("rescan");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> scans.get() > 0);
+
+        MockEndpoint mock = getMockEndpoint("mock:rescan");
+        mock.expectedBodiesReceived("f");
+
+        accept.set(true);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("acceptFilter", (GenericFileFilter<File>) (file, directory) -> {
+            scans.incrementAndGet();
+            return accept.get();
+        });
+        return jndi;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("?initialDelay=0&delay=10&recursive=true&useWatchService=true"))
+                        .routeId("foo").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("rescan?initialDelay=0&delay=10&useWatchService=true&watchServiceFullScanInterval=500"
+                             + "&filter=#acceptFilter"))
+                                     .routeId("rescan").noAutoStartup()
+                                     .convertBodyTo(String.class).to("mock:rescan");
+            }
+        };
+    }
+}
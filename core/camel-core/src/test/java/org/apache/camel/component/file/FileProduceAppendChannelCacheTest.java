@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for keeping the files open between exchanges when appending
+ */
+public class FileProduceAppendChannelCacheTest extends ContextTestSupport {
+
+    @Test
+    public void testAppendChannelCache() throws Exception {
+        String uri = fileUri("?fileExist=Append&appendChars=\\n&appendChannelCacheSize=1");
+        template.sendBodyAndHeader(uri, "Hello", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(uri, ByteBuffer.wrap("World".getBytes()), Exchange.FILE_NAME, "hello.txt");
+        // the data is written to the file without closing it
+        assertFileExists(testFile("hello.txt"), "Hello\nWorld\n");
+
+        // the open file is closed when another file is written as the cache only holds one file
+        template.sendBodyAndHeader(uri, "Bye", Exchange.FILE_NAME, "bye.txt");
+        template.sendBodyAndHeader(uri, "How are you?", Exchange.FILE_NAME, "hello.txt");
+        assertFileExists(testFile("hello.txt"), "Hello\nWorld\nHow are you?\n");
+        assertFileExists(testFile("bye.txt"), "Bye\n");
+
+        // the file is opened again if it has been deleted
+        Files.delete(testFile("hello.txt"));
+        template.sendBodyAndHeader(uri, "Again", Exchange.FILE_NAME, "hello.txt");
+        assertFileExists(testFile("hello.txt"), "Again\n");
+
+        // the files are closed when stopping
+        context.stop();
+        assertFileExists(testFile("hello.txt"), "Again\n");
+    }
+
+    @Test
+    public void testIllegalConfiguration() throws Exception {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> context.getEndpoint(fileUri("?appendChannelCacheSize=10")).createProducer());
+        assertEquals("You must configure fileExist=Append when appendChannelCacheSize has been set", e.getMessage());
+    }
+}
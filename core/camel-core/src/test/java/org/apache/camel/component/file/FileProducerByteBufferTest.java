@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit test for writing NIO buffer and channel bodies directly to the file channel
+ */
+public class FileProducerByteBufferTest extends ContextTestSupport {
+
+    @Test
+    public void testByteBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap("Hello World".getBytes(StandardCharsets.UTF_8));
+        template.sendBodyAndHeader(fileUri(), buffer, Exchange.FILE_NAME, "hello.txt");
+
+        assertFileExists(testFile("hello.txt"), "Hello World");
+        // the body is not consumed by writing it
+        assertEquals(11, buffer.remaining());
+    }
+
+    @Test
+    public void testDirectByteBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        buffer.put("Hello World".getBytes(StandardCharsets.UTF_8)).flip();
+        template.sendBodyAndHeader(fileUri(), buffer, Exchange.FILE_NAME, "hello.txt");
+
+        assertFileExists(testFile("hello.txt"), "Hello World");
+    }
+
+    @Test
+    public void testByteBufferList() throws Exception {
+        template.sendBodyAndHeader(fileUri(),
+                Arrays.asList(ByteBuffer.wrap("Hello ".getBytes()), ByteBuffer.allocate(0),
+                        ByteBuffer.wrap("World".getBytes())),
+                Exchange.FILE_NAME, "hello.txt");
+
+        assertFileExists(testFile("hello.txt"), "Hello World");
+    }
+
+    @Test
+    public void testReadableByteChannel() throws Exception {
+        template.sendBodyAndHeader(fileUri(),
+                Channels.newChannel(new ByteArrayInputStream("Hello World".getBytes())),
+                Exchange.FILE_NAME, "hello.txt");
+
+        assertFileExists(testFile("hello.txt"), "Hello World");
+    }
+
+    @Test
+    public void testAppendByteBuffersAndChannels() throws Exception {
+        template.sendBodyAndHeader(fileUri(), "Row 1\n", Exchange.FILE_NAME, "row.txt");
+
+        String uri = fileUri("?fileExist=Append&appendChars=\\n");
+        template.sendBodyAndHeader(uri, "Hello", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(uri, ByteBuffer.wrap("World".getBytes()), Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(uri, Arrays.asList(ByteBuffer.wrap("A".getBytes()), ByteBuffer.wrap("B".getBytes())),
+                Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(uri, Channels.newChannel(new ByteArrayInputStream("C".getBytes())),
+                Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(uri, new FileInputStream(testFile("row.txt").toFile()), Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(uri, testFile("row.txt").toFile(), Exchange.FILE_NAME, "hello.txt");
+
+        assertFileExists(testFile("hello.txt"), "Hello\nWorld\nAB\nC\nRow 1\n\nRow 1\n\n");
+    }
+}
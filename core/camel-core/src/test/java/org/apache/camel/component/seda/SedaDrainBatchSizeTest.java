@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaDrainBatchSizeTest extends ContextTestSupport {
+
+    private final List<Exchange> failed = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testDrainBatchSize() throws Exception {
+        SedaEndpoint seda = context.getEndpoint("seda:foo?drainBatchSize=10", SedaEndpoint.class);
+        assertEquals(10, seda.getDrainBatchSize());
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("seda:foo", "" + i);
+            if (i != 5) {
+                expected.add("" + i);
+            }
+        }
+        assertEquals(100, seda.getCurrentQueueSize());
+
+        // the failed exchange must not affect the other exchanges drained together with it
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(expected);
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, seda.getCurrentQueueSize());
+    }
+
+    @Test
+    public void testDrainBatchSizeErrorFailsRemainingExchanges() throws Exception {
+        SedaEndpoint seda = context.getEndpoint("seda:bar", SedaEndpoint.class);
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("seda:bar", "" + i);
+        }
+
+        // the error escapes while processing exchange 5, so the rest of its batch (6 to 9) is failed
+        MockEndpoint mock = getMockEndpoint("mock:bar");
+        mock.expectedBodiesReceived("0", "1", "2", "3", "4", "10", "11", "12", "13", "14", "15", "16", "17", "18", "19");
+
+        context.getRouteController().startRoute("bar");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, seda.getCurrentQueueSize());
+
+        await().until(() -> failed.size() == 5);
+        assertEquals("5", failed.get(0).getMessage().getBody(String.class));
+        for (int i = 1; i < 5; i++) {
+            Exchange exchange = failed.get(i);
+            assertEquals("" + (i + 5), exchange.getMessage().getBody(String.class));
+            assertTrue(exchange.getException() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("errorHandler", new ExceptionHandler() {
+            @Override
+            public void handleException(Throwable exception) {
+            }
+
+            @Override
+            public void handleException(String message, Throwable exception) {
+            }
+
+            @Override
+            public void handleException(String message, Exchange exchange, Throwable exception) {
+                if ("Forced".equals(exception.getMessage())) {
+                    // an error escapes the consumer while processing the exchange
+                    throw new AssertionError("Forced error");
+                }
+                failed.add(exchange);
+            }
+        });
+        return jndi;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?drainBatchSize=10").routeId("foo").autoStartup(false)
+                        .process(e -> {
+                            if ("5".equals(e.getMessage().getBody(String.class))) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        })
+                        .to("mock:result");
+
+                from("seda:bar?drainBatchSize=10&exceptionHandler=#errorHandler").routeId("bar").autoStartup(false)
+                        .process(e -> {
+                            if ("5".equals(e.getMessage().getBody(String.class))) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        })
+                        .to("mock:bar");
+            }
+        };
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedOutputStreamDirectMemoryTest extends ContextTestSupport {
+
+    private Exchange exchange;
+    private byte[] data;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory(true).toFile());
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setSpoolDirectMemory(true);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.adapt(ExtendedExchange.class).setUnitOfWork(uow);
+
+        // spans several of the pooled buffers
+        data = new byte[200 * 1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testCacheStreamToDirectMemory() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data, 0, 10);
+        cos.write(data, 10, data.length - 10);
+
+        File file = testDirectory().toFile();
+        assertEquals(0, file.list().length, "we should not have a temp file");
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof DirectBufferInputStreamCache, "Should get the DirectBufferInputStreamCache");
+        assertEquals(data.length, cache.length());
+        assertArrayEquals(data, ((InputStream) cache).readAllBytes());
+
+        // the copy shares the buffers but reads on its own
+        StreamCache copy = cache.copy(exchange);
+        assertArrayEquals(data, ((InputStream) copy).readAllBytes());
+
+        cache.reset();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertArrayEquals(data, bos.toByteArray());
+
+        exchange.getUnitOfWork().done(exchange);
+
+        // the buffers have been released back to the pool
+        cache.reset();
+        assertThrows(IOException.class, () -> ((InputStream) cache).read());
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamFallbackToFile() throws Exception {
+        // only room for one of the pooled buffers
+        context.getStreamCachingStrategy().setSpoolDirectMemoryMaxSize(64 * 1024);
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data);
+
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertEquals(1, files.length, "we should have a temp file");
+        assertTrue(files[0].startsWith("cos"), "The file name should start with cos");
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof FileInputStreamCache, "Should get the FileInputStreamCache");
+        assertArrayEquals(data, ((InputStream) cache).readAllBytes());
+        ((InputStream) cache).close();
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, file.list().length, "we should not have a temp file");
+        IOHelper.close(cos);
+    }
+
+}
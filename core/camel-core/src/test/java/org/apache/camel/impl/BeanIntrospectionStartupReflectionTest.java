@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.impl.engine.DefaultBeanIntrospection;
+import org.apache.camel.support.PropertyBindingSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanIntrospectionStartupReflectionTest {
+
+    @Test
+    public void testStartupReflection() throws Exception {
+        CamelContext context = new DefaultCamelContext();
+        context.adapt(ExtendedCamelContext.class).getStartupStepRecorder().setEnabled(true);
+        context.init();
+
+        MyFoo foo = new MyFoo();
+        PropertyBindingSupport.build().bind(context, foo, "name", "Donald");
+        assertEquals("Donald", foo.getName());
+
+        context.start();
+
+        DefaultBeanIntrospection bi
+                = (DefaultBeanIntrospection) context.adapt(ExtendedCamelContext.class).getBeanIntrospection();
+        Map<String, Set<String>> reflection = bi.getStartupReflection();
+        assertTrue(reflection.containsKey(MyFoo.class.getName()));
+        assertTrue(reflection.get(MyFoo.class.getName()).contains("name"));
+
+        // after startup then reflection is no longer recorded
+        MyBar bar = new MyBar();
+        PropertyBindingSupport.build().bind(context, bar, "age", "33");
+        assertEquals(33, bar.getAge());
+        assertFalse(bi.getStartupReflection().containsKey(MyBar.class.getName()));
+
+        context.stop();
+    }
+
+    public static class MyFoo {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class MyBar {
+        private int age;
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+}
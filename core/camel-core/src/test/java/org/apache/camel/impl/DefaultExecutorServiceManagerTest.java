@@ -523,6 +523,36 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         assertTrue(thread.getName().contains("Cool"));
     }
 
+    @Test
+    public void testNewThreadPoolVirtualThreads() throws Exception {
+        ThreadPoolProfile foo = new ThreadPoolProfile("foo");
+        foo.setPoolSize(2);
+        foo.setMaxPoolSize(2);
+        foo.setVirtualThreads(true);
+        context.getExecutorServiceManager().registerThreadPoolProfile(foo);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", "foo");
+        assertNotNull(pool);
+
+        // still a regular thread pool so the statistics are available
+        ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+        assertEquals(2, tp.getCorePoolSize());
+
+        final Thread[] threads = new Thread[1];
+        final CountDownLatch latch = new CountDownLatch(1);
+        pool.execute(() -> {
+            threads[0] = Thread.currentThread();
+            latch.countDown();
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        // virtual threads are only supported on newer JDKs, otherwise platform threads are used
+        assertTrue(threads[0].isDaemon());
+        assertTrue(threads[0].getName().contains("Cool"));
+
+        context.getExecutorServiceManager().shutdown(pool);
+    }
+
     @Disabled("This is a manual test, by looking at the logs")
     public void xxxtestLongShutdownOfThreadPool() throws Exception {
         final CountDownLatch latch = new CountDownLatch(1);
@@ -18,12 +18,14 @@ package org.apache.camel.impl;
 
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.impl.engine.DefaultInflightRepository;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.support.DefaultExchange;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class DefaultInflightRepositoryTest extends ContextTestSupport {
 
@@ -47,4 +49,56 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    @Test
+    public void testOldest() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+        repo.setInflightBrowseEnabled(true);
+        repo.addRoute("foo");
+        repo.addRoute("bar");
+
+        assertNull(repo.oldest(null));
+
+        Exchange e1 = createExchange("foo");
+        repo.add(e1);
+        repo.add(e1, "foo");
+        Thread.sleep(5);
+        Exchange e2 = createExchange("bar");
+        repo.add(e2);
+        repo.add(e2, "bar");
+        Thread.sleep(5);
+        Exchange e3 = createExchange("foo");
+        repo.add(e3);
+        repo.add(e3, "foo");
+
+        assertEquals(3, repo.size());
+        assertEquals(2, repo.size("foo"));
+        assertEquals(1, repo.size("bar"));
+        assertEquals(3, repo.browse().size());
+        assertEquals(2, repo.browse("foo").size());
+
+        assertEquals(e1, repo.oldest(null).getExchange());
+        assertEquals(e1, repo.oldest("foo").getExchange());
+        assertEquals(e2, repo.oldest("bar").getExchange());
+
+        repo.remove(e1, "foo");
+        repo.remove(e1);
+        assertEquals(e2, repo.oldest(null).getExchange());
+        assertEquals(e3, repo.oldest("foo").getExchange());
+        assertEquals(1, repo.size("foo"));
+
+        repo.remove(e2, "bar");
+        repo.remove(e2);
+        repo.remove(e3, "foo");
+        repo.remove(e3);
+        assertEquals(0, repo.size());
+        assertNull(repo.oldest(null));
+        assertNull(repo.oldest("bar"));
+    }
+
+    private Exchange createExchange(String fromRouteId) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.adapt(ExtendedExchange.class).setFromRouteId(fromRouteId);
+        return exchange;
+    }
 }
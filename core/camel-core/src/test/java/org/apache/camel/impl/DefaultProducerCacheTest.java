@@ -154,6 +154,80 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         cache.stop();
     }
 
+    @Test
+    public void testCacheStatistics() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 3);
+        cache.start();
+
+        for (int i = 1; i <= 4; i++) {
+            Endpoint e = newEndpoint(true, i);
+            e.setCamelContext(context);
+            AsyncProducer p = cache.acquireProducer(e);
+            cache.releaseProducer(e, p);
+        }
+        assertEquals(0, cache.getHits());
+        assertEquals(4, cache.getMisses());
+
+        Endpoint e = newEndpoint(true, 4);
+        AsyncProducer p = cache.acquireProducer(e);
+        cache.releaseProducer(e, p);
+        assertEquals(1, cache.getHits());
+        assertEquals(4, cache.getMisses());
+
+        await().atMost(3, TimeUnit.SECONDS).untilAsserted(() -> {
+            // the eviction is async so force cleanup
+            cache.cleanUp();
+            assertEquals(1, cache.getEvicted());
+        });
+
+        cache.resetCacheStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getEvicted());
+
+        cache.stop();
+    }
+
+    @Test
+    public void testCacheEvictLeastRecentlyUsed() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 3);
+        cache.start();
+
+        for (int i = 1; i <= 3; i++) {
+            Endpoint e = newEndpoint(true, i);
+            e.setCamelContext(context);
+            AsyncProducer p = cache.acquireProducer(e);
+            cache.releaseProducer(e, p);
+        }
+
+        // reuse the first producer so it is the most recently used
+        Endpoint e = newEndpoint(true, 1);
+        AsyncProducer p = cache.acquireProducer(e);
+        cache.releaseProducer(e, p);
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+
+        // which should evict the second producer and not the first
+        e = newEndpoint(true, 4);
+        e.setCamelContext(context);
+        p = cache.acquireProducer(e);
+        cache.releaseProducer(e, p);
+
+        await().atMost(3, TimeUnit.SECONDS).untilAsserted(() -> {
+            // the eviction is async so force cleanup
+            cache.cleanUp();
+            assertEquals(1, cache.getEvicted());
+        });
+
+        e = newEndpoint(true, 1);
+        p = cache.acquireProducer(e);
+        cache.releaseProducer(e, p);
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+
+        cache.stop();
+    }
+
     @Test
     public void testCacheEvictWhileInUse() throws Exception {
         producerCounter.set(0);
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.OpenAddressingHeadersMapFactory;
+import org.junit.jupiter.api.Test;
+
+public class OpenAddressingHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setHeadersMapFactory(new OpenAddressingHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testMulticastHeaders() throws Exception {
+        getMockEndpoint("mock:a").expectedHeaderReceived("foo", "a");
+        getMockEndpoint("mock:a").expectedHeaderReceived("bar", 123);
+        getMockEndpoint("mock:b").expectedHeaderReceived("foo", "b");
+        getMockEndpoint("mock:b").expectedHeaderReceived("bar", 123);
+        getMockEndpoint("mock:result").expectedHeaderReceived("foo", "original");
+        getMockEndpoint("mock:result").expectedHeaderReceived("bar", 123);
+
+        template.sendBodyAndHeader("direct:start", "Hello World", "Foo", "original");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").setHeader("BAR", constant(123))
+                        .multicast(AggregationStrategies.useOriginal())
+                            .to("direct:a", "direct:b")
+                        .end()
+                        .to("mock:result");
+
+                from("direct:a").setHeader("FOO", constant("a")).to("mock:a");
+                from("direct:b").setHeader("foo", constant("b")).to("mock:b");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.OpenAddressingHeadersMapFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OpenAddressingHeadersMapFactoryTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new OpenAddressingHeadersMapFactory().newMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+
+        map.put(Exchange.FILE_NAME, "hello.txt");
+        assertEquals("hello.txt", map.get(Exchange.FILE_NAME));
+        assertEquals("hello.txt", map.get("camelfilename"));
+
+        // the original key case is preserved
+        map.put("FOO", "beer");
+        assertEquals(2, map.size());
+        assertEquals("beer", map.get("foo"));
+        assertTrue(map.containsKey("foo"));
+        assertFalse(map.containsKey("FOO2"));
+    }
+
+    @Test
+    public void testConstructFromOther() {
+        Map<String, Object> other = new HashMap<>();
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        Map<String, Object> map = new OpenAddressingHeadersMapFactory().newMap(other);
+
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+
+        assertEquals(123, map.get("BAR"));
+        assertEquals(123, map.get("bar"));
+        assertEquals(123, map.get("BaR"));
+    }
+
+    @Test
+    public void testManyHeaders() {
+        Map<String, Object> map = new OpenAddressingHeadersMapFactory().newMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put("Header" + i, i);
+        }
+        assertEquals(1000, map.size());
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(i, map.remove("HEADER" + i));
+        }
+        assertEquals(500, map.size());
+        for (int i = 0; i < 1000; i++) {
+            if (i % 2 == 0) {
+                assertNull(map.get("header" + i));
+            } else {
+                assertEquals(i, map.get("header" + i));
+            }
+        }
+
+        // iterates in insertion order
+        Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+        assertEquals("Header1", it.next().getKey());
+        it.remove();
+        assertEquals("Header3", it.next().getKey());
+        assertEquals(499, map.size());
+        assertFalse(map.containsKey("Header1"));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        OpenAddressingHeadersMapFactory factory = new OpenAddressingHeadersMapFactory();
+        Map<String, Object> map = factory.newMap();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+
+        Map<String, Object> copy = factory.newMap(map);
+        assertTrue(factory.isInstanceOf(copy));
+        assertEquals(map, copy);
+
+        copy.put("FOO", "beer");
+        copy.remove("bar");
+        map.put("baz", true);
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals(123, map.get("bar"));
+        assertEquals(3, map.size());
+        assertEquals("beer", copy.get("foo"));
+        assertNull(copy.get("bar"));
+        assertNull(copy.get("baz"));
+        assertEquals(1, copy.size());
+
+        Map<String, Object> copy2 = factory.newMap(map);
+        copy2.entrySet().iterator().next().setValue("wine");
+        assertEquals("wine", copy2.get("foo"));
+        assertEquals("cheese", map.get("foo"));
+
+        Map<String, Object> copy3 = factory.newMap(map);
+        copy3.clear();
+        assertTrue(copy3.isEmpty());
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    public void testIsInstance() {
+        Map<String, Object> map = new OpenAddressingHeadersMapFactory().newMap();
+
+        Map<String, Object> other = new OpenAddressingHeadersMapFactory().newMap(map);
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        assertTrue(new OpenAddressingHeadersMapFactory().isInstanceOf(map));
+        assertTrue(new OpenAddressingHeadersMapFactory().isInstanceOf(other));
+        assertFalse(new OpenAddressingHeadersMapFactory().isInstanceOf(new HashMap<>()));
+    }
+
+    @Test
+    public void testNullKey() {
+        Map<String, Object> map = new OpenAddressingHeadersMapFactory().newMap();
+        assertThrows(NullPointerException.class, () -> map.put(null, "cheese"));
+        assertNull(map.get(null));
+    }
+}
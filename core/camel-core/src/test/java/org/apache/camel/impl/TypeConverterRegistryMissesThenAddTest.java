@@ -16,7 +16,11 @@
  */
 package org.apache.camel.impl;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.converter.CoreTypeConverterRegistry;
 import org.apache.camel.support.TypeConverterSupport;
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +44,49 @@ public class TypeConverterRegistryMissesThenAddTest {
         assertEquals(123, order.getId());
     }
 
+    @Test
+    public void testLookupMissThenAddTypeConverterForInterface() {
+        DefaultCamelContext context = new DefaultCamelContext();
+
+        // there is no type converter, so the fallback converters is used (and also a miss)
+        MyOrder order = context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNull(order);
+        order = context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNull(order);
+
+        // add type converter which the previous lookup should now find
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, CharSequence.class, new MyOrderTypeConverter());
+
+        // this time it should work
+        order = context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNotNull(order);
+        assertEquals(123, order.getId());
+    }
+
+    @Test
+    public void testAddTypeConverterWhileLookingUp() {
+        AtomicBoolean added = new AtomicBoolean();
+        CoreTypeConverterRegistry registry = new CoreTypeConverterRegistry() {
+            @Override
+            protected TypeConverter doLookup(Class<?> toType, Class<?> fromType, boolean isSuper) {
+                TypeConverter answer = super.doLookup(toType, fromType, isSuper);
+                if (!isSuper && added.compareAndSet(false, true)) {
+                    // simulate another thread adding the type converter after this lookup has missed it
+                    addTypeConverter(MyOrder.class, CharSequence.class, new MyOrderTypeConverter());
+                }
+                return answer;
+            }
+        };
+
+        MyOrder order = registry.tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNull(order);
+
+        // the miss should not be remembered, as the type converter was added during the lookup
+        order = registry.tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNotNull(order);
+        assertEquals(123, order.getId());
+    }
+
     private static class MyOrder {
         private int id;
 
@@ -18,8 +18,10 @@ package org.apache.camel.impl;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.TypeConverterSupport;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -72,6 +74,31 @@ public class TypeConverterRegistryStatisticsEnabledTest extends ContextTestSuppo
         assertEquals(0, miss.intValue());
     }
 
+    @Test
+    public void testFallbackTypeConverter() throws Exception {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        reg.addFallbackTypeConverter(new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                if (type == MyBean.class) {
+                    return type.cast(new MyBean(value.toString()));
+                }
+                return null;
+            }
+        }, false);
+        reg.getStatistics().reset();
+
+        assertEquals("foo", context.getTypeConverter().convertTo(MyBean.class, "foo").getName());
+        assertEquals("bar", context.getTypeConverter().convertTo(MyBean.class, "bar").getName());
+
+        assertEquals(2, reg.getStatistics().getHitCounter());
+        assertEquals(2, reg.getStatistics().getFallbackCounter());
+        assertEquals(0, reg.getStatistics().getMissCounter());
+
+        reg.getStatistics().reset();
+        assertEquals(0, reg.getStatistics().getFallbackCounter());
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() throws Exception {
         return new RouteBuilder() {
@@ -82,4 +109,16 @@ public class TypeConverterRegistryStatisticsEnabledTest extends ContextTestSuppo
         };
     }
 
+    private static class MyBean {
+        private final String name;
+
+        MyBean(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
 }
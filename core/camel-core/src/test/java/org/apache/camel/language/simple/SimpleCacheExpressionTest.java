@@ -16,9 +16,21 @@
  */
 package org.apache.camel.language.simple;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
 import org.apache.camel.LanguageTestSupport;
+import org.apache.camel.spi.Language;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 public class SimpleCacheExpressionTest extends LanguageTestSupport {
 
     @Override
@@ -62,6 +74,43 @@ public class SimpleCacheExpressionTest extends LanguageTestSupport {
         assertExpression(exchange, "${body.upper(${header.input})}", "FOO");
     }
 
+    @Test
+    public void testCachingConcurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                final int index = i;
+                futures.add(executor.submit(() -> {
+                    Exchange copy = createExchangeWithBody("Hello " + index);
+                    copy.getIn().setHeader("id", index);
+                    Language simple = context.resolveLanguage("simple");
+                    // use a number of different expressions to evict from the cache as well
+                    Expression expression = simple.createExpression("${body} with id ${header.id} and key " + (index % 20));
+                    return expression.evaluate(copy, String.class);
+                }));
+            }
+            for (int i = 0; i < 500; i++) {
+                assertEquals("Hello " + i + " with id " + i + " and key " + (i % 20), futures.get(i).get(20, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCachingConstantOperators() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            exchange.getIn().setHeader("num", i);
+            exchange.getIn().setHeader("code", "ABC" + i);
+
+            assertPredicate("${header.code} regex '^ABC[0-4]$'", i < 5);
+            assertPredicate("${header.num} in '1,3,5'", i == 1 || i == 3 || i == 5);
+            assertPredicate("${header.num} range '2..6'", i >= 2 && i <= 6);
+            assertPredicate("${header.num} !range '2..6'", i < 2 || i > 6);
+        }
+    }
+
     public static class MyConverter {
         public String upper(String input) throws Exception {
             return input.toUpperCase();
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.RoutePolicySupport;
+import org.apache.camel.support.startup.DefaultStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class RouteStartupParallelTest extends ContextTestSupport {
+
+    // the routes without startup order can only pass the barrier if they are started in parallel
+    private final CyclicBarrier barrier = new CyclicBarrier(4);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setRouteStartupPoolSize(4);
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupParallel() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        DefaultCamelContext dcc = (DefaultCamelContext) context;
+        List<RouteStartupOrder> order = dcc.getRouteStartupOrder();
+
+        assertEquals(6, order.size());
+        // the routes with startup order are started in that order
+        assertEquals("seda://foo", order.get(0).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("direct://start", order.get(1).getRoute().getEndpoint().getEndpointUri());
+        for (int i = 2; i < 6; i++) {
+            assertTrue(order.get(i).getRoute().getEndpoint().getEndpointUri().startsWith("seda://parallel"));
+            assertTrue(context.getRouteController().getRouteStatus(order.get(i).getRoute().getId()).isStarted());
+        }
+    }
+
+    @Test
+    public void testRouteStartupParallelMultipleConsumersClash() throws Exception {
+        CamelContext other = new DefaultCamelContext();
+        other.setRouteStartupPoolSize(4);
+        other.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:a").to("mock:a");
+                from("direct:b").to("mock:b");
+                from("direct:a").to("mock:c");
+            }
+        });
+
+        try {
+            other.start();
+            fail("Should have thrown an exception");
+        } catch (Exception e) {
+            assertTrue(e.getMessage().contains("Multiple consumers for the same endpoint is not allowed: direct://a"));
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    public void testRouteStartupParallelLazyInitialization() throws Exception {
+        // the routes create a lazy service of the context while the context is being started
+        CyclicBarrier lazyBarrier = new CyclicBarrier(2);
+        Set<Object> resolvers = ConcurrentHashMap.newKeySet();
+        CamelContext other = new DefaultCamelContext();
+        other.setRouteStartupPoolSize(4);
+        other.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                for (int i = 0; i < 2; i++) {
+                    from("direct:lazy" + i).routeId("lazy" + i).routePolicy(new RoutePolicySupport() {
+                        @Override
+                        public void onStart(Route route) {
+                            try {
+                                lazyBarrier.await(10, TimeUnit.SECONDS);
+                            } catch (Exception e) {
+                                throw new RuntimeCamelException(e);
+                            }
+                            ExtendedCamelContext ecc = route.getCamelContext().adapt(ExtendedCamelContext.class);
+                            resolvers.add(ecc.getDevConsoleResolver());
+                        }
+                    }).to("mock:lazy");
+                }
+            }
+        });
+
+        try {
+            other.start();
+            assertTrue(other.getRouteController().getRouteStatus("lazy0").isStarted());
+            assertTrue(other.getRouteController().getRouteStatus("lazy1").isStarted());
+            // only a single instance is created
+            assertEquals(1, resolvers.size());
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    public void testRouteStartupParallelStartupSteps() throws Exception {
+        Map<Integer, StartupStep> steps = new ConcurrentHashMap<>();
+        CamelContext other = new DefaultCamelContext(false);
+        ExtendedCamelContext ecc = other.adapt(ExtendedCamelContext.class);
+        ecc.setStartupStepRecorder(new DefaultStartupStepRecorder() {
+            @Override
+            protected void onBeginStep(StartupStep step) {
+                steps.put(step.getId(), step);
+            }
+        });
+        ecc.getStartupStepRecorder().setEnabled(true);
+        other.setRouteStartupPoolSize(4);
+        other.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                for (int i = 0; i < 4; i++) {
+                    from("seda:step" + i).routeId("step" + i).to("mock:step");
+                }
+            }
+        });
+
+        try {
+            other.start();
+
+            // the steps of the routes started in parallel are nested under the step of the thread starting the routes
+            int count = 0;
+            for (StartupStep step : steps.values()) {
+                if (step.getName() != null && step.getName().startsWith("step")) {
+                    StartupStep parent = steps.get(step.getParentId());
+                    assertNotNull(parent, "Step " + step.getDescription() + " of " + step.getName() + " has no parent");
+                    assertEquals(parent.getLevel() + 1, step.getLevel());
+                    count++;
+                }
+            }
+            assertTrue(count >= 8, "Should record the warm up and start steps of the routes");
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").startupOrder(2).to("seda:foo");
+
+                from("seda:foo").startupOrder(1).to("mock:result");
+
+                for (int i = 0; i < 4; i++) {
+                    from("seda:parallel" + i).routePolicy(new BarrierRoutePolicy()).to("mock:parallel");
+                }
+            }
+        };
+    }
+
+    private class BarrierRoutePolicy extends RoutePolicySupport {
+
+        @Override
+        public void onStart(Route route) {
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new RuntimeCamelException("Route " + route.getId() + " was not started in parallel", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelWindowSizeTest extends ContextTestSupport {
+
+    private static final int SIZE = 200;
+    private static final int WINDOW = 5;
+
+    private final AtomicInteger split = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testParallelWindowSize() throws Exception {
+        getMockEndpoint("mock:split").expectedMessageCount(SIZE);
+        getMockEndpoint("mock:split").whenAnyExchangeReceived(exchange -> Thread.sleep(1));
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return split.get() < SIZE;
+            }
+
+            @Override
+            public Integer next() {
+                int inflight = split.incrementAndGet() - aggregated.get();
+                maxInflight.accumulateAndGet(inflight, Math::max);
+                return split.get();
+            }
+        });
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(maxInflight.get() <= WINDOW, "Should not have more than " + WINDOW + " in-flight, was " + maxInflight.get());
+        assertEquals(SIZE, aggregated.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                AggregationStrategy counter = (oldExchange, newExchange) -> {
+                    aggregated.incrementAndGet();
+                    return newExchange;
+                };
+
+                from("direct:start")
+                        .split(body(), counter).streaming().parallelProcessing().parallelWindowSize(WINDOW)
+                            .to("mock:split")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ThrottlerTokenBucketTest extends ContextTestSupport {
+    private static final int INTERVAL = 500;
+    private static final int MESSAGE_COUNT = 9;
+
+    private final AtomicInteger zeroRate = new AtomicInteger();
+    private ScheduledExecutorService zeroExecutor;
+
+    @Test
+    public void testSendLotsOfMessages() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(MESSAGE_COUNT);
+
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            template.sendBody("direct:a", "<message>" + i + "</message>");
+        }
+        resultEndpoint.assertIsSatisfied();
+
+        // the first 3 messages are a burst, and then the others are spaced evenly
+        long taken = watch.taken();
+        assertTrue(taken >= 2 * INTERVAL - 100, "Should take at least " + (2 * INTERVAL) + " millis, was: " + taken);
+    }
+
+    @Test
+    public void testSendLotsOfMessagesSimultaneouslyAsyncDelayed() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(MESSAGE_COUNT);
+
+        ExecutorService executor = Executors.newFixedThreadPool(MESSAGE_COUNT);
+        try {
+            for (int i = 0; i < MESSAGE_COUNT; i++) {
+                executor.execute(() -> template.sendBody("direct:async", "<message>payload</message>"));
+            }
+            resultEndpoint.assertIsSatisfied();
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testRejectExecution() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(3);
+
+        int rejected = 0;
+        for (int i = 0; i < 5; i++) {
+            try {
+                template.sendBody("direct:reject", "<message>" + i + "</message>");
+            } catch (CamelExecutionException e) {
+                assertIsInstanceOf(ThrottlerRejectedExecutionException.class, e.getCause());
+                rejected++;
+            }
+        }
+        resultEndpoint.assertIsSatisfied();
+        assertEquals(2, rejected);
+    }
+
+    @Test
+    public void testManyCorrelationKeys() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(1000);
+
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < 1000; i++) {
+            try {
+                template.sendBodyAndHeader("direct:group", "<message>" + i + "</message>", "key", i);
+            } catch (CamelExecutionException e) {
+                fail("Each key should be throttled independently");
+            }
+        }
+        resultEndpoint.assertIsSatisfied();
+        assertFalse(watch.taken() > 5000, "Should not be throttled");
+    }
+
+    @Test
+    public void testZeroRateAsyncDelayedDoesNotBlockExecutor() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:zero");
+        resultEndpoint.expectedMessageCount(1);
+        resultEndpoint.setResultWaitTime(5000);
+
+        template.asyncSendBody("direct:zero", "<message>zero</message>");
+
+        // let the exchange be rescheduled a couple of times while the rate is zero
+        Thread.sleep(500);
+        assertEquals(0, resultEndpoint.getReceivedCounter());
+
+        // the only thread of the async executor must not be blocked by the throttled exchange
+        Future<?> future = zeroExecutor.submit(() -> {
+        });
+        future.get(1, TimeUnit.SECONDS);
+
+        zeroRate.set(1);
+        resultEndpoint.assertIsSatisfied();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+        if (zeroExecutor != null) {
+            zeroExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        zeroExecutor = Executors.newScheduledThreadPool(1);
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:a").throttle(3).timePeriodMillis(INTERVAL).tokenBucket(true).to("log:result", "mock:result");
+
+                from("direct:async").throttle(3).timePeriodMillis(INTERVAL).tokenBucket(true).asyncDelayed()
+                        .to("log:result", "mock:result");
+
+                from("direct:reject").throttle(3).timePeriodMillis(10000).tokenBucket(true).rejectExecution(true)
+                        .to("mock:result");
+
+                from("direct:zero").throttle(new ExpressionAdapter() {
+                    @Override
+                    public Object evaluate(Exchange exchange) {
+                        return zeroRate.get();
+                    }
+                }).timePeriodMillis(100).tokenBucket(true).asyncDelayed().executorService(zeroExecutor)
+                        .to("mock:zero");
+
+                from("direct:group").throttle(1).timePeriodMillis(10000).correlationExpression(header("key"))
+                        .tokenBucket(true).rejectExecution(true).to("mock:result");
+            }
+        };
+    }
+}
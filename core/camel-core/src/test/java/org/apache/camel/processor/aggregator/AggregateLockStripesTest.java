@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.ClosedCorrelationKeyException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AggregateLockStripesTest extends ContextTestSupport {
+
+    private final int size = 400;
+    private final String uri = "direct:start";
+
+    @Test
+    public void testAggregateLockStripes() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final int id = i % 10;
+            final int count = i;
+            tasks.add(new Callable<Object>() {
+                public Object call() throws Exception {
+                    template.sendBodyAndHeader(uri, "" + count, "id", id);
+                    return null;
+                }
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        // submit all tasks
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            // each group must have all its messages aggregated
+            assertEquals(40, exchange.getIn().getBody(String.class).split("\\+").length);
+            assertEquals(40, exchange.getProperty(Exchange.AGGREGATED_SIZE, int.class));
+        }
+    }
+
+    @Test
+    public void testAggregateLockStripesTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C");
+        mock.expectedPropertyReceived(Exchange.AGGREGATED_COMPLETED_BY, "timeout");
+
+        template.sendBodyAndHeader("direct:timeout", "A", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "C", "id", 2);
+        template.sendBodyAndHeader("direct:timeout", "B", "id", 1);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripesCompleteAllGroups() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C");
+        mock.expectedPropertyReceived(Exchange.AGGREGATED_COMPLETED_BY, "force");
+
+        template.sendBodyAndHeader("direct:timeout", "A", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "C", "id", 2);
+        template.sendBodyAndHeader("direct:timeout", "B", "id", 1);
+        // the message forcing completion is not aggregated
+        template.sendBodyAndHeader("direct:timeout", "D", Exchange.AGGREGATION_COMPLETE_ALL_GROUPS, true);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripesCloseCorrelationKey() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final int id = i % 200;
+            tasks.add(new Callable<Object>() {
+                public Object call() throws Exception {
+                    template.sendBodyAndHeader("direct:closed", "" + id, "id", id);
+                    return null;
+                }
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:closed");
+        mock.expectedMessageCount(200);
+
+        // the closed correlation keys are added and checked from the lock stripes in parallel
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        // all the groups are completed, so their correlation keys are closed
+        for (int i = 0; i < 200; i++) {
+            final int id = i;
+            Exception e = assertThrows(Exception.class, () -> template.sendBodyAndHeader("direct:closed", "X", "id", id));
+            assertIsInstanceOf(ClosedCorrelationKeyException.class, e.getCause());
+        }
+    }
+
+    @Test
+    public void testLockStripesAndCompletionOnNewCorrelationGroup() throws Exception {
+        RouteBuilder builder = new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:new").aggregate(header("id"), new BodyInAggregatingStrategy())
+                        .completionSize(10).completionOnNewCorrelationGroup().lockStripes(4)
+                        .to("mock:new");
+            }
+        };
+
+        Exception e = assertThrows(Exception.class, () -> context.addRoutes(builder));
+        IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, e.getCause().getCause());
+        assertEquals("Only one of lockStripes or completionOnNewCorrelationGroup can be used, not both.",
+                cause.getMessage());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(40)
+                        .lockStripes(4)
+                        .to("mock:result");
+
+                from("direct:closed").aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(2)
+                        .closeCorrelationKeyOnCompletion(1000).lockStripes(4)
+                        .to("mock:closed");
+
+                from("direct:timeout").aggregate(header("id"), new BodyInAggregatingStrategy()).completionTimeout(2000)
+                        .lockStripes(4)
+                        .to("mock:timeout");
+            }
+        };
+    }
+}
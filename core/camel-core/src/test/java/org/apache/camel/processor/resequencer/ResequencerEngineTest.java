@@ -19,6 +19,8 @@ package org.apache.camel.processor.resequencer;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.TestSupport;
@@ -93,6 +95,44 @@ public class ResequencerEngineTest extends TestSupport {
         assertEquals((Object) (Integer) 4, (Object) resequencer.getLastDelivered());
     }
 
+    @Test
+    public void testConcurrentInsertAndDeliver() throws Exception {
+        final int threads = 4;
+        final int input = 10000;
+        buffer = new SequenceBuffer<>();
+        ResequencerEngine<Integer> engine = new ResequencerEngine<>(new IntegerComparator());
+        engine.setSequenceSender(buffer);
+        engine.setTimeout(10000);
+        engine.setLastDelivered(-1);
+        engine.start();
+        try {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                executor.execute(() -> {
+                    // each thread inserts every n'th element so the elements arrive out of sequence
+                    for (int i = offset; i < input; i += threads) {
+                        engine.insert(i);
+                        try {
+                            engine.deliver();
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+
+            for (int i = 0; i < input; i++) {
+                assertEquals((Object) (Integer) i, (Object) buffer.poll(5000));
+            }
+            assertEquals(0, engine.size());
+        } finally {
+            engine.stop();
+        }
+    }
+
     @Test
     public void testRandom() throws Exception {
         if (IGNORE_LOAD_TESTS) {
@@ -166,6 +166,55 @@ public class DefaultTimeoutMapTest {
         map.stop();
     }
 
+    @Test
+    public void testTimeoutLongerThanWheel() throws Exception {
+        // the timing wheel has 512 slots so with 1 millis poll time the wheel is passed multiple times
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 1);
+        map.start();
+
+        long start = System.currentTimeMillis();
+        map.put("A", 1, 1500);
+        map.put("B", 2, 10);
+        assertEquals(2, map.size());
+
+        await().atMost(Duration.ofSeconds(1))
+                .untilAsserted(() -> assertEquals(1, map.size()));
+        assertEquals(1, map.get("A").intValue());
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertEquals(0, map.size()));
+        assertTrue(System.currentTimeMillis() - start >= 1500);
+
+        map.stop();
+    }
+
+    @Test
+    public void testManyEntries() throws Exception {
+        final List<String> keys = new ArrayList<>();
+
+        DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 10);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+        map.start();
+
+        for (int i = 0; i < 10000; i++) {
+            // half of them expires and the other half is removed
+            map.put("K" + i, i, i % 2 == 0 ? 100 + i % 100 : 60000);
+        }
+        for (int i = 1; i < 10000; i += 2) {
+            assertEquals(i, map.remove("K" + i).intValue());
+        }
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertEquals(0, map.size()));
+        assertEquals(5000, keys.size());
+
+        map.stop();
+    }
+
     @Test
     public void testDefaultTimeoutMapStopStart() throws Exception {
         DefaultTimeoutMap<String, Integer> map = new DefaultTimeoutMap<>(executor, 100);
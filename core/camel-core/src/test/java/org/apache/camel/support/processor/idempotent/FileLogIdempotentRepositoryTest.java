@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileLogIdempotentRepositoryTest extends TestSupport {
+
+    private File fileStore;
+    private FileLogIdempotentRepository repo;
+
+    @BeforeEach
+    public void setup() {
+        fileStore = testDirectory(true).resolve("data.log").toFile();
+        repo = new FileLogIdempotentRepository(fileStore);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repo.stop();
+    }
+
+    @Test
+    public void testAddRemoveAndReload() throws Exception {
+        repo.start();
+
+        assertTrue(repo.add("A"));
+        assertFalse(repo.add("A"));
+        assertTrue(repo.add("B"));
+        assertTrue(repo.add("C"));
+        assertTrue(repo.remove("B"));
+        assertFalse(repo.remove("B"));
+
+        assertTrue(repo.contains("A"));
+        assertFalse(repo.contains("B"));
+        assertEquals(List.of("+A", "+B", "+C", "-B"), Files.readAllLines(fileStore.toPath()));
+
+        repo.stop();
+        repo.start();
+
+        assertEquals(2, repo.getSize());
+        assertTrue(repo.contains("A"));
+        assertFalse(repo.contains("B"));
+        assertTrue(repo.contains("C"));
+    }
+
+    @Test
+    public void testKeyWithLineBreak() throws Exception {
+        repo.start();
+
+        assertTrue(repo.add("y"));
+        // a line break would split the key into another record in the log
+        assertThrows(IllegalArgumentException.class, () -> repo.add("x\n-y"));
+        assertThrows(IllegalArgumentException.class, () -> repo.remove("x\n-y"));
+        assertThrows(IllegalArgumentException.class, () -> repo.contains("x\n-y"));
+
+        repo.stop();
+        repo.start();
+
+        assertEquals(1, repo.getSize());
+        assertTrue(repo.contains("y"));
+        assertEquals(List.of("+y"), Files.readAllLines(fileStore.toPath()));
+    }
+
+    @Test
+    public void testDiscardIncompleteRecord() throws Exception {
+        Files.write(fileStore.toPath(), "+A\n+B\n+C".getBytes(StandardCharsets.UTF_8));
+        repo.start();
+
+        assertTrue(repo.contains("B"));
+        assertFalse(repo.contains("C"));
+        assertTrue(repo.add("C"));
+        assertEquals(List.of("+A", "+B", "+C"), Files.readAllLines(fileStore.toPath()));
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        repo.setCompactionThreshold(10);
+        repo.start();
+
+        for (int i = 0; i < 20; i++) {
+            repo.add("key" + i);
+        }
+        for (int i = 0; i < 15; i++) {
+            repo.remove("key" + i);
+        }
+
+        // compacted when the obsolete records outnumbered the remaining keys
+        assertTrue(repo.getRecords() < 35, "Should have compacted");
+        assertEquals(5, repo.getSize());
+
+        repo.compact();
+        assertEquals(5, repo.getRecords());
+        assertEquals(5, Files.readAllLines(fileStore.toPath()).size());
+
+        repo.stop();
+        repo.start();
+        assertEquals(5, repo.getSize());
+        assertTrue(repo.contains("key19"));
+        assertFalse(repo.contains("key0"));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        repo.start();
+        repo.add("A");
+        repo.add("B");
+
+        repo.clear();
+        assertFalse(repo.contains("A"));
+        assertEquals(0, fileStore.length());
+
+        repo.add("C");
+        assertEquals(List.of("+C"), Files.readAllLines(fileStore.toPath()));
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        repo.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 2000; i++) {
+            final String key = "key" + (i % 1000);
+            executor.submit(() -> repo.add(key));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(20, TimeUnit.SECONDS));
+
+        assertEquals(1000, repo.getSize());
+        assertEquals(1000, Files.readAllLines(fileStore.toPath()).size());
+    }
+
+    @Test
+    public void testConcurrentAddRemoveWhileCompacting() throws Exception {
+        repo.setCompactionThreshold(0);
+        repo.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 4000; i++) {
+            final String key = "key" + (i % 500);
+            final boolean remove = i % 3 == 0;
+            executor.submit(() -> {
+                if (remove) {
+                    repo.remove(key);
+                } else {
+                    repo.add(key);
+                }
+            });
+            if (i % 200 == 0) {
+                executor.submit(repo::compact);
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(20, TimeUnit.SECONDS));
+
+        // the file store must have the same keys as the index
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            if (repo.contains("key" + i)) {
+                keys.add("key" + i);
+            }
+        }
+        repo.stop();
+        repo.start();
+        assertEquals(keys.size(), repo.getSize());
+        for (String key : keys) {
+            assertTrue(repo.contains(key), "Should contain " + key);
+        }
+    }
+
+}
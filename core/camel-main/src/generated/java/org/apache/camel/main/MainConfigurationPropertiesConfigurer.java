@@ -101,6 +101,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JavaRoutesIncludePattern": target.setJavaRoutesIncludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "jmxenabled":
         case "JmxEnabled": target.setJmxEnabled(property(camelContext, boolean.class, value)); return true;
+        case "jmxhistogramprecision":
+        case "JmxHistogramPrecision": target.setJmxHistogramPrecision(property(camelContext, int.class, value)); return true;
+        case "jmxhistogramstatisticsenabled":
+        case "JmxHistogramStatisticsEnabled": target.setJmxHistogramStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
+        case "jmxhistogramwindow":
+        case "JmxHistogramWindow": target.setJmxHistogramWindow(property(camelContext, long.class, value)); return true;
         case "jmxmanagementnamepattern":
         case "JmxManagementNamePattern": target.setJmxManagementNamePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "jmxmanagementstatisticslevel":
@@ -155,6 +161,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
         case "RouteFilterIncludePattern": target.setRouteFilterIncludePattern(property(camelContext, java.lang.String.class, value)); return true;
+        case "routestartuppoolsize":
+        case "RouteStartupPoolSize": target.setRouteStartupPoolSize(property(camelContext, int.class, value)); return true;
         case "routesbuilderclasses":
         case "RoutesBuilderClasses": target.setRoutesBuilderClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "routesbuilders":
@@ -181,6 +189,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RoutesReloadRemoveAllRoutes": target.setRoutesReloadRemoveAllRoutes(property(camelContext, boolean.class, value)); return true;
         case "routesreloadrestartduration":
         case "RoutesReloadRestartDuration": target.setRoutesReloadRestartDuration(property(camelContext, boolean.class, value)); return true;
+        case "routessnapshotfile":
+        case "RoutesSnapshotFile": target.setRoutesSnapshotFile(property(camelContext, java.lang.String.class, value)); return true;
         case "shutdownloginflightexchangesontimeout":
         case "ShutdownLogInflightExchangesOnTimeout": target.setShutdownLogInflightExchangesOnTimeout(property(camelContext, boolean.class, value)); return true;
         case "shutdownnowontimeout":
@@ -217,6 +227,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingRemoveSpoolDirectoryWhenStopping": target.setStreamCachingRemoveSpoolDirectoryWhenStopping(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspoolcipher":
         case "StreamCachingSpoolCipher": target.setStreamCachingSpoolCipher(property(camelContext, java.lang.String.class, value)); return true;
+        case "streamcachingspooldirectmemory":
+        case "StreamCachingSpoolDirectMemory": target.setStreamCachingSpoolDirectMemory(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspooldirectmemorymaxsize":
+        case "StreamCachingSpoolDirectMemoryMaxSize": target.setStreamCachingSpoolDirectMemoryMaxSize(property(camelContext, long.class, value)); return true;
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolthreshold":
@@ -332,6 +346,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JavaRoutesIncludePattern": return java.lang.String.class;
         case "jmxenabled":
         case "JmxEnabled": return boolean.class;
+        case "jmxhistogramprecision":
+        case "JmxHistogramPrecision": return int.class;
+        case "jmxhistogramstatisticsenabled":
+        case "JmxHistogramStatisticsEnabled": return boolean.class;
+        case "jmxhistogramwindow":
+        case "JmxHistogramWindow": return long.class;
         case "jmxmanagementnamepattern":
         case "JmxManagementNamePattern": return java.lang.String.class;
         case "jmxmanagementstatisticslevel":
@@ -386,6 +406,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
         case "RouteFilterIncludePattern": return java.lang.String.class;
+        case "routestartuppoolsize":
+        case "RouteStartupPoolSize": return int.class;
         case "routesbuilderclasses":
         case "RoutesBuilderClasses": return java.lang.String.class;
         case "routesbuilders":
@@ -412,6 +434,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RoutesReloadRemoveAllRoutes": return boolean.class;
         case "routesreloadrestartduration":
         case "RoutesReloadRestartDuration": return boolean.class;
+        case "routessnapshotfile":
+        case "RoutesSnapshotFile": return java.lang.String.class;
         case "shutdownloginflightexchangesontimeout":
         case "ShutdownLogInflightExchangesOnTimeout": return boolean.class;
         case "shutdownnowontimeout":
@@ -448,6 +472,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingRemoveSpoolDirectoryWhenStopping": return boolean.class;
         case "streamcachingspoolcipher":
         case "StreamCachingSpoolCipher": return java.lang.String.class;
+        case "streamcachingspooldirectmemory":
+        case "StreamCachingSpoolDirectMemory": return boolean.class;
+        case "streamcachingspooldirectmemorymaxsize":
+        case "StreamCachingSpoolDirectMemoryMaxSize": return long.class;
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": return java.lang.String.class;
         case "streamcachingspoolthreshold":
@@ -564,6 +592,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JavaRoutesIncludePattern": return target.getJavaRoutesIncludePattern();
         case "jmxenabled":
         case "JmxEnabled": return target.isJmxEnabled();
+        case "jmxhistogramprecision":
+        case "JmxHistogramPrecision": return target.getJmxHistogramPrecision();
+        case "jmxhistogramstatisticsenabled":
+        case "JmxHistogramStatisticsEnabled": return target.isJmxHistogramStatisticsEnabled();
+        case "jmxhistogramwindow":
+        case "JmxHistogramWindow": return target.getJmxHistogramWindow();
         case "jmxmanagementnamepattern":
         case "JmxManagementNamePattern": return target.getJmxManagementNamePattern();
         case "jmxmanagementstatisticslevel":
@@ -618,6 +652,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
         case "RouteFilterIncludePattern": return target.getRouteFilterIncludePattern();
+        case "routestartuppoolsize":
+        case "RouteStartupPoolSize": return target.getRouteStartupPoolSize();
         case "routesbuilderclasses":
         case "RoutesBuilderClasses": return target.getRoutesBuilderClasses();
         case "routesbuilders":
@@ -644,6 +680,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RoutesReloadRemoveAllRoutes": return target.isRoutesReloadRemoveAllRoutes();
         case "routesreloadrestartduration":
         case "RoutesReloadRestartDuration": return target.isRoutesReloadRestartDuration();
+        case "routessnapshotfile":
+        case "RoutesSnapshotFile": return target.getRoutesSnapshotFile();
         case "shutdownloginflightexchangesontimeout":
         case "ShutdownLogInflightExchangesOnTimeout": return target.isShutdownLogInflightExchangesOnTimeout();
         case "shutdownnowontimeout":
@@ -680,6 +718,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingRemoveSpoolDirectoryWhenStopping": return target.isStreamCachingRemoveSpoolDirectoryWhenStopping();
         case "streamcachingspoolcipher":
         case "StreamCachingSpoolCipher": return target.getStreamCachingSpoolCipher();
+        case "streamcachingspooldirectmemory":
+        case "StreamCachingSpoolDirectMemory": return target.isStreamCachingSpoolDirectMemory();
+        case "streamcachingspooldirectmemorymaxsize":
+        case "StreamCachingSpoolDirectMemoryMaxSize": return target.getStreamCachingSpoolDirectMemoryMaxSize();
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
         case "streamcachingspoolthreshold":
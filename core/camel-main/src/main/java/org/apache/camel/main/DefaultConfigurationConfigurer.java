@@ -182,6 +182,11 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy()
                 .setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
+        camelContext.getStreamCachingStrategy().setSpoolDirectMemory(config.isStreamCachingSpoolDirectMemory());
+        if (config.getStreamCachingSpoolDirectMemoryMaxSize() != 0) {
+            camelContext.getStreamCachingStrategy()
+                    .setSpoolDirectMemoryMaxSize(config.getStreamCachingSpoolDirectMemoryMaxSize());
+        }
         if (config.getStreamCachingSpoolDirectory() != null) {
             camelContext.getStreamCachingStrategy().setSpoolDirectory(config.getStreamCachingSpoolDirectory());
         }
@@ -222,6 +227,7 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setLogMask(config.isLogMask());
         camelContext.setLogExhaustedMessageBody(config.isLogExhaustedMessageBody());
         camelContext.setAutoStartup(config.isAutoStartup());
+        camelContext.setRouteStartupPoolSize(config.getRouteStartupPoolSize());
         camelContext.setAllowUseOriginalMessage(config.isAllowUseOriginalMessage());
         camelContext.setCaseInsensitiveHeaders(config.isCaseInsensitiveHeaders());
         camelContext.setAutowiredEnabled(config.isAutowiredEnabled());
@@ -249,6 +255,12 @@ public final class DefaultConfigurationConfigurer {
                     .setStatisticsLevel(config.getJmxManagementStatisticsLevel());
             camelContext.getManagementStrategy().getManagementAgent()
                     .setManagementNamePattern(config.getJmxManagementNamePattern());
+            camelContext.getManagementStrategy().getManagementAgent()
+                    .setHistogramStatisticsEnabled(config.isJmxHistogramStatisticsEnabled());
+            camelContext.getManagementStrategy().getManagementAgent()
+                    .setHistogramPrecision(config.getJmxHistogramPrecision());
+            camelContext.getManagementStrategy().getManagementAgent()
+                    .setHistogramWindow(config.getJmxHistogramWindow());
         }
 
         // global options
@@ -65,6 +65,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean streamCachingAnySpoolRules;
     private int streamCachingBufferSize;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
+    private boolean streamCachingSpoolDirectMemory;
+    private long streamCachingSpoolDirectMemoryMaxSize;
     private boolean streamCachingStatisticsEnabled;
     private boolean debugging;
     private boolean backlogTracing;
@@ -78,6 +80,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean logMask;
     private boolean logExhaustedMessageBody;
     private boolean autoStartup = true;
+    @Metadata(defaultValue = "1")
+    private int routeStartupPoolSize = 1;
     private boolean allowUseOriginalMessage;
     private boolean caseInsensitiveHeaders = true;
     private boolean autowiredEnabled = true;
@@ -90,6 +94,11 @@ public abstract class DefaultConfigurationProperties<T> {
     @Metadata(defaultValue = "Default")
     private ManagementStatisticsLevel jmxManagementStatisticsLevel = ManagementStatisticsLevel.Default;
     private String jmxManagementNamePattern = "#name#";
+    private boolean jmxHistogramStatisticsEnabled;
+    @Metadata(defaultValue = "4")
+    private int jmxHistogramPrecision = 4;
+    @Metadata(defaultValue = "60000")
+    private long jmxHistogramWindow = 60000;
     private boolean useMdcLogging;
     private String mdcLoggingKeysPattern;
     private String threadNamePattern;
@@ -102,6 +111,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private String javaRoutesExcludePattern;
     private String routesIncludePattern = "classpath:camel/*,classpath:camel-template/*,classpath:camel-rest/*";
     private String routesExcludePattern;
+    private String routesSnapshotFile;
     private boolean routesReloadEnabled;
     @Metadata(defaultValue = "src/main/resources/camel")
     private String routesReloadDirectory = "src/main/resources/camel";
@@ -531,6 +541,31 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingRemoveSpoolDirectoryWhenStopping = streamCachingRemoveSpoolDirectoryWhenStopping;
     }
 
+    public boolean isStreamCachingSpoolDirectMemory() {
+        return streamCachingSpoolDirectMemory;
+    }
+
+    /**
+     * Sets whether stream caching spools to pooled direct (off-heap) memory buffers instead of temporary files in the
+     * spool directory. When the pooled direct memory is used up, then spooling falls back to use temporary files.
+     */
+    public void setStreamCachingSpoolDirectMemory(boolean streamCachingSpoolDirectMemory) {
+        this.streamCachingSpoolDirectMemory = streamCachingSpoolDirectMemory;
+    }
+
+    public long getStreamCachingSpoolDirectMemoryMaxSize() {
+        return streamCachingSpoolDirectMemoryMaxSize;
+    }
+
+    /**
+     * Sets the maximum size in bytes of the pooled direct memory buffers when streamCachingSpoolDirectMemory is in use.
+     *
+     * The default size is 64mb.
+     */
+    public void setStreamCachingSpoolDirectMemoryMaxSize(long streamCachingSpoolDirectMemoryMaxSize) {
+        this.streamCachingSpoolDirectMemoryMaxSize = streamCachingSpoolDirectMemoryMaxSize;
+    }
+
     public boolean isStreamCachingStatisticsEnabled() {
         return streamCachingStatisticsEnabled;
     }
@@ -689,6 +724,22 @@ public abstract class DefaultConfigurationProperties<T> {
         this.autoStartup = autoStartup;
     }
 
+    public int getRouteStartupPoolSize() {
+        return routeStartupPoolSize;
+    }
+
+    /**
+     * Number of threads used for warming up and starting routes in parallel when Camel starts. Routes that have an
+     * explicit startup order configured are started one by one in that order, and the other routes are started in
+     * parallel. This can reduce the startup time of applications with many routes, where the consumers spend time
+     * connecting to remote systems.
+     *
+     * Default is 1, which starts the routes one by one.
+     */
+    public void setRouteStartupPoolSize(int routeStartupPoolSize) {
+        this.routeStartupPoolSize = routeStartupPoolSize;
+    }
+
     public boolean isAllowUseOriginalMessage() {
         return allowUseOriginalMessage;
     }
@@ -860,6 +911,47 @@ public abstract class DefaultConfigurationProperties<T> {
         this.jmxManagementNamePattern = jmxManagementNamePattern;
     }
 
+    public boolean isJmxHistogramStatisticsEnabled() {
+        return jmxHistogramStatisticsEnabled;
+    }
+
+    /**
+     * Sets whether histogram statistics is enabled (records the processing times of routes and processors in a
+     * histogram, to calculate percentiles such as p99).
+     *
+     * The default value is false.
+     */
+    public void setJmxHistogramStatisticsEnabled(boolean jmxHistogramStatisticsEnabled) {
+        this.jmxHistogramStatisticsEnabled = jmxHistogramStatisticsEnabled;
+    }
+
+    public int getJmxHistogramPrecision() {
+        return jmxHistogramPrecision;
+    }
+
+    /**
+     * Sets the number of bits of precision of the histograms (between 1 and 10), where the relative error of the
+     * percentiles is at most 1/2^precision. A higher precision uses more memory per route and processor.
+     *
+     * The default value is 4 (6.25% relative error).
+     */
+    public void setJmxHistogramPrecision(int jmxHistogramPrecision) {
+        this.jmxHistogramPrecision = jmxHistogramPrecision;
+    }
+
+    public long getJmxHistogramWindow() {
+        return jmxHistogramWindow;
+    }
+
+    /**
+     * Sets the sliding time window in millis which the histograms covers.
+     *
+     * The default value is 60000.
+     */
+    public void setJmxHistogramWindow(long jmxHistogramWindow) {
+        this.jmxHistogramWindow = jmxHistogramWindow;
+    }
+
     public boolean isUseMdcLogging() {
         return useMdcLogging;
     }
@@ -1060,6 +1152,27 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routesExcludePattern = routesExcludePattern;
     }
 
+    public String getRoutesSnapshotFile() {
+        return routesSnapshotFile;
+    }
+
+    /**
+     * File to use for a snapshot of the routes which are loaded from directories (see routesIncludePattern). The file
+     * must end with .xml. On the first start the routes are discovered and loaded as usual, and then written to the
+     * snapshot file in XML (the property placeholders are not resolved). On the following starts the routes are loaded
+     * from the snapshot file instead, which avoids parsing the routes again. This requires camel-xml-jaxb to write the
+     * snapshot and camel-xml-io-dsl or camel-xml-jaxb-dsl to load the snapshot.
+     *
+     * The snapshot contains a fingerprint of the routes (their locations and content) and the properties, and when any
+     * of these have changed, then the routes are discovered and loaded as usual, and a new snapshot is written. Only
+     * routes loaded from XML or YAML are supported in the snapshot, so if there are routes in Java (or other
+     * languages), rests, route templates, route configurations or anything else than routes (such as error handler,
+     * onException or beans) then no snapshot is taken.
+     */
+    public void setRoutesSnapshotFile(String routesSnapshotFile) {
+        this.routesSnapshotFile = routesSnapshotFile;
+    }
+
     public boolean isRoutesReloadEnabled() {
         return routesReloadEnabled;
     }
@@ -1769,6 +1882,25 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether stream caching spools to pooled direct (off-heap) memory buffers instead of temporary files in the
+     * spool directory. When the pooled direct memory is used up, then spooling falls back to use temporary files.
+     */
+    public T withStreamCachingSpoolDirectMemory(boolean streamCachingSpoolDirectMemory) {
+        this.streamCachingSpoolDirectMemory = streamCachingSpoolDirectMemory;
+        return (T) this;
+    }
+
+    /**
+     * Sets the maximum size in bytes of the pooled direct memory buffers when streamCachingSpoolDirectMemory is in use.
+     *
+     * The default size is 64mb.
+     */
+    public T withStreamCachingSpoolDirectMemoryMaxSize(long streamCachingSpoolDirectMemoryMaxSize) {
+        this.streamCachingSpoolDirectMemoryMaxSize = streamCachingSpoolDirectMemoryMaxSize;
+        return (T) this;
+    }
+
     /**
      * Sets whether stream caching statistics is enabled.
      */
@@ -1864,6 +1996,19 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Number of threads used for warming up and starting routes in parallel when Camel starts. Routes that have an
+     * explicit startup order configured are started one by one in that order, and the other routes are started in
+     * parallel. This can reduce the startup time of applications with many routes, where the consumers spend time
+     * connecting to remote systems.
+     *
+     * Default is 1, which starts the routes one by one.
+     */
+    public T withRouteStartupPoolSize(int routeStartupPoolSize) {
+        this.routeStartupPoolSize = routeStartupPoolSize;
+        return (T) this;
+    }
+
     /**
      * Sets whether to allow access to the original message from Camel's error handler, or from
      * org.apache.camel.spi.UnitOfWork.getOriginalInMessage(). Turning this off can optimize performance, as defensive
@@ -1989,6 +2134,38 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether histogram statistics is enabled (records the processing times of routes and processors in a
+     * histogram, to calculate percentiles such as p99).
+     *
+     * The default value is false.
+     */
+    public T withJmxHistogramStatisticsEnabled(boolean jmxHistogramStatisticsEnabled) {
+        this.jmxHistogramStatisticsEnabled = jmxHistogramStatisticsEnabled;
+        return (T) this;
+    }
+
+    /**
+     * Sets the number of bits of precision of the histograms (between 1 and 10), where the relative error of the
+     * percentiles is at most 1/2^precision. A higher precision uses more memory per route and processor.
+     *
+     * The default value is 4 (6.25% relative error).
+     */
+    public T withJmxHistogramPrecision(int jmxHistogramPrecision) {
+        this.jmxHistogramPrecision = jmxHistogramPrecision;
+        return (T) this;
+    }
+
+    /**
+     * Sets the sliding time window in millis which the histograms covers.
+     *
+     * The default value is 60000.
+     */
+    public T withJmxHistogramWindow(long jmxHistogramWindow) {
+        this.jmxHistogramWindow = jmxHistogramWindow;
+        return (T) this;
+    }
+
     /**
      * To turn on MDC logging
      */
@@ -2181,6 +2358,24 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * File to use for a snapshot of the routes which are loaded from directories (see routesIncludePattern). The file
+     * must end with .xml. On the first start the routes are discovered and loaded as usual, and then written to the
+     * snapshot file in XML (the property placeholders are not resolved). On the following starts the routes are loaded
+     * from the snapshot file instead, which avoids parsing the routes again. This requires camel-xml-jaxb to write the
+     * snapshot and camel-xml-io-dsl or camel-xml-jaxb-dsl to load the snapshot.
+     *
+     * The snapshot contains a fingerprint of the routes (their locations and content) and the properties, and when any
+     * of these have changed, then the routes are discovered and loaded as usual, and a new snapshot is written. Only
+     * routes loaded from XML or YAML are supported in the snapshot, so if there are routes in Java (or other
+     * languages), rests, route templates, route configurations or anything else than routes (such as error handler,
+     * onException or beans) then no snapshot is taken.
+     */
+    public T withRoutesSnapshotFile(String routesSnapshotFile) {
+        this.routesSnapshotFile = routesSnapshotFile;
+        return (T) this;
+    }
+
     /**
      * Used for enabling automatic routes reloading. If enabled then Camel will watch for file changes in the given
      * reload directory, and trigger reloading routes if files are changed.
@@ -122,7 +122,8 @@ public final class MainSupportModelConfigurer {
                 .keepAliveTime(tp.getKeepAliveTime(), tp.getTimeUnit())
                 .maxQueueSize(tp.getMaxQueueSize())
                 .allowCoreThreadTimeOut(tp.getAllowCoreThreadTimeOut())
-                .rejectedPolicy(tp.getRejectedPolicy()).build();
+                .rejectedPolicy(tp.getRejectedPolicy())
+                .virtualThreads(tp.getVirtualThreads()).build();
 
         for (ThreadPoolProfileConfigurationProperties config : tp.getConfig().values()) {
             ThreadPoolProfileBuilder builder = new ThreadPoolProfileBuilder(config.getId(), dp);
@@ -131,7 +132,8 @@ public final class MainSupportModelConfigurer {
                     .keepAliveTime(config.getKeepAliveTime(), config.getTimeUnit())
                     .maxQueueSize(config.getMaxQueueSize())
                     .allowCoreThreadTimeOut(config.getAllowCoreThreadTimeOut())
-                    .rejectedPolicy(config.getRejectedPolicy()).build();
+                    .rejectedPolicy(config.getRejectedPolicy())
+                    .virtualThreads(config.getVirtualThreads()).build();
             if (!tpp.isEmpty()) {
                 camelContext.getExecutorServiceManager().registerThreadPoolProfile(tpp);
             }
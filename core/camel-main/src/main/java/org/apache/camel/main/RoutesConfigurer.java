@@ -16,21 +16,37 @@
  */
 package org.apache.camel.main;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Properties;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.ErrorHandlerFactory;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.RouteConfigurationsBuilder;
 import org.apache.camel.RoutesBuilder;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.RouteConfigurationBuilder;
+import org.apache.camel.model.RoutesDefinition;
 import org.apache.camel.spi.CamelBeanPostProcessor;
+import org.apache.camel.spi.ModelToXMLDumper;
 import org.apache.camel.spi.ModelineFactory;
 import org.apache.camel.spi.Resource;
 import org.apache.camel.spi.RoutesLoader;
 import org.apache.camel.support.OrderedComparator;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.StopWatch;
 import org.apache.camel.util.TimeUtils;
 import org.slf4j.Logger;
@@ -41,6 +57,8 @@ import org.slf4j.LoggerFactory;
  */
 public class RoutesConfigurer {
     private static final Logger LOG = LoggerFactory.getLogger(RoutesConfigurer.class);
+    private static final String SNAPSHOT_FINGERPRINT_START = "<!-- fingerprint: ";
+    private static final String SNAPSHOT_FINGERPRINT_END = " -->";
 
     private RoutesCollector routesCollector;
     private CamelBeanPostProcessor beanPostProcessor;
@@ -51,6 +69,7 @@ public class RoutesConfigurer {
     private String javaRoutesIncludePattern;
     private String routesExcludePattern;
     private String routesIncludePattern;
+    private String routesSnapshotFile;
 
     public List<RoutesBuilder> getRoutesBuilders() {
         return routesBuilders;
@@ -108,6 +127,14 @@ public class RoutesConfigurer {
         this.routesIncludePattern = routesIncludePattern;
     }
 
+    public String getRoutesSnapshotFile() {
+        return routesSnapshotFile;
+    }
+
+    public void setRoutesSnapshotFile(String routesSnapshotFile) {
+        this.routesSnapshotFile = routesSnapshotFile;
+    }
+
     public RoutesCollector getRoutesCollector() {
         return routesCollector;
     }
@@ -132,6 +159,8 @@ public class RoutesConfigurer {
      */
     public void configureRoutes(CamelContext camelContext) throws Exception {
         final List<RoutesBuilder> routes = new ArrayList<>();
+        Collection<RoutesBuilder> routesToSnapshot = null;
+        String snapshotFingerprint = null;
         if (getRoutesBuilders() != null) {
             routes.addAll(getRoutesBuilders());
         }
@@ -182,12 +211,40 @@ public class RoutesConfigurer {
                             getRoutesIncludePattern());
                 }
 
-                // add discovered routes from directories
+                // add discovered routes from directories (or from the snapshot taken on a previous start)
                 StopWatch watch = new StopWatch();
-                Collection<RoutesBuilder> routesFromDirectory = getRoutesCollector().collectRoutesFromDirectory(
-                        camelContext,
-                        getRoutesExcludePattern(),
-                        getRoutesIncludePattern());
+                Collection<RoutesBuilder> routesFromDirectory;
+                File snapshot = getRoutesSnapshotFile() != null ? new File(getRoutesSnapshotFile()) : null;
+                if (snapshot != null && !snapshot.getName().endsWith(".xml")) {
+                    throw new IllegalArgumentException(
+                            "The routes snapshot file must be an XML file (ending with .xml), was: " + snapshot);
+                }
+                if (snapshot != null) {
+                    // the snapshot can only be used if the routes and properties are the same as when it was written
+                    Collection<Resource> resources = getRoutesCollector().findRouteResourcesFromDirectory(
+                            camelContext,
+                            getRoutesExcludePattern(),
+                            getRoutesIncludePattern());
+                    snapshotFingerprint = computeSnapshotFingerprint(camelContext, resources);
+                }
+                if (snapshot != null && snapshot.exists() && snapshotFingerprint.equals(readSnapshotFingerprint(snapshot))) {
+                    LOG.info("Loading routes from snapshot: {}", snapshot);
+                    Resource resource = camelContext.adapt(ExtendedCamelContext.class).getResourceLoader()
+                            .resolveResource("file:" + snapshot.getPath());
+                    routesFromDirectory = camelContext.adapt(ExtendedCamelContext.class).getRoutesLoader()
+                            .findRoutesBuilders(resource);
+                } else {
+                    if (snapshot != null && snapshot.exists()) {
+                        LOG.info("Routes snapshot: {} is outdated as the routes or properties have changed", snapshot);
+                    }
+                    routesFromDirectory = getRoutesCollector().collectRoutesFromDirectory(
+                            camelContext,
+                            getRoutesExcludePattern(),
+                            getRoutesIncludePattern());
+                    if (snapshot != null) {
+                        routesToSnapshot = routesFromDirectory;
+                    }
+                }
                 routes.addAll(routesFromDirectory);
 
                 if (LOG.isDebugEnabled() && !routesFromDirectory.isEmpty()) {
@@ -211,6 +268,10 @@ public class RoutesConfigurer {
         // add the discovered routes
         addDiscoveredRoutes(camelContext, routes);
 
+        if (routesToSnapshot != null && !routesToSnapshot.isEmpty()) {
+            writeRoutesSnapshot(camelContext, routesToSnapshot, new File(getRoutesSnapshotFile()), snapshotFingerprint);
+        }
+
         // then discover and add templates
         Set<ConfigureRouteTemplates> set = camelContext.getRegistry().findByType(ConfigureRouteTemplates.class);
         for (ConfigureRouteTemplates crt : set) {
@@ -238,6 +299,124 @@ public class RoutesConfigurer {
         }
     }
 
+    /**
+     * Writes the routes which was loaded from directories as a snapshot in XML, which can be loaded on the next start,
+     * instead of discovering and parsing the routes again.
+     * <p/>
+     * Only routes loaded from XML or YAML are supported, as routes in Java (or other programming languages) can use
+     * processors, lambdas and beans which cannot be written as XML. And only routes are supported, so if any of the
+     * routes builders also have rests, route templates, templated routes, route configurations, or has configured
+     * anything that applies to all its routes (such as error handler, on exception, intercept and on completion), or
+     * has customized the {@link CamelContext} (such as beans or rest configuration) then the snapshot is not written.
+     * <p/>
+     * The property placeholders are not resolved, so the snapshot does not contain any (secret) property values. The
+     * snapshot contains a fingerprint of the routes and properties, so the routes are discovered again (and the
+     * snapshot is written again) when they are changed.
+     */
+    private void writeRoutesSnapshot(
+            CamelContext camelContext, Collection<RoutesBuilder> builders, File snapshot, String fingerprint) {
+        RoutesDefinition def = new RoutesDefinition();
+        for (RoutesBuilder builder : builders) {
+            boolean supported = builder instanceof RouteBuilder && isSnapshotSupported(((RouteBuilder) builder).getResource());
+            if (supported) {
+                RouteBuilder rb = (RouteBuilder) builder;
+                supported = rb.getRestCollection().getRests().isEmpty()
+                        && rb.getRouteTemplateCollection().getRouteTemplates().isEmpty()
+                        && rb.getTemplatedRouteCollection().getTemplatedRoutes().isEmpty()
+                        && rb.getCamelContextCustomizers().isEmpty()
+                        && isOnlyRoutes(camelContext, rb.getRouteCollection());
+                if (supported && builder instanceof RouteConfigurationBuilder) {
+                    RouteConfigurationBuilder rcb = (RouteConfigurationBuilder) builder;
+                    supported = rcb.getRouteConfigurationCollection().getRouteConfigurations().isEmpty();
+                }
+                if (supported) {
+                    def.getRoutes().addAll(rb.getRouteCollection().getRoutes());
+                }
+            }
+            if (!supported) {
+                LOG.info("Cannot write routes snapshot: {} because only XML or YAML files with only routes are supported,"
+                         + " but {} is not",
+                        snapshot, builder);
+                return;
+            }
+        }
+
+        try {
+            StopWatch watch = new StopWatch();
+            ModelToXMLDumper dumper = camelContext.adapt(ExtendedCamelContext.class).getModelToXMLDumper();
+            String xml = dumper.dumpModelAsXml(camelContext, def, false, false);
+            // store the fingerprint as a comment after the xml declaration
+            String comment = SNAPSHOT_FINGERPRINT_START + fingerprint + SNAPSHOT_FINGERPRINT_END;
+            int pos = xml.startsWith("<?xml") ? xml.indexOf("?>") + 2 : 0;
+            xml = xml.substring(0, pos) + "\n" + comment + "\n" + xml.substring(pos);
+            if (snapshot.getParentFile() != null) {
+                snapshot.getParentFile().mkdirs();
+            }
+            IOHelper.writeText(xml, snapshot);
+            LOG.info("Written snapshot of {} routes to: {} (took {})", def.getRoutes().size(), snapshot,
+                    TimeUtils.printDuration(watch.taken()));
+        } catch (Exception e) {
+            LOG.warn("Error writing routes snapshot: {} due to {}. This exception is ignored.", snapshot, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Computes the fingerprint of the given route resources (their locations and content) and the properties, which
+     * must be the same for the routes snapshot to be used.
+     */
+    private static String computeSnapshotFingerprint(CamelContext camelContext, Collection<Resource> resources)
+            throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        List<Resource> sorted = new ArrayList<>(resources);
+        sorted.sort(Comparator.comparing(Resource::getLocation));
+        for (Resource resource : sorted) {
+            digest.update(resource.getLocation().getBytes(StandardCharsets.UTF_8));
+            try (InputStream is = resource.getInputStream()) {
+                byte[] buffer = new byte[IOHelper.DEFAULT_BUFFER_SIZE];
+                int len;
+                while ((len = is.read(buffer)) != -1) {
+                    digest.update(buffer, 0, len);
+                }
+            }
+        }
+        Properties prop = camelContext.getPropertiesComponent().loadProperties();
+        for (String key : new TreeSet<>(prop.stringPropertyNames())) {
+            digest.update((key + "=" + prop.getProperty(key) + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static String readSnapshotFingerprint(File snapshot) throws IOException {
+        String xml = IOHelper.loadText(new FileInputStream(snapshot));
+        int start = xml.indexOf(SNAPSHOT_FINGERPRINT_START);
+        int end = start != -1 ? xml.indexOf(SNAPSHOT_FINGERPRINT_END, start) : -1;
+        return end != -1 ? xml.substring(start + SNAPSHOT_FINGERPRINT_START.length(), end) : null;
+    }
+
+    private static boolean isOnlyRoutes(CamelContext camelContext, RoutesDefinition routes) {
+        // the error handler from the context is also set on the routes, but it is not specific to the routes
+        ErrorHandlerFactory contextErrorHandler
+                = camelContext.adapt(ExtendedCamelContext.class).getErrorHandlerFactory();
+        boolean errorHandler = routes.getErrorHandlerFactory() != null
+                && routes.getErrorHandlerFactory() != contextErrorHandler;
+        return !errorHandler
+                && routes.getOnExceptions().isEmpty()
+                && routes.getIntercepts().isEmpty()
+                && routes.getInterceptFroms().isEmpty()
+                && routes.getInterceptSendTos().isEmpty()
+                && routes.getOnCompletions().isEmpty();
+    }
+
+    private static boolean isSnapshotSupported(Resource resource) {
+        String ext = resource != null && resource.getLocation() != null ? FileUtil.onlyExt(resource.getLocation(), true) : null;
+        return "xml".equals(ext) || "yaml".equals(ext) || "yml".equals(ext);
+    }
+
     /**
      * Discover routes and rests from directories and scan for modeline present in their source code, which is then
      * parsed using {@link ModelineFactory}.
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.impl.engine.DefaultBeanIntrospection;
+import org.apache.camel.support.PropertyBindingSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainBeanIntrospectionStartupReflectionTest {
+
+    @Test
+    public void testStartupReflection() throws Exception {
+        Main main = new Main();
+
+        // the beans are configured after the camel context is configured
+        main.addProperty("camel.beans.foo", "#class:org.apache.camel.main.MySedaBlockingQueueFactory");
+        main.addProperty("camel.beans.foo.counter", "123");
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        MySedaBlockingQueueFactory foo = camelContext.getRegistry().lookupByNameAndType("foo",
+                MySedaBlockingQueueFactory.class);
+        assertEquals(123, foo.getCounter());
+
+        DefaultBeanIntrospection bi
+                = (DefaultBeanIntrospection) camelContext.adapt(ExtendedCamelContext.class).getBeanIntrospection();
+        Map<String, Set<String>> reflection = bi.getStartupReflection();
+        assertTrue(reflection.containsKey(MySedaBlockingQueueFactory.class.getName()), reflection.toString());
+        assertTrue(reflection.get(MySedaBlockingQueueFactory.class.getName()).contains("counter"), reflection.toString());
+
+        // after startup then reflection is no longer recorded
+        MyFoo myFoo = new MyFoo();
+        PropertyBindingSupport.build().bind(camelContext, myFoo, "name", "Donkey");
+        assertEquals("Donkey", myFoo.getName());
+        assertFalse(bi.getStartupReflection().containsKey(MyFoo.class.getName()));
+
+        main.stop();
+    }
+}
@@ -56,6 +56,18 @@ public interface ManagedExchangeFactoryManagerMBean extends ManagedServiceMBean
     @ManagedAttribute(description = "Total number of exchanges discarded (such as when capacity is full)")
     Long getTotalDiscarded();
 
+    @ManagedAttribute(description = "Total number of exchanges created or acquired which has not been released or discarded (in use or leaked)")
+    Long getTotalUnreleased();
+
+    @ManagedAttribute(description = "Ratio of exchanges reused from the pool vs created new (if pooling is in use)")
+    Double getTotalHitRatio();
+
+    @ManagedAttribute(description = "Average number of message headers of the exchanges when released or discarded")
+    Double getTotalAverageHeaders();
+
+    @ManagedAttribute(description = "Average number of exchange properties of the exchanges when released or discarded")
+    Double getTotalAverageProperties();
+
     @ManagedOperation(description = "Lists all the statistics in tabular form")
     TabularData listStatistics();
 
@@ -59,6 +59,21 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Delta Processing Time [milliseconds]")
     long getDeltaProcessingTime();
 
+    @ManagedAttribute(description = "50th percentile Processing Time [milliseconds] (if histogram statistics is enabled)")
+    long getP50ProcessingTime();
+
+    @ManagedAttribute(description = "95th percentile Processing Time [milliseconds] (if histogram statistics is enabled)")
+    long getP95ProcessingTime();
+
+    @ManagedAttribute(description = "99th percentile Processing Time [milliseconds] (if histogram statistics is enabled)")
+    long getP99ProcessingTime();
+
+    @ManagedAttribute(description = "99.9th percentile Processing Time [milliseconds] (if histogram statistics is enabled)")
+    long getP999ProcessingTime();
+
+    @ManagedOperation(description = "Processing Time [milliseconds] at the given percentile (if histogram statistics is enabled)")
+    long processingTimePercentile(double percentile);
+
     @ManagedAttribute(description = "Last Exchange Completed Timestamp")
     Date getLastExchangeCompletedTimestamp();
 
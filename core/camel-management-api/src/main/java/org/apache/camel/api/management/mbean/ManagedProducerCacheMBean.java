@@ -33,6 +33,18 @@ public interface ManagedProducerCacheMBean extends ManagedServiceMBean {
     @ManagedOperation(description = "Purges the cache")
     void purge();
 
+    @ManagedAttribute(description = "Number of cache hits (a pooled producer was reused)")
+    Long getHits();
+
+    @ManagedAttribute(description = "Number of cache misses (a new producer was created)")
+    Long getMisses();
+
+    @ManagedAttribute(description = "Number of producers evicted from the cache")
+    Long getEvicted();
+
+    @ManagedOperation(description = "Resets the cache statistics")
+    void resetCacheStatistics();
+
     @ManagedAttribute(description = "EventNotifier enabled")
     Boolean isEventNotifierEnabled();
 
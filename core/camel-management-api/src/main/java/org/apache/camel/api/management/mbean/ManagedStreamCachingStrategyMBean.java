@@ -68,6 +68,12 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether to remove spool directory when stopping")
     boolean isRemoveSpoolDirectoryWhenStopping();
 
+    @ManagedAttribute(description = "Whether to spool to pooled direct memory instead of files")
+    boolean isSpoolDirectMemory();
+
+    @ManagedAttribute(description = "Maximum size in bytes of the pooled direct memory to spool to")
+    long getSpoolDirectMemoryMaxSize();
+
     @ManagedAttribute(description = "Whether any or all spool rules determines whether to spool")
     void setAnySpoolRules(boolean any);
 
@@ -66,6 +66,9 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
     private Boolean usePlatformMBeanServer = true;
     private Boolean onlyRegisterProcessorWithCustomId = false;
     private Boolean loadStatisticsEnabled = false;
+    private Boolean histogramStatisticsEnabled = false;
+    private Integer histogramPrecision = 4;
+    private Long histogramWindow = 60000L;
     private Boolean endpointRuntimeStatisticsEnabled;
     private Boolean registerAlways = false;
     private Boolean registerNewRoutes = true;
@@ -123,6 +126,10 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
             loadStatisticsEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.LOAD_STATISTICS_ENABLED);
             values.put(JmxSystemPropertyKeys.LOAD_STATISTICS_ENABLED, loadStatisticsEnabled);
         }
+        if (System.getProperty(JmxSystemPropertyKeys.HISTOGRAM_STATISTICS_ENABLED) != null) {
+            histogramStatisticsEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.HISTOGRAM_STATISTICS_ENABLED);
+            values.put(JmxSystemPropertyKeys.HISTOGRAM_STATISTICS_ENABLED, histogramStatisticsEnabled);
+        }
         if (System.getProperty(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED) != null) {
             endpointRuntimeStatisticsEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED);
             values.put(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED, endpointRuntimeStatisticsEnabled);
@@ -266,6 +273,36 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
         this.loadStatisticsEnabled = loadStatisticsEnabled;
     }
 
+    @Override
+    public Boolean getHistogramStatisticsEnabled() {
+        return histogramStatisticsEnabled;
+    }
+
+    @Override
+    public void setHistogramStatisticsEnabled(Boolean histogramStatisticsEnabled) {
+        this.histogramStatisticsEnabled = histogramStatisticsEnabled;
+    }
+
+    @Override
+    public Integer getHistogramPrecision() {
+        return histogramPrecision;
+    }
+
+    @Override
+    public void setHistogramPrecision(Integer histogramPrecision) {
+        this.histogramPrecision = histogramPrecision;
+    }
+
+    @Override
+    public Long getHistogramWindow() {
+        return histogramWindow;
+    }
+
+    @Override
+    public void setHistogramWindow(Long histogramWindow) {
+        this.histogramWindow = histogramWindow;
+    }
+
     @Override
     public Boolean getEndpointRuntimeStatisticsEnabled() {
         return endpointRuntimeStatisticsEnabled;
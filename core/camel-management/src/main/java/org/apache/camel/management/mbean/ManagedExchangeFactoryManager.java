@@ -106,6 +106,32 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
         return exchangeFactoryManager.getStatistics().getDiscardedCounter();
     }
 
+    @Override
+    public Long getTotalUnreleased() {
+        ExchangeFactory.Statistics statistics = exchangeFactoryManager.getStatistics();
+        return unreleased(statistics.getCreatedCounter(), statistics.getAcquiredCounter(),
+                statistics.getReleasedCounter(), statistics.getDiscardedCounter());
+    }
+
+    @Override
+    public Double getTotalHitRatio() {
+        ExchangeFactory.Statistics statistics = exchangeFactoryManager.getStatistics();
+        return hitRatio(statistics.getCreatedCounter(), statistics.getAcquiredCounter());
+    }
+
+    @Override
+    public Double getTotalAverageHeaders() {
+        ExchangeFactory.Statistics statistics = exchangeFactoryManager.getStatistics();
+        return average(statistics.getHeadersCounter(), statistics.getReleasedCounter(), statistics.getDiscardedCounter());
+    }
+
+    @Override
+    public Double getTotalAverageProperties() {
+        ExchangeFactory.Statistics statistics = exchangeFactoryManager.getStatistics();
+        return average(statistics.getPropertiesCounter(), statistics.getReleasedCounter(),
+                statistics.getDiscardedCounter());
+    }
+
     @Override
     public TabularData listStatistics() {
         try {
@@ -125,17 +151,30 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
                 long acquired = 0;
                 long released = 0;
                 long discarded = 0;
+                long headers = 0;
+                long properties = 0;
                 if (ef.isStatisticsEnabled()) {
                     created = ef.getStatistics().getCreatedCounter();
                     acquired = ef.getStatistics().getAcquiredCounter();
                     released = ef.getStatistics().getReleasedCounter();
                     discarded = ef.getStatistics().getDiscardedCounter();
+                    headers = ef.getStatistics().getHeadersCounter();
+                    properties = ef.getStatistics().getPropertiesCounter();
                 }
 
+                long unreleased = unreleased(created, acquired, released, discarded);
+                double hitRatio = hitRatio(created, acquired);
+                double averageHeaders = average(headers, released, discarded);
+                double averageProperties = average(properties, released, discarded);
+
                 CompositeData data = new CompositeDataSupport(
                         ct,
-                        new String[] { "url", "routeId", "capacity", "pooled", "created", "acquired", "released", "discarded" },
-                        new Object[] { url, routeId, capacity, size, created, acquired, released, discarded });
+                        new String[] {
+                                "url", "routeId", "capacity", "pooled", "created", "acquired", "released", "discarded",
+                                "unreleased", "hitRatio", "averageHeaders", "averageProperties" },
+                        new Object[] {
+                                url, routeId, capacity, size, created, acquired, released, discarded, unreleased,
+                                hitRatio, averageHeaders, averageProperties });
                 answer.put(data);
             }
             return answer;
@@ -143,4 +182,20 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
             throw RuntimeCamelException.wrapRuntimeCamelException(e);
         }
     }
+
+    private static long unreleased(long created, long acquired, long released, long discarded) {
+        // exchanges which are in use, or has leaked if the consumer is idle
+        return Math.max(0, (created + acquired) - (released + discarded));
+    }
+
+    private static double hitRatio(long created, long acquired) {
+        long total = created + acquired;
+        return total > 0 ? (double) acquired / total : 0;
+    }
+
+    private static double average(long count, long released, long discarded) {
+        // the sizes are counted when the exchanges are released or discarded
+        long total = released + discarded;
+        return total > 0 ? (double) count / total : 0;
+    }
 }
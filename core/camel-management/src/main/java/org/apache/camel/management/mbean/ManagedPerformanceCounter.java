@@ -23,6 +23,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedPerformanceCounterMBean;
 import org.apache.camel.management.PerformanceCounter;
+import org.apache.camel.spi.ManagementAgent;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.support.ExchangeHelper;
 
@@ -44,6 +45,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
     private Statistic meanProcessingTime;
+    private StatisticHistogram histogramProcessingTime;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -71,6 +73,11 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
         this.meanProcessingTime = new StatisticValue();
+        ManagementAgent agent = strategy.getManagementAgent();
+        if (agent != null && agent.getHistogramStatisticsEnabled() != null && agent.getHistogramStatisticsEnabled()) {
+            this.histogramProcessingTime
+                    = new StatisticHistogram(agent.getHistogramPrecision(), agent.getHistogramWindow());
+        }
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -93,6 +100,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
         meanProcessingTime.reset();
+        if (histogramProcessingTime != null) {
+            histogramProcessingTime.reset();
+        }
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -163,6 +173,31 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return deltaProcessingTime.getValue();
     }
 
+    @Override
+    public long getP50ProcessingTime() {
+        return processingTimePercentile(50);
+    }
+
+    @Override
+    public long getP95ProcessingTime() {
+        return processingTimePercentile(95);
+    }
+
+    @Override
+    public long getP99ProcessingTime() {
+        return processingTimePercentile(99);
+    }
+
+    @Override
+    public long getP999ProcessingTime() {
+        return processingTimePercentile(99.9);
+    }
+
+    @Override
+    public long processingTimePercentile(double percentile) {
+        return histogramProcessingTime != null ? histogramProcessingTime.getPercentile(percentile) : 0;
+    }
+
     @Override
     public Date getLastExchangeCompletedTimestamp() {
         long value = lastExchangeCompletedTimestamp.getValue();
@@ -240,6 +275,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         totalProcessingTime.updateValue(time);
         lastProcessingTime.updateValue(time);
         deltaProcessingTime.updateValue(time);
+        if (histogramProcessingTime != null) {
+            histogramProcessingTime.updateValue(time);
+        }
 
         long now = System.currentTimeMillis();
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
@@ -301,6 +339,12 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        if (histogramProcessingTime != null) {
+            sb.append(String.format(" p50ProcessingTime=\"%s\"", histogramProcessingTime.getPercentile(50)));
+            sb.append(String.format(" p95ProcessingTime=\"%s\"", histogramProcessingTime.getPercentile(95)));
+            sb.append(String.format(" p99ProcessingTime=\"%s\"", histogramProcessingTime.getPercentile(99)));
+            sb.append(String.format(" p999ProcessingTime=\"%s\"", histogramProcessingTime.getPercentile(99.9)));
+        }
 
         if (fullStats) {
             sb.append(String.format(" startTimestamp=\"%s\"", dateAsString(startTimestamp.getTime())));
@@ -57,6 +57,26 @@ public class ManagedProducerCache extends ManagedService implements ManagedProdu
         producerCache.purge();
     }
 
+    @Override
+    public Long getHits() {
+        return producerCache.getHits();
+    }
+
+    @Override
+    public Long getMisses() {
+        return producerCache.getMisses();
+    }
+
+    @Override
+    public Long getEvicted() {
+        return producerCache.getEvicted();
+    }
+
+    @Override
+    public void resetCacheStatistics() {
+        producerCache.resetCacheStatistics();
+    }
+
     @Override
     public Boolean isEventNotifierEnabled() {
         return producerCache.isEventNotifierEnabled();
@@ -133,6 +133,16 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.isRemoveSpoolDirectoryWhenStopping();
     }
 
+    @Override
+    public boolean isSpoolDirectMemory() {
+        return streamCachingStrategy.isSpoolDirectMemory();
+    }
+
+    @Override
+    public long getSpoolDirectMemoryMaxSize() {
+        return streamCachingStrategy.getSpoolDirectMemoryMaxSize();
+    }
+
     @Override
     public void setAnySpoolRules(boolean any) {
         streamCachingStrategy.setAnySpoolRules(any);
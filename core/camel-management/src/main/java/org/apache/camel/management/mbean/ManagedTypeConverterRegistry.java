@@ -64,6 +64,11 @@ public class ManagedTypeConverterRegistry extends ManagedService implements Mana
         return registry.getStatistics().getFailedCounter();
     }
 
+    @Override
+    public long getFallbackCounter() {
+        return registry.getStatistics().getFallbackCounter();
+    }
+
     @Override
     public void resetTypeConversionCounters() {
         registry.getStatistics().reset();
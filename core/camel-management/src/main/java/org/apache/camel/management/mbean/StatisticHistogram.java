@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A statistic which records the values in a fixed memory histogram, to calculate percentiles such as p99.
+ * <p/>
+ * The histogram uses logarithmic buckets where each power of two is split into linear sub buckets (similar to HDR
+ * histograms), which means the reported percentiles has a relative error of at most 1/2^precision. Values larger than
+ * 2^32 are recorded in the last bucket.
+ * <p/>
+ * The histogram covers a sliding time window which is kept as two rotating slots, each covering half of the window.
+ * This means the percentiles are calculated from at least the last half and at most the entire window.
+ * <p/>
+ * The recording is lock-free. As with the MAXIMUM and MINIMUM modes this is not 100% accurate as a value may be lost
+ * when a slot is rotated while its being recorded, which is on purpose to keep the overhead low.
+ */
+public class StatisticHistogram extends Statistic {
+
+    private static final int MAX_MAGNITUDE = 32;
+    private static final int SLOTS = 2;
+
+    private final int precision;
+    private final int subBuckets;
+    private final int buckets;
+    private final long interval;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray epochs;
+
+    /**
+     * Creates a histogram
+     *
+     * @param precision number of bits of precision, such as 4 for a relative error of 6.25%
+     * @param window    the sliding time window in millis
+     */
+    public StatisticHistogram(int precision, long window) {
+        if (precision < 1 || precision > 10) {
+            throw new IllegalArgumentException("Precision must be between 1 and 10, was: " + precision);
+        }
+        if (window < SLOTS) {
+            throw new IllegalArgumentException("Window must be at least " + SLOTS + " millis, was: " + window);
+        }
+        this.precision = precision;
+        this.subBuckets = 1 << precision;
+        this.buckets = (MAX_MAGNITUDE - precision + 1) << precision;
+        this.interval = window / SLOTS;
+        this.counts = new AtomicLongArray(buckets * SLOTS);
+        this.epochs = new AtomicLongArray(SLOTS);
+    }
+
+    @Override
+    public void updateValue(long newValue) {
+        long epoch = System.currentTimeMillis() / interval;
+        int slot = (int) (epoch % SLOTS);
+        long current = epochs.get(slot);
+        if (current != epoch && epochs.compareAndSet(slot, current, epoch)) {
+            // the slot is from an older window so clear it before its reused
+            int offset = slot * buckets;
+            for (int i = 0; i < buckets; i++) {
+                counts.set(offset + i, 0);
+            }
+        }
+        counts.incrementAndGet(slot * buckets + bucketIndex(newValue));
+    }
+
+    /**
+     * Number of values recorded in the current window
+     */
+    @Override
+    public long getValue() {
+        long answer = 0;
+        long epoch = System.currentTimeMillis() / interval;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (isCurrent(slot, epoch)) {
+                int offset = slot * buckets;
+                for (int i = 0; i < buckets; i++) {
+                    answer += counts.get(offset + i);
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Gets the value at the given percentile of the values recorded in the current window
+     *
+     * @param  percentile the percentile such as 99.9
+     * @return            the value (the highest value in the bucket), or 0 if no values has been recorded
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, was: " + percentile);
+        }
+
+        long epoch = System.currentTimeMillis() / interval;
+        long[] sum = new long[buckets];
+        long total = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (isCurrent(slot, epoch)) {
+                int offset = slot * buckets;
+                for (int i = 0; i < buckets; i++) {
+                    long num = counts.get(offset + i);
+                    sum[i] += num;
+                    total += num;
+                }
+            }
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long count = 0;
+        for (int i = 0; i < buckets; i++) {
+            count += sum[i];
+            if (count >= target) {
+                return highestValue(i);
+            }
+        }
+        return highestValue(buckets - 1);
+    }
+
+    @Override
+    public boolean isUpdated() {
+        return getValue() > 0;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "" + getValue();
+    }
+
+    private boolean isCurrent(int slot, long epoch) {
+        long num = epochs.get(slot);
+        return num == epoch || num == epoch - 1;
+    }
+
+    int bucketIndex(long value) {
+        if (value < subBuckets) {
+            return value < 0 ? 0 : (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude >= MAX_MAGNITUDE) {
+            return buckets - 1;
+        }
+        int shift = magnitude - precision;
+        return ((shift + 1) << precision) + (int) ((value >>> shift) - subBuckets);
+    }
+
+    long highestValue(int index) {
+        if (index < subBuckets) {
+            return index;
+        }
+        int shift = (index >> precision) - 1;
+        long lowest = (long) ((index & (subBuckets - 1)) + subBuckets) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+}
@@ -21,6 +21,8 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -37,6 +39,7 @@ import org.junit.jupiter.api.condition.OS;
 import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_SERVICE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisabledOnOs(OS.AIX)
 public class ManagedPooledExchangeTest extends ManagementTestSupport {
@@ -106,6 +109,26 @@ public class ManagedPooledExchangeTest extends ManagementTestSupport {
 
         num = (Long) mbeanServer.getAttribute(on, "TotalDiscarded");
         assertEquals(0, num.intValue());
+
+        num = (Long) mbeanServer.getAttribute(on, "TotalUnreleased");
+        assertEquals(0, num.intValue());
+
+        Double ratio = (Double) mbeanServer.getAttribute(on, "TotalHitRatio");
+        assertEquals(2d / 3d, ratio, 0.001);
+
+        // each exchange has at least the myheader header and myprop property
+        Double average = (Double) mbeanServer.getAttribute(on, "TotalAverageHeaders");
+        assertTrue(average >= 1, "Should have headers: " + average);
+        average = (Double) mbeanServer.getAttribute(on, "TotalAverageProperties");
+        assertTrue(average >= 1, "Should have properties: " + average);
+
+        TabularData data = (TabularData) mbeanServer.invoke(on, "listStatistics", null, null);
+        assertEquals(1, data.size());
+        CompositeData row = (CompositeData) data.values().iterator().next();
+        assertEquals(1L, row.get("created"));
+        assertEquals(0L, row.get("unreleased"));
+        assertEquals(2d / 3d, (Double) row.get("hitRatio"), 0.001);
+        assertTrue((Double) row.get("averageHeaders") >= 1);
     }
 
     @Override
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedRouteHistogramStatisticsTest extends ManagementTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testHistogramStatisticsAreDisabledByDefault() throws Exception {
+        context.addRoutes(createRoutes());
+        context.start();
+
+        sendMessages();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_ROUTE, "foo");
+        assertEquals(0L, mbeanServer.getAttribute(on, "P50ProcessingTime"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "P99ProcessingTime"));
+    }
+
+    @Test
+    public void testEnableHistogramStatistics() throws Exception {
+        context.getManagementStrategy().getManagementAgent().setHistogramStatisticsEnabled(true);
+        context.addRoutes(createRoutes());
+        context.start();
+
+        sendMessages();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_ROUTE, "foo");
+
+        // most of the messages are fast, and only a few are slow
+        Long p50 = (Long) mbeanServer.getAttribute(on, "P50ProcessingTime");
+        Long p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+        Long p999 = (Long) mbeanServer.getAttribute(on, "P999ProcessingTime");
+        assertTrue(p50 < 50, "Should be fast: " + p50);
+        assertTrue(p99 >= 100, "Should be slow: " + p99);
+        assertTrue(p999 >= p99);
+
+        Long p = (Long) mbeanServer.invoke(on, "processingTimePercentile", new Object[] { 99d },
+                new String[] { "double" });
+        assertEquals(p99, p);
+
+        String xml = (String) mbeanServer.invoke(on, "dumpStatsAsXml", new Object[] { false },
+                new String[] { "boolean" });
+        assertTrue(xml.contains("p99ProcessingTime=\"" + p99 + "\""), xml);
+
+        // also for the processors
+        on = getCamelObjectName(TYPE_PROCESSOR, "slow");
+        p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+        assertTrue(p99 >= 100, "Should be slow: " + p99);
+
+        // and reset
+        mbeanServer.invoke(on, "reset", null, null);
+        p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+        assertEquals(0L, p99.longValue());
+    }
+
+    private void sendMessages() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(100);
+        for (int i = 0; i < 100; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello World", "slow", i % 20 == 0);
+        }
+        assertMockEndpointsSatisfied();
+    }
+
+    private RouteBuilder createRoutes() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo")
+                        .process(exchange -> {
+                            if (exchange.getMessage().getHeader("slow", boolean.class)) {
+                                Thread.sleep(100);
+                            }
+                        }).id("slow")
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -36,6 +36,9 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
+ * <p/>
+ * If {@link StreamCachingStrategy#isSpoolDirectMemory()} is enabled then the content is spooled to pooled direct
+ * (off-heap) memory buffers instead of a temp file, which are released back to the pool in the same way.
  */
 public class CachedOutputStream extends OutputStream {
 
@@ -70,6 +73,7 @@ public class CachedOutputStream extends OutputStream {
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
             tempFileManager.cleanUpTempFile();
+            tempFileManager.releaseBuffers();
         }
     }
 
@@ -151,8 +155,13 @@ public class CachedOutputStream extends OutputStream {
         flush();
         ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
         try {
-            // creates an tmp file and a file output stream
-            currentStream = tempFileManager.createOutputStream(strategy);
+            if (strategy.isSpoolDirectMemory()) {
+                // spools to direct memory buffers (which falls back to a tmp file if the direct memory is used up)
+                currentStream = tempFileManager.createDirectOutputStream(strategy);
+            } else {
+                // creates an tmp file and a file output stream
+                currentStream = tempFileManager.createOutputStream(strategy);
+            }
             bout.writeTo(currentStream);
         } finally {
             // ensure flag is flipped to file based
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+
+/**
+ * A {@link StreamCache} for data spooled to direct (off-heap) memory buffers.
+ * <p/>
+ * Copies of this stream cache share the same buffers, which are released back to the pool when all the exchanges using
+ * them are done.
+ */
+public final class DirectBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final TempFileManager tempFileManager;
+    private final ByteBuffer[] buffers;
+    private final long length;
+    private int index;
+
+    DirectBufferInputStreamCache(TempFileManager tempFileManager) {
+        this.tempFileManager = tempFileManager;
+        List<ByteBuffer> spooled = tempFileManager.getBuffers();
+        this.buffers = new ByteBuffer[spooled.size()];
+        long total = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            // use read-only views so each stream cache has its own position on the shared memory
+            buffers[i] = spooled.get(i).duplicate().flip().asReadOnlyBuffer();
+            total += buffers[i].remaining();
+        }
+        this.length = total;
+    }
+
+    private DirectBufferInputStreamCache(DirectBufferInputStreamCache source) {
+        this.tempFileManager = source.tempFileManager;
+        this.buffers = new ByteBuffer[source.buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = source.buffers[i].duplicate().rewind();
+        }
+        this.length = source.length;
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (ByteBuffer buffer : buffers) {
+            buffer.rewind();
+        }
+        index = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        byte[] chunk = new byte[8192];
+        int len;
+        while ((len = read(chunk, 0, chunk.length)) != -1) {
+            os.write(chunk, 0, len);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        tempFileManager.addExchange(exchange);
+        return new DirectBufferInputStreamCache(this);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkNotReleased();
+        long remaining = 0;
+        for (int i = index; i < buffers.length; i++) {
+            remaining += buffers[i].remaining();
+        }
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int read() throws IOException {
+        ByteBuffer buffer = nextBuffer();
+        return buffer != null ? buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuffer buffer = nextBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+        int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        ByteBuffer buffer;
+        while (skipped < n && (buffer = nextBuffer()) != null) {
+            int step = (int) Math.min(n - skipped, buffer.remaining());
+            buffer.position(buffer.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    private ByteBuffer nextBuffer() throws IOException {
+        checkNotReleased();
+        while (index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    private void checkNotReleased() throws IOException {
+        if (tempFileManager.isReleased()) {
+            throw new IOException("Cannot read from stream cache as its direct memory has been released");
+        }
+    }
+
+}
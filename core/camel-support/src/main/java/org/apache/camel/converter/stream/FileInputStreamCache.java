@@ -23,6 +23,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -193,6 +194,9 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
      * Collects all FileInputStreamCache instances of the temporary file. Counts the number of exchanges which have a
      * FileInputStreamCache instance of the temporary file. Deletes the temporary file, if all exchanges are done.
      * 
+     * When spooling to direct memory, then the direct memory buffers are managed instead of the temporary file, and are
+     * released back to the pool, if all exchanges are done.
+     * 
      * @see CachedOutputStream
      */
     static class TempFileManager {
@@ -206,6 +210,9 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private StreamCachingStrategy strategy; // direct memory buffers
+        private List<ByteBuffer> buffers;
+        private volatile boolean released;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -252,6 +259,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                             }
                             try {
                                 cleanUpTempFile();
+                                releaseBuffers();
                             } catch (Exception e) {
                                 LOG.warn("Error deleting temporary cache file: {}. This exception will be ignored.",
                                         tempFile, e);
@@ -283,23 +291,27 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
-        OutputStream createOutputStream(StreamCachingStrategy strategy) throws IOException {
-            // should only be called once
-            if (tempFile != null) {
-                throw new IllegalStateException("The method 'createOutputStream' can only be called once!");
-            }
+        private void checkExchangesNotDone() throws IOException {
             if (closedOnCompletion && exchangeCounter.get() == 0) {
-                // exchange was already stopped -> in this case the tempFile would never be deleted.
+                // exchange was already stopped -> in this case the spool would never be removed.
                 // This can happen when in the splitter or Multi-cast case with parallel processing, the CachedOutputStream is created when the main unit of work
-                // is still active, but has a timeout and after the timeout which stops the unit of work the FileOutputStream is created.
+                // is still active, but has a timeout and after the timeout which stops the unit of work the spool is created.
                 // We only can throw here an Exception and inform the user that the processing took longer than the set timeout.
                 String error
-                        = "Cannot create a FileOutputStream for Stream Caching, because this FileOutputStream would never be removed from the file system."
+                        = "Cannot create a spool for Stream Caching, because this spool would never be removed."
                           + " This situation can happen with a Splitter or Multi Cast in parallel processing if there is a timeout set on the Splitter or Multi Cast, "
                           + " and the processing in a sub-branch takes longer than the timeout. Consider to increase the timeout.";
                 LOG.error(error);
                 throw new IOException(error);
             }
+        }
+
+        OutputStream createOutputStream(StreamCachingStrategy strategy) throws IOException {
+            // should only be called once
+            if (tempFile != null) {
+                throw new IllegalStateException("The method 'createOutputStream' can only be called once!");
+            }
+            checkExchangesNotDone();
             tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
 
             LOG.trace("Creating temporary stream cache file: {}", tempFile);
@@ -329,7 +341,25 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return out;
         }
 
-        FileInputStreamCache newStreamCache() throws IOException {
+        /**
+         * Creates an output stream which spools to direct memory buffers acquired from the strategy, and which falls
+         * back to spool to a temporary file if the direct memory is used up.
+         */
+        OutputStream createDirectOutputStream(StreamCachingStrategy strategy) throws IOException {
+            // should only be called once
+            if (buffers != null) {
+                throw new IllegalStateException("The method 'createDirectOutputStream' can only be called once!");
+            }
+            checkExchangesNotDone();
+            this.strategy = strategy;
+            this.buffers = new ArrayList<>();
+            return new DirectBufferOutputStream(strategy);
+        }
+
+        StreamCache newStreamCache() throws IOException {
+            if (buffers != null && tempFile == null) {
+                return new DirectBufferInputStreamCache(this);
+            }
             try {
                 return new FileInputStreamCache(this);
             } catch (FileNotFoundException e) {
@@ -358,6 +388,24 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
+        synchronized void releaseBuffers() {
+            if (buffers != null && !released) {
+                released = true;
+                for (ByteBuffer buffer : buffers) {
+                    strategy.releaseSpoolBuffer(buffer);
+                }
+                buffers.clear();
+            }
+        }
+
+        List<ByteBuffer> getBuffers() {
+            return buffers;
+        }
+
+        boolean isReleased() {
+            return released;
+        }
+
         File getTempFile() {
             return tempFile;
         }
@@ -366,6 +414,83 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return ciphers;
         }
 
+        /**
+         * Writes to direct memory buffers, and falls back to a temporary file if the direct memory is used up.
+         */
+        private final class DirectBufferOutputStream extends OutputStream {
+
+            private final StreamCachingStrategy strategy;
+            private ByteBuffer current;
+            private OutputStream fallback;
+
+            private DirectBufferOutputStream(StreamCachingStrategy strategy) {
+                this.strategy = strategy;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                if (fallback == null && ensureCapacity()) {
+                    current.put((byte) b);
+                } else {
+                    fallback.write(b);
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                while (len > 0) {
+                    if (fallback != null || !ensureCapacity()) {
+                        fallback.write(b, off, len);
+                        return;
+                    }
+                    int n = Math.min(len, current.remaining());
+                    current.put(b, off, n);
+                    off += n;
+                    len -= n;
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (fallback != null) {
+                    fallback.flush();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (fallback != null) {
+                    fallback.close();
+                }
+            }
+
+            private boolean ensureCapacity() throws IOException {
+                if (current != null && current.hasRemaining()) {
+                    return true;
+                }
+                ByteBuffer buffer = released ? null : strategy.acquireSpoolBuffer();
+                if (buffer != null) {
+                    synchronized (TempFileManager.this) {
+                        buffers.add(buffer);
+                    }
+                    current = buffer;
+                    return true;
+                }
+
+                // direct memory is used up so move what we have to a temporary file and continue there
+                LOG.trace("Direct memory for spooling is used up, falling back to spool to temporary file");
+                fallback = createOutputStream(strategy);
+                for (ByteBuffer spooled : buffers) {
+                    ByteBuffer data = spooled.duplicate().flip();
+                    byte[] chunk = new byte[data.remaining()];
+                    data.get(chunk);
+                    fallback.write(chunk);
+                }
+                releaseBuffers();
+                current = null;
+                return false;
+            }
+        }
     }
 
 }
@@ -17,13 +17,15 @@
 package org.apache.camel.support;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -33,7 +35,6 @@ import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static java.util.Comparator.comparing;
 import static org.apache.camel.TimeoutMap.Listener.Type.Evict;
 import static org.apache.camel.TimeoutMap.Listener.Type.Put;
 import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
@@ -48,12 +49,27 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * a background task which check for old entries to purge. This implementation will shutdown the scheduler if its being
  * stopped. You must also invoke {@link #start()} to startup the timeout map, before its ready to be used. And you must
  * invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * The entries are scheduled in a hashed timing wheel, where each slot covers one poll period, so the background task
+ * only needs to check the entries in the slots which has passed since the last poll, instead of scanning all the
+ * entries in the map. This makes adding and removing entries O(1), and purging proportional to the number of entries
+ * that are due, which matters when there are many pending entries (such as aggregation groups or request/reply
+ * correlations).
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
+    // number of slots in the timing wheel (must be a power of two)
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
     private final ConcurrentMap<K, TimeoutMapEntry<K, V>> map = new ConcurrentHashMap<>();
+    // the slots are created on demand to keep the footprint low for maps with few entries
+    private final AtomicReferenceArray<Set<TimeoutMapEntry<K, V>>> wheel = new AtomicReferenceArray<>(WHEEL_SIZE);
+    private final long tickTime;
+    // the last tick which has been purged (or -1 if not purged yet)
+    private volatile long lastTick = -1;
     private final ScheduledExecutorService executor;
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
@@ -78,6 +94,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         this.executor = executor;
         this.purgePollTime = requestMapPollTimeMillis;
         this.lock = lock;
+        this.tickTime = Math.max(1, requestMapPollTimeMillis);
     }
 
     @Override
@@ -90,6 +107,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
                 return null;
             }
             updateExpireTime(entry);
+            schedule(entry);
         } finally {
             lock.unlock();
         }
@@ -103,6 +121,8 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            unschedule(result);
+            schedule(entry);
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -119,6 +139,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null) {
+                schedule(entry);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -133,7 +156,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> entry = map.remove(key);
+            unschedule(entry);
+            value = unwrap(entry);
             return value;
         } finally {
             lock.unlock();
@@ -174,28 +199,49 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         }
 
         long now = currentTime();
+        long tick = now / tickTime;
 
-        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
+        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>();
         lock.lock();
         try {
-            // need to find the expired entries and add to the expired list
-            for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
-                if (entry.getValue().getExpireTime() < now) {
-                    if (isValidForEviction(entry.getValue())) {
-                        log.debug("Evicting inactive entry ID: {}", entry.getValue());
-                        expired.add(entry.getValue());
+            // need to find the expired entries in the slots which has passed since last time and add to the expired list
+            long from = lastTick + 1;
+            if (lastTick < 0 || tick - from >= WHEEL_SIZE) {
+                // first time or the entire wheel has passed, so check all slots
+                from = tick - WHEEL_SIZE + 1;
+            }
+            for (long t = from; t <= tick; t++) {
+                Set<TimeoutMapEntry<K, V>> entries = wheel.get((int) (t & WHEEL_MASK));
+                if (entries == null) {
+                    continue;
+                }
+                for (TimeoutMapEntry<K, V> entry : entries) {
+                    // the slot can have entries which expires in a later round of the wheel
+                    if (entry.getExpireTime() < now) {
+                        if (isValidForEviction(entry)) {
+                            log.debug("Evicting inactive entry ID: {}", entry);
+                            expired.add(entry);
+                        } else if (t < tick) {
+                            // check again on the next purge
+                            entries.remove(entry);
+                            entry.slot = (int) (tick & WHEEL_MASK);
+                            slotEntries(entry.slot).add(entry);
+                        }
                     }
                 }
             }
+            // the current slot is not yet fully passed so it must be checked again on the next purge
+            lastTick = tick - 1;
 
             // if we found any expired then we need to sort, onEviction and remove
             if (!expired.isEmpty()) {
                 // sort according to the expired time so we got the first expired first
-                expired.sort(comparing(TimeoutMapEntry::getExpireTime));
+                Collections.sort(expired);
 
                 // and must remove from list after we have fired the notifications
                 for (TimeoutMapEntry<K, V> entry : expired) {
-                    map.remove(entry.getKey());
+                    map.remove(entry.getKey(), entry);
+                    unschedule(entry);
                 }
             }
         } finally {
@@ -224,6 +270,43 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return entry == null ? null : entry.getValue();
     }
 
+    /**
+     * Schedules (or re-schedules) the entry in the slot of the timing wheel for its expire time
+     */
+    private void schedule(TimeoutMapEntry<K, V> entry) {
+        long tick = entry.getExpireTime() / tickTime;
+        long last = lastTick;
+        if (last >= 0 && tick <= last) {
+            // the slot has already been purged, so use the next slot to be purged
+            tick = last + 1;
+        }
+        int slot = (int) (tick & WHEEL_MASK);
+        if (entry.slot != slot) {
+            unschedule(entry);
+            entry.slot = slot;
+            slotEntries(slot).add(entry);
+        }
+    }
+
+    private Set<TimeoutMapEntry<K, V>> slotEntries(int slot) {
+        Set<TimeoutMapEntry<K, V>> answer = wheel.get(slot);
+        if (answer == null) {
+            wheel.compareAndSet(slot, null, ConcurrentHashMap.newKeySet());
+            answer = wheel.get(slot);
+        }
+        return answer;
+    }
+
+    private void unschedule(TimeoutMapEntry<K, V> entry) {
+        if (entry != null && entry.slot != -1) {
+            Set<TimeoutMapEntry<K, V>> entries = wheel.get(entry.slot);
+            if (entries != null) {
+                entries.remove(entry);
+            }
+            entry.slot = -1;
+        }
+    }
+
     @Override
     public void addListener(Listener<K, V> listener) {
         this.listeners.add(listener);
@@ -278,6 +361,10 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         }
         // clear map if we stop
         map.clear();
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.set(i, null);
+        }
+        lastTick = -1;
     }
 
 }
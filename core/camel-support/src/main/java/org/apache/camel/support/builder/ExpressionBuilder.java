@@ -71,7 +71,27 @@ public class ExpressionBuilder {
      * @return an expression object which will return the header value
      */
     public static Expression headerExpression(final String headerName) {
-        return headerExpression(simpleExpression(headerName));
+        if (LanguageSupport.hasSimpleFunction(headerName)) {
+            return headerExpression(simpleExpression(headerName));
+        }
+        // the name is a constant so we can lookup the header directly
+        // without evaluating and converting the name on every exchange
+        return new ExpressionAdapter() {
+            @Override
+            public Object evaluate(Exchange exchange) {
+                Object header = exchange.getIn().getHeader(headerName);
+                if (header == null) {
+                    // fall back on a property
+                    header = exchange.getProperty(headerName);
+                }
+                return header;
+            }
+
+            @Override
+            public String toString() {
+                return "header(" + headerName + ")";
+            }
+        };
     }
 
     /**
@@ -476,7 +496,22 @@ public class ExpressionBuilder {
      * @return an expression object which will return the property value
      */
     public static Expression exchangePropertyExpression(final String propertyName) {
-        return exchangePropertyExpression(simpleExpression(propertyName));
+        if (LanguageSupport.hasSimpleFunction(propertyName)) {
+            return exchangePropertyExpression(simpleExpression(propertyName));
+        }
+        // the name is a constant so we can lookup the property directly
+        // without evaluating and converting the name on every exchange
+        return new ExpressionAdapter() {
+            @Override
+            public Object evaluate(Exchange exchange) {
+                return exchange.getProperty(propertyName);
+            }
+
+            @Override
+            public String toString() {
+                return "exchangeProperty(" + propertyName + ")";
+            }
+        };
     }
 
     /**
@@ -1538,9 +1573,14 @@ public class ExpressionBuilder {
         return new ExpressionAdapter() {
 
             private Collection<Object> col;
+            private String text;
 
             @Override
             public Object evaluate(Exchange exchange) {
+                if (text != null) {
+                    // all the expressions are constant
+                    return text;
+                }
                 StringBuilder buffer = new StringBuilder();
                 if (col != null) {
                     // optimize for constant expressions so we can do this a bit faster
@@ -1579,14 +1619,31 @@ public class ExpressionBuilder {
                     // this can be common with the simple language where you use it for templating
                     // by mixing string text and simple functions together (or via the log EIP)
                     col = new ArrayList<>(expressions.size());
+                    StringBuilder sb = null;
                     for (Expression expression : expressions) {
                         if (expression instanceof ConstantExpressionAdapter) {
+                            // merge adjacent constant values into a single text
                             Object value = ((ConstantExpressionAdapter) expression).getValue();
-                            col.add(value.toString());
+                            if (sb == null) {
+                                sb = new StringBuilder();
+                            }
+                            if (value != null) {
+                                sb.append(value);
+                            }
                         } else {
+                            if (sb != null) {
+                                col.add(sb.toString());
+                                sb = null;
+                            }
                             col.add(expression);
                         }
                     }
+                    if (sb != null) {
+                        col.add(sb.toString());
+                    }
+                    if (col.size() == 1 && sb != null) {
+                        this.text = sb.toString();
+                    }
                 }
             }
 
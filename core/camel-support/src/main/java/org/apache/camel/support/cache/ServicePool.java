@@ -16,13 +16,16 @@
  */
 package org.apache.camel.support.cache;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import org.apache.camel.Endpoint;
@@ -49,10 +52,15 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     // keep track of all singleton endpoints with a pooled producer that are evicted
     // for multi pool then they have their own house-keeping for evictions (more complex)
     private final ConcurrentMap<Endpoint, Pool<S>> singlePoolEvicted = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
     private int capacity;
     private Map<S, S> cache;
     // synchronizes access only to cache
-    private final Object cacheLock;
+    private final Lock cacheLock;
+    // whether the cache is thread-safe (such as from camel-caffeine-lrucache) and can be accessed without locking
+    private final boolean cacheConcurrent;
 
     private interface Pool<S> {
         S acquire() throws Exception;
@@ -73,7 +81,8 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         this.getEndpoint = getEndpoint;
         this.capacity = capacity;
         this.cache = capacity > 0 ? LRUCacheFactory.newLRUCache(capacity, this::onEvict) : null;
-        this.cacheLock = capacity > 0 ? new Object() : null;
+        this.cacheLock = capacity > 0 ? new ReentrantLock() : null;
+        this.cacheConcurrent = cache instanceof LRUCache;
     }
 
     /**
@@ -84,6 +93,7 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      * the same time its being evicted.
      */
     protected void onEvict(S s) {
+        evicted.increment();
         Endpoint e = getEndpoint.apply(s);
         Pool<S> p = pool.get(e);
         if (p != null) {
@@ -111,19 +121,36 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         }
         S s = getOrCreatePool(endpoint).acquire();
         if (s != null && cache != null) {
-            if (isStoppingOrStopped()) {
-                // during stopping then access to the cache is synchronized
-                synchronized (cacheLock) {
+            if (cacheConcurrent && !isStoppingOrStopped()) {
+                // a thread-safe cache can keep track of every usage without locking
+                cache.putIfAbsent(s, s);
+            } else if (cacheLock.tryLock()) {
+                // the cache is not thread-safe by default, so keep track of the usage (to evict the least recently used)
+                // only when the cache is not in use by another thread, so reusing a producer/consumer does not wait
+                try {
                     cache.putIfAbsent(s, s);
+                } finally {
+                    cacheLock.unlock();
                 }
-            } else {
-                // optimize for normal operation
-                cache.putIfAbsent(s, s);
             }
         }
         return s;
     }
 
+    /**
+     * Adds the newly created producer/consumer to the cache, which must always be done so it can be evicted.
+     */
+    private void onCreated(S s) {
+        if (cache != null) {
+            cacheLock.lock();
+            try {
+                cache.putIfAbsent(s, s);
+            } finally {
+                cacheLock.unlock();
+            }
+        }
+    }
+
     /**
      * Releases the producer/consumer back to the pool
      *
@@ -158,6 +185,36 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         return pool.values().stream().mapToInt(Pool::size).sum();
     }
 
+    /**
+     * Number of times a producer/consumer was acquired from the pool (reused)
+     */
+    public long getHits() {
+        return hits.longValue();
+    }
+
+    /**
+     * Number of times a producer/consumer had to be created because there was none in the pool
+     */
+    public long getMisses() {
+        return misses.longValue();
+    }
+
+    /**
+     * Number of producers/consumers evicted from the pool
+     */
+    public long getEvicted() {
+        return evicted.longValue();
+    }
+
+    /**
+     * Resets the hits, misses and evicted statistics
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
     /**
      * Cleanup the pool (removing stale instances that should be evicted)
      */
@@ -189,9 +246,12 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         pool.values().forEach(Pool::stop);
         pool.clear();
         if (cache != null) {
-            synchronized (cacheLock) {
+            cacheLock.lock();
+            try {
                 cache.values().forEach(ServicePool::stop);
                 cache.clear();
+            } finally {
+                cacheLock.unlock();
             }
         }
         singlePoolEvicted.values().forEach(Pool::stop);
@@ -230,18 +290,26 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public S acquire() throws Exception {
             cleanupEvicts();
 
-            if (s == null) {
+            S answer = s;
+            if (answer == null) {
                 synchronized (this) {
-                    if (s == null) {
+                    answer = s;
+                    if (answer == null) {
+                        misses.increment();
                         LOG.trace("Creating service from endpoint: {}", endpoint);
-                        S tempS = creator.apply(endpoint);
-                        endpoint.getCamelContext().addService(tempS, true, true);
-                        s = tempS;
+                        answer = creator.apply(endpoint);
+                        endpoint.getCamelContext().addService(answer, true, true);
+                        s = answer;
+                        onCreated(answer);
+                    } else {
+                        hits.increment();
                     }
                 }
+            } else {
+                hits.increment();
             }
-            LOG.trace("Acquired service: {}", s);
-            return s;
+            LOG.trace("Acquired service: {}", answer);
+            return answer;
         }
 
         @Override
@@ -283,9 +351,11 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
                 for (Map.Entry<Endpoint, Pool<S>> entry : singlePoolEvicted.entrySet()) {
                     Endpoint e = entry.getKey();
                     Pool<S> p = entry.getValue();
-                    doStop(e);
-                    p.stop();
-                    singlePoolEvicted.remove(e);
+                    // only the thread that removes the entry should stop it
+                    if (singlePoolEvicted.remove(e, p)) {
+                        doStop(e);
+                        p.stop();
+                    }
                 }
             }
         }
@@ -305,12 +375,14 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     /**
      * Pool used for non-singleton producers or consumers which are not thread-safe and can only be used by one worker
      * thread at any given time.
+     * <p/>
+     * The pool does not use locking, as the queue of idle producers/consumers is thread-safe, and creating new
+     * producers/consumers happens outside the queue (so concurrent threads do not wait for each other).
      */
     private class MultiplePool implements Pool<S> {
-        private final Object lock = new Object();
         private final Endpoint endpoint;
         private final BlockingQueue<S> queue;
-        private final List<S> evicts;
+        private final Queue<S> evicts;
 
         private MultiplePool() {
             // only used for eager classloading
@@ -322,20 +394,14 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         MultiplePool(Endpoint endpoint) {
             this.endpoint = endpoint;
             this.queue = new ArrayBlockingQueue<>(capacity);
-            this.evicts = new ArrayList<>();
+            this.evicts = new ConcurrentLinkedQueue<>();
         }
 
         private void cleanupEvicts() {
-            if (!evicts.isEmpty()) {
-                synchronized (lock) {
-                    if (!evicts.isEmpty()) {
-                        for (S evict : evicts) {
-                            doStop(evict);
-                            queue.remove(evict);
-                        }
-                        evicts.clear();
-                    }
-                }
+            S evict;
+            while ((evict = evicts.poll()) != null) {
+                queue.remove(evict);
+                doStop(evict);
             }
         }
 
@@ -343,13 +409,14 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public S acquire() throws Exception {
             cleanupEvicts();
 
-            S s;
-            synchronized (lock) {
-                s = queue.poll();
-                if (s == null) {
-                    s = creator.apply(endpoint);
-                    s.start();
-                }
+            S s = queue.poll();
+            if (s == null) {
+                misses.increment();
+                s = creator.apply(endpoint);
+                s.start();
+                onCreated(s);
+            } else {
+                hits.increment();
             }
             return s;
         }
@@ -358,11 +425,9 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public void release(S s) {
             cleanupEvicts();
 
-            synchronized (lock) {
-                if (!queue.offer(s)) {
-                    // there is no room so lets just stop and discard this
-                    doStop(s);
-                }
+            if (!queue.offer(s)) {
+                // there is no room so lets just stop and discard this
+                doStop(s);
             }
         }
 
@@ -373,19 +438,17 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
 
         @Override
         public void stop() {
-            synchronized (lock) {
-                queue.forEach(this::doStop);
-                queue.clear();
-                pool.remove(endpoint);
+            S s;
+            while ((s = queue.poll()) != null) {
+                doStop(s);
             }
+            pool.remove(endpoint);
         }
 
         @Override
         public void evict(S s) {
             // to be evicted
-            synchronized (lock) {
-                evicts.add(s);
-            }
+            evicts.add(s);
         }
 
         @Override
@@ -0,0 +1,584 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which stores the keys in an
+ * append-only log.
+ * <p/>
+ * Unlike {@link FileIdempotentRepository} all the keys are kept in an in-memory index which is rebuilt from the log on
+ * startup, so {@link #contains(String)} never has to scan the file. Adding a key appends a record to the log, and
+ * removing a key appends a tombstone record, so neither operation rewrites the file. The log is written through a
+ * single long-lived {@link FileChannel}, and records appended concurrently by different threads are group committed in
+ * a single write (and optional sync to disk).
+ * <p/>
+ * Removed keys leave obsolete records in the log, which are reclaimed by compacting the log once the number of obsolete
+ * records exceeds the {@link #getCompactionThreshold()} and outnumbers the live keys. The compaction is done in the
+ * background when a {@link CamelContext} has been set, and new keys can be added while the log is compacted.
+ * <p/>
+ * As every key is held in memory, this repository is not bounded in size. Keys must not contain line breaks, as they
+ * separate the records in the log, and an {@link IllegalArgumentException} is thrown for such keys.
+ */
+@ManagedResource(description = "File log based idempotent repository")
+public class FileLogIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileLogIdempotentRepository.class);
+
+    private static final byte ADD_RECORD = '+';
+    private static final byte REMOVE_RECORD = '-';
+    private static final byte STORE_DELIMITER = '\n';
+
+    private final Set<String> index = ConcurrentHashMap.newKeySet();
+    // guards the index and the pending buffer so they are always updated together
+    private final Lock appendLock = new ReentrantLock();
+    // guards writing to the channel, which must be obtained before the append lock
+    private final Lock flushLock = new ReentrantLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    private CamelContext camelContext;
+    private ExecutorService executorService;
+    private File fileStore;
+    private boolean sync;
+    private long compactionThreshold = 1000;
+
+    private FileChannel channel;
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private ByteArrayOutputStream flushing = new ByteArrayOutputStream();
+    private long appendSequence;
+    private volatile long flushedSequence;
+    private volatile long records;
+    private long clears;
+
+    public FileLogIdempotentRepository() {
+    }
+
+    public FileLogIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new file log based repository.
+     *
+     * @param fileStore the file store
+     */
+    public static IdempotentRepository fileLogIdempotentRepository(File fileStore) {
+        return new FileLogIdempotentRepository(fileStore);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        validateKey(key);
+        long sequence;
+        appendLock.lock();
+        try {
+            if (!index.add(key)) {
+                return false;
+            }
+            sequence = appendRecord(ADD_RECORD, key);
+        } finally {
+            appendLock.unlock();
+        }
+        flush(sequence);
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        validateKey(key);
+        return index.contains(key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        validateKey(key);
+        long sequence;
+        appendLock.lock();
+        try {
+            if (!index.remove(key)) {
+                return false;
+            }
+            sequence = appendRecord(REMOVE_RECORD, key);
+        } finally {
+            appendLock.unlock();
+        }
+        flush(sequence);
+        compactIfNeeded();
+        return true;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        flushLock.lock();
+        try {
+            appendLock.lock();
+            try {
+                index.clear();
+                pending.reset();
+                flushedSequence = appendSequence;
+                records = 0;
+                clears++;
+                if (channel != null) {
+                    channel.truncate(0);
+                }
+            } finally {
+                appendLock.unlock();
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the log by rewriting it with only the records of the live keys.
+     */
+    @ManagedOperation(description = "Compacts the file store by removing obsolete records")
+    public void compact() {
+        if (compacting.compareAndSet(false, true)) {
+            try {
+                doCompact();
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            } finally {
+                compacting.set(false);
+            }
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "Whether appended records are synced to disk before returning")
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether appended records are synced to the storage device before {@link #add(String)} and {@link #remove(String)}
+     * returns. This protects against losing keys if the operating system crashes, at the cost of performance, which is
+     * mitigated by the records of concurrent callers being synced together.
+     * <p/>
+     * The default is false.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    @ManagedAttribute(description = "The minimum number of obsolete records in the file store before it is compacted")
+    public long getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the minimum number of obsolete records in the file store before it is compacted. The file store is only
+     * compacted when the obsolete records also outnumber the live keys. You can set the value to 0 or negative to turn
+     * off automatic compaction.
+     * <p/>
+     * The default is 1000.
+     */
+    @ManagedAttribute(description = "The minimum number of obsolete records in the file store before it is compacted")
+    public void setCompactionThreshold(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @ManagedAttribute(description = "The current number of keys in the store")
+    public int getSize() {
+        return index.size();
+    }
+
+    @ManagedAttribute(description = "The current number of records in the file store")
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Appends the record to the pending buffer, which must be done while holding the append lock.
+     *
+     * @return the sequence number to flush to have the record written to the file store
+     */
+    private long appendRecord(byte type, String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        pending.write(type);
+        pending.write(data, 0, data.length);
+        pending.write(STORE_DELIMITER);
+        records++;
+        return ++appendSequence;
+    }
+
+    /**
+     * Writes the pending records to the file store, unless another thread already wrote them as part of its own flush.
+     */
+    private void flush(long sequence) {
+        flushLock.lock();
+        try {
+            if (flushedSequence < sequence) {
+                doFlush();
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes all the pending records to the file store, which must be done while holding the flush lock.
+     */
+    private void doFlush() throws IOException {
+        long sequence;
+        ByteArrayOutputStream buffer;
+        appendLock.lock();
+        try {
+            // swap the buffers so new records can be appended while writing
+            buffer = pending;
+            pending = flushing;
+            flushing = buffer;
+            sequence = appendSequence;
+        } finally {
+            appendLock.unlock();
+        }
+
+        if (buffer.size() > 0) {
+            LOG.trace("Writing {} bytes to idempotent filestore: {}", buffer.size(), fileStore);
+            ByteBuffer bb = ByteBuffer.wrap(buffer.toByteArray());
+            try {
+                while (bb.hasRemaining()) {
+                    channel.write(bb);
+                }
+                if (sync) {
+                    channel.force(false);
+                }
+            } catch (IOException e) {
+                retry(bb);
+                throw e;
+            } finally {
+                buffer.reset();
+            }
+        }
+        flushedSequence = sequence;
+    }
+
+    /**
+     * Puts the records which could not be written in front of the records appended since, so they are written again in
+     * the same order by the next flush.
+     */
+    private void retry(ByteBuffer unwritten) throws IOException {
+        appendLock.lock();
+        try {
+            ByteArrayOutputStream retry = new ByteArrayOutputStream(unwritten.remaining() + pending.size());
+            retry.write(unwritten.array(), unwritten.position(), unwritten.remaining());
+            pending.writeTo(retry);
+            pending = retry;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the file store if there are enough obsolete records
+     */
+    protected void compactIfNeeded() {
+        long obsolete = records - index.size();
+        if (compactionThreshold <= 0 || obsolete < compactionThreshold || obsolete < index.size() || compacting.get()) {
+            return;
+        }
+
+        if (executorService != null) {
+            executorService.submit(() -> {
+                try {
+                    compact();
+                } catch (Exception e) {
+                    LOG.warn("Error compacting idempotent filestore: {}. This exception is ignored.", fileStore, e);
+                }
+            });
+        } else {
+            compact();
+        }
+    }
+
+    private void doCompact() throws IOException {
+        Path store = fileStore.toPath();
+        Path tmp = store.resolveSibling(store.getFileName() + ".compact");
+
+        // snapshot the live keys, which matches the file store up to the current position, so the append lock
+        // must be held until the position is known to not miss records appended meanwhile
+        List<String> keys;
+        long position;
+        long clearsAtSnapshot;
+        flushLock.lock();
+        appendLock.lock();
+        try {
+            keys = new ArrayList<>(index);
+            doFlush();
+            position = channel.size();
+            clearsAtSnapshot = clears;
+        } finally {
+            appendLock.unlock();
+            flushLock.unlock();
+        }
+
+        LOG.debug("Compacting idempotent filestore: {} with {} records into {} keys", fileStore, records, keys.size());
+
+        // write the snapshot without blocking the callers adding new keys
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+            for (String key : keys) {
+                os.write(ADD_RECORD);
+                os.write(key.getBytes(StandardCharsets.UTF_8));
+                os.write(STORE_DELIMITER);
+            }
+        }
+
+        flushLock.lock();
+        appendLock.lock();
+        try {
+            doFlush();
+            if (clears != clearsAtSnapshot) {
+                // the store was cleared while compacting
+                Files.delete(tmp);
+                return;
+            }
+            try (FileChannel target = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                // copy the records appended since the snapshot was taken
+                long tail = channel.size() - position;
+                long count = 0;
+                while (count < tail) {
+                    count += channel.transferTo(position + count, tail - count, target);
+                }
+                target.force(false);
+                records = keys.size() + countRecords(channel, position, position + tail);
+            }
+            IOHelper.close(channel);
+            try {
+                Files.move(tmp, store, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, store, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            try {
+                if (!channel.isOpen()) {
+                    channel = FileChannel.open(store, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                    channel.position(channel.size());
+                }
+            } finally {
+                appendLock.unlock();
+                flushLock.unlock();
+            }
+        }
+
+        LOG.debug("Compacted idempotent filestore: {} to {} records", fileStore, records);
+    }
+
+    /**
+     * Loads the given file store into the index
+     */
+    protected void loadStore() throws IOException {
+        // auto create starting directory if needed
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists()) {
+            LOG.debug("Creating filestore directory: {}", parent);
+            if (!parent.mkdirs()) {
+                LOG.warn("Cannot create the filestore directory at: {}", parent);
+            }
+        }
+
+        LOG.trace("Loading index from idempotent filestore: {}", fileStore);
+
+        index.clear();
+        records = 0;
+        channel = FileChannel.open(fileStore.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        long position = 0;
+        try (InputStream is = Files.newInputStream(fileStore.toPath())) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            long read = 0;
+            int len;
+            while ((len = is.read(buffer)) != -1) {
+                int start = 0;
+                for (int i = 0; i < len; i++) {
+                    if (buffer[i] != STORE_DELIMITER) {
+                        continue;
+                    }
+                    line.write(buffer, start, i - start);
+                    start = i + 1;
+                    position = read + start;
+                    applyRecord(line.toByteArray(), position);
+                    line.reset();
+                }
+                line.write(buffer, start, len - start);
+                read += len;
+            }
+        }
+
+        if (channel.size() > position) {
+            // the last record was not completely written, so discard it
+            LOG.warn("Discarding incomplete record at the end of idempotent filestore: {}", fileStore);
+            channel.truncate(position);
+        }
+        channel.position(channel.size());
+
+        LOG.debug("Loaded {} keys from idempotent filestore: {} with {} records", index.size(), fileStore, records);
+    }
+
+    private void applyRecord(byte[] data, long position) throws IOException {
+        if (data.length == 0) {
+            return;
+        }
+        String key = new String(data, 1, data.length - 1, StandardCharsets.UTF_8);
+        if (data[0] == ADD_RECORD) {
+            index.add(key);
+        } else if (data[0] == REMOVE_RECORD) {
+            index.remove(key);
+        } else {
+            throw new IOException("Invalid record in idempotent filestore: " + fileStore + " ending at position: " + position);
+        }
+        records++;
+    }
+
+    private static void validateKey(String key) {
+        if (key.indexOf(STORE_DELIMITER) != -1) {
+            throw new IllegalArgumentException("The key must not contain line breaks: " + key);
+        }
+    }
+
+    private static long countRecords(FileChannel file, long from, long to) throws IOException {
+        long count = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long position = from;
+        while (position < to) {
+            buffer.clear();
+            if (to - position < buffer.capacity()) {
+                buffer.limit((int) (to - position));
+            }
+            int len = file.read(buffer, position);
+            if (len < 0) {
+                break;
+            }
+            for (int i = 0; i < len; i++) {
+                if (buffer.get(i) == STORE_DELIMITER) {
+                    count++;
+                }
+            }
+            position += len;
+        }
+        return count;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        if (camelContext != null && executorService == null) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this,
+                    "FileLogIdempotentRepositoryCompaction");
+        }
+
+        if (channel == null) {
+            loadStore();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownGraceful(executorService);
+            executorService = null;
+        }
+
+        flushLock.lock();
+        try {
+            if (channel != null) {
+                doFlush();
+                channel.force(false);
+                IOHelper.close(channel, "Closing file log idempotent repository", LOG);
+                channel = null;
+            }
+            index.clear();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+}
@@ -20,6 +20,13 @@ import java.util.function.Predicate;
 
 import org.apache.camel.util.function.TriConsumer;
 
+/**
+ * A map with two keys (compared by identity) which is optimized for fast lookup.
+ * <p/>
+ * The map is copy-on-write, where the entries are immutable and the table is replaced on every change, and published
+ * via a volatile field. This means lookups never lock or contend with other threads, while changes are synchronized.
+ * Therefore this map is intended for use-cases with many lookups and few changes (such as a registry).
+ */
 @SuppressWarnings("unchecked")
 public class DoubleMap<K1, K2, V> {
 
@@ -28,25 +35,30 @@ public class DoubleMap<K1, K2, V> {
     private static final int C1 = 0xcc9e2d51;
     private static final int C2 = 0x1b873593;
 
-    static class Entry {
-        Object k1;
-        Object k2;
-        Object v;
-        Entry next;
+    static final class Entry {
+        final Object k1;
+        final Object k2;
+        final Object v;
+        final Entry next;
+
+        Entry(Object k1, Object k2, Object v, Entry next) {
+            this.k1 = k1;
+            this.k2 = k2;
+            this.v = v;
+            this.next = next;
+        }
     }
 
-    private Entry[] table;
-    private int mask;
+    private volatile Entry[] table;
+    private volatile int size;
 
     public DoubleMap(int size) {
         table = new Entry[closedTableSize(size)];
-        mask = table.length - 1;
     }
 
     public V get(K1 k1, K2 k2) {
         Entry[] table = this.table;
-        int mask = this.mask;
-        int index = smear(k1.hashCode() * 31 + k2.hashCode()) & mask;
+        int index = smear(k1.hashCode() * 31 + k2.hashCode()) & (table.length - 1);
         for (Entry entry = table[index]; entry != null; entry = entry.next) {
             if (k1 == entry.k1 && k2 == entry.k2) {
                 return (V) entry.v;
@@ -67,8 +79,7 @@ public class DoubleMap<K1, K2, V> {
 
     public boolean containsKey(K1 k1, K2 k2) {
         Entry[] table = this.table;
-        int mask = this.mask;
-        int index = smear(k1.hashCode() * 31 + k2.hashCode()) & mask;
+        int index = smear(k1.hashCode() * 31 + k2.hashCode()) & (table.length - 1);
         for (Entry entry = table[index]; entry != null; entry = entry.next) {
             if (k1 == entry.k1 && k2 == entry.k2) {
                 return true;
@@ -79,62 +90,49 @@ public class DoubleMap<K1, K2, V> {
 
     public synchronized void put(K1 k1, K2 k2, V v) {
         Entry[] table = this.table;
-        int size = size() + 1;
-        int realSize = closedTableSize(size);
-        if (realSize <= table.length) {
-            realSize = table.length;
-            int index = smear(k1.hashCode() * 31 + k2.hashCode()) & (realSize - 1);
-            for (Entry oldEntry = table[index]; oldEntry != null; oldEntry = oldEntry.next) {
-                if (oldEntry.k1 == k1 && oldEntry.k2 == k2) {
-                    oldEntry.v = v;
-                    return;
+        int index = smear(k1.hashCode() * 31 + k2.hashCode()) & (table.length - 1);
+        for (Entry oldEntry = table[index]; oldEntry != null; oldEntry = oldEntry.next) {
+            if (oldEntry.k1 == k1 && oldEntry.k2 == k2) {
+                if (oldEntry.v != v) {
+                    Entry[] newT = table.clone();
+                    newT[index] = new Entry(k1, k2, v, without(table[index], k1, k2));
+                    this.table = newT;
                 }
+                return;
             }
-            Entry entry = new Entry();
-            entry.k1 = k1;
-            entry.k2 = k2;
-            entry.v = v;
-            entry.next = table[index];
-            table[index] = entry;
+        }
+
+        int size = this.size + 1;
+        int realSize = closedTableSize(size);
+        Entry[] newT;
+        if (realSize <= table.length) {
+            newT = table.clone();
+            newT[index] = new Entry(k1, k2, v, table[index]);
         } else {
-            Entry[] newT = new Entry[realSize];
-            int index = smear(k1.hashCode() * 31 + k2.hashCode()) & (realSize - 1);
-            Entry entry = new Entry();
-            newT[index] = entry;
-            entry.k1 = k1;
-            entry.k2 = k2;
-            entry.v = v;
+            newT = new Entry[realSize];
             for (Entry oldEntry : table) {
                 while (oldEntry != null) {
-                    if (k1 != oldEntry.k1 || k2 != oldEntry.k2) {
-                        index = smear(oldEntry.k1.hashCode() * 31 + oldEntry.k2.hashCode()) & (realSize - 1);
-                        Entry newEntry = new Entry();
-                        newEntry.k1 = oldEntry.k1;
-                        newEntry.k2 = oldEntry.k2;
-                        newEntry.v = oldEntry.v;
-                        newEntry.next = newT[index];
-                        newT[index] = newEntry;
-                    }
+                    int i = smear(oldEntry.k1.hashCode() * 31 + oldEntry.k2.hashCode()) & (realSize - 1);
+                    newT[i] = new Entry(oldEntry.k1, oldEntry.k2, oldEntry.v, newT[i]);
                     oldEntry = oldEntry.next;
                 }
             }
-            this.table = newT;
-            this.mask = realSize - 1;
+            index = smear(k1.hashCode() * 31 + k2.hashCode()) & (realSize - 1);
+            newT[index] = new Entry(k1, k2, v, newT[index]);
         }
+        this.size = size;
+        this.table = newT;
     }
 
     public synchronized boolean remove(K1 k1, K2 k2) {
         Entry[] table = this.table;
-        int mask = this.mask;
-        int index = smear(k1.hashCode() * 31 + k2.hashCode()) & mask;
-        Entry prevEntry = null;
-        for (Entry oldEntry = table[index]; oldEntry != null; prevEntry = oldEntry, oldEntry = oldEntry.next) {
+        int index = smear(k1.hashCode() * 31 + k2.hashCode()) & (table.length - 1);
+        for (Entry oldEntry = table[index]; oldEntry != null; oldEntry = oldEntry.next) {
             if (oldEntry.k1 == k1 && oldEntry.k2 == k2) {
-                if (prevEntry == null) {
-                    table[index] = oldEntry.next;
-                } else {
-                    prevEntry.next = oldEntry.next;
-                }
+                Entry[] newT = table.clone();
+                newT[index] = without(table[index], k1, k2);
+                this.size = size - 1;
+                this.table = newT;
                 return true;
             }
         }
@@ -154,20 +152,28 @@ public class DoubleMap<K1, K2, V> {
     }
 
     public int size() {
-        Entry[] table = this.table;
-        int n = 0;
-        if (table != null) {
-            for (Entry e : table) {
-                for (Entry c = e; c != null; c = c.next) {
-                    n++;
-                }
-            }
-        }
-        return n;
+        return size;
     }
 
     public synchronized void clear() {
-        this.table = new Entry[table.length];
+        if (size > 0) {
+            this.size = 0;
+            this.table = new Entry[table.length];
+        }
+    }
+
+    /**
+     * Copies the chain of entries without the entry with the given keys (the entries after the removed entry are shared
+     * as they are immutable)
+     */
+    private static Entry without(Entry chain, Object k1, Object k2) {
+        if (chain == null) {
+            return null;
+        }
+        if (chain.k1 == k1 && chain.k2 == k2) {
+            return chain.next;
+        }
+        return new Entry(chain.k1, chain.k2, chain.v, without(chain.next, k1, k2));
     }
 
     static int smear(int hashCode) {
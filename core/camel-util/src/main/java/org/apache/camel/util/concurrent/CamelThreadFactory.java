@@ -16,6 +16,7 @@
  */
 package org.apache.camel.util.concurrent;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ThreadFactory;
 
 import org.slf4j.Logger;
@@ -23,34 +24,101 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Thread factory which creates threads supporting a naming pattern.
+ * <p/>
+ * The factory can optionally create virtual threads, when running on a JDK that supports them. Otherwise the factory
+ * falls back to creating platform threads.
  */
 public final class CamelThreadFactory implements ThreadFactory {
     private static final Logger LOG = LoggerFactory.getLogger(CamelThreadFactory.class);
 
+    // resolved via reflection as virtual threads are not available in the JDK version we compile against
+    private static final Method OF_VIRTUAL;
+    private static final Method UNSTARTED;
+    private static volatile boolean fallbackLogged;
+
+    static {
+        Method ofVirtual = null;
+        Method unstarted = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+            // the builder may be present but not usable (such as preview features not enabled)
+            ofVirtual.invoke(null);
+        } catch (Throwable e) {
+            ofVirtual = null;
+            unstarted = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        UNSTARTED = unstarted;
+    }
+
     private final String pattern;
     private final String name;
     private final boolean daemon;
+    private final boolean virtual;
 
     public CamelThreadFactory(String pattern, String name, boolean daemon) {
+        this(pattern, name, daemon, false);
+    }
+
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
         this.pattern = pattern;
         this.name = name;
         this.daemon = daemon;
+        this.virtual = virtual;
+    }
+
+    /**
+     * Whether virtual threads are supported by the running JDK.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return OF_VIRTUAL != null;
     }
 
     @Override
     public Thread newThread(Runnable runnable) {
         String threadName = ThreadHelper.resolveThreadName(pattern, name);
-        Thread answer = new Thread(runnable, threadName);
-        answer.setDaemon(daemon);
+        Thread answer = null;
+        if (virtual) {
+            answer = newVirtualThread(runnable);
+        }
+        if (answer != null) {
+            // virtual threads are always daemon threads
+            answer.setName(threadName);
+        } else {
+            answer = new Thread(runnable, threadName);
+            answer.setDaemon(daemon);
+        }
 
         LOG.trace("Created thread[{}] -> {}", threadName, answer);
         return answer;
     }
 
+    private static Thread newVirtualThread(Runnable runnable) {
+        if (OF_VIRTUAL != null) {
+            try {
+                return (Thread) UNSTARTED.invoke(OF_VIRTUAL.invoke(null), runnable);
+            } catch (Exception e) {
+                LOG.debug("Error creating virtual thread due to {}. Using platform thread instead.", e.getMessage(), e);
+                return null;
+            }
+        }
+        if (!fallbackLogged) {
+            fallbackLogged = true;
+            LOG.warn("Virtual threads are not supported by this JDK {}. Using platform threads instead.",
+                    System.getProperty("java.version"));
+        }
+        return null;
+    }
+
     public String getName() {
         return name;
     }
 
+    public boolean isVirtual() {
+        return virtual;
+    }
+
     @Override
     public String toString() {
         return "CamelThreadFactory[" + name + "]";
@@ -99,6 +99,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); break;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); break;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
+                case "lockStripes": def.setLockStripes(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); break;
@@ -1335,6 +1336,7 @@ public class ModelParser extends BaseParser {
                 case "onPrepare": def.setOnPrepare(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
+                case "parallelWindowSize": def.setParallelWindowSize(val); break;
                 case "shareUnitOfWork": def.setShareUnitOfWork(val); break;
                 case "stopOnException": def.setStopOnException(val); break;
                 case "streaming": def.setStreaming(val); break;
@@ -1458,6 +1460,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); break;
                 case "rejectExecution": def.setRejectExecution(val); break;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); break;
+                case "tokenBucket": def.setTokenBucket(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
             }
             return true;
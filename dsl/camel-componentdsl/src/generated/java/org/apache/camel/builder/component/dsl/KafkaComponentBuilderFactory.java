@@ -246,6 +246,31 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * Whether to route all the records from a poll as a single exchange,
+         * instead of one exchange per record. The message body is then a
+         * java.util.List of exchanges, one per record, carrying the usual Kafka
+         * headers. The size of a batch is bounded by the maxPollRecords and
+         * pollTimeoutMs options. The offsets of the whole batch are committed
+         * when the exchange is done, and with allowManualCommit the
+         * KafkaManualCommit header commits the whole batch. If the batch fails
+         * and breakOnFirstError is enabled, the batch is polled again,
+         * otherwise the error is handled by the exception handler and the batch
+         * is committed. This option cannot be used together with
+         * parallelProcessingThreads.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -593,6 +618,48 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("offsetRepository", offsetRepository);
             return this;
         }
+        /**
+         * When processing records in parallel (parallelProcessingThreads), then
+         * whether to preserve the ordering of records with the same key
+         * (records without a key are ordered by their partition), or the
+         * ordering of records in the same partition.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: key
+         * Group: consumer
+         * 
+         * @param parallelProcessingOrdering the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder parallelProcessingOrdering(
+                java.lang.String parallelProcessingOrdering) {
+            doSetProperty("parallelProcessingOrdering", parallelProcessingOrdering);
+            return this;
+        }
+        /**
+         * The number of threads used to process the polled records in parallel.
+         * By default (0) the records are processed one by one by the consumer
+         * thread that polled them. When enabled the records are processed in
+         * parallel, while records with the same key (or partition, see the
+         * parallelProcessingOrdering option) are still processed in order. The
+         * consumer waits for all the records from a poll to be processed before
+         * polling again, and then commits the highest contiguous processed
+         * offset of each partition. This option cannot be used together with
+         * allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param parallelProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder parallelProcessingThreads(
+                int parallelProcessingThreads) {
+            doSetProperty("parallelProcessingThreads", parallelProcessingThreads);
+            return this;
+        }
         /**
          * The class name of the partition assignment strategy that the client
          * will use to distribute partition ownership amongst consumer instances
@@ -2061,6 +2128,7 @@ public interface KafkaComponentBuilderFactory {
             case "autoCommitEnable": getOrCreateConfiguration((KafkaComponent) component).setAutoCommitEnable((boolean) value); return true;
             case "autoCommitIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setAutoCommitIntervalMs((java.lang.Integer) value); return true;
             case "autoOffsetReset": getOrCreateConfiguration((KafkaComponent) component).setAutoOffsetReset((java.lang.String) value); return true;
+            case "batching": getOrCreateConfiguration((KafkaComponent) component).setBatching((boolean) value); return true;
             case "breakOnFirstError": getOrCreateConfiguration((KafkaComponent) component).setBreakOnFirstError((boolean) value); return true;
             case "bridgeErrorHandler": ((KafkaComponent) component).setBridgeErrorHandler((boolean) value); return true;
             case "checkCrcs": getOrCreateConfiguration((KafkaComponent) component).setCheckCrcs((java.lang.Boolean) value); return true;
@@ -2079,6 +2147,8 @@ public interface KafkaComponentBuilderFactory {
             case "maxPollIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setMaxPollIntervalMs((java.lang.Long) value); return true;
             case "maxPollRecords": getOrCreateConfiguration((KafkaComponent) component).setMaxPollRecords((java.lang.Integer) value); return true;
             case "offsetRepository": getOrCreateConfiguration((KafkaComponent) component).setOffsetRepository((org.apache.camel.spi.StateRepository) value); return true;
+            case "parallelProcessingOrdering": getOrCreateConfiguration((KafkaComponent) component).setParallelProcessingOrdering((java.lang.String) value); return true;
+            case "parallelProcessingThreads": getOrCreateConfiguration((KafkaComponent) component).setParallelProcessingThreads((int) value); return true;
             case "partitionAssignor": getOrCreateConfiguration((KafkaComponent) component).setPartitionAssignor((java.lang.String) value); return true;
             case "pollOnError": getOrCreateConfiguration((KafkaComponent) component).setPollOnError((org.apache.camel.component.kafka.PollOnError) value); return true;
             case "pollTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setPollTimeoutMs((java.lang.Long) value); return true;
@@ -2273,6 +2273,47 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("onCompletionExceptionHandler", onCompletionExceptionHandler);
             return this;
         }
+        /**
+         * The number of threads used to scan the sub directories in parallel
+         * when the recursive option is enabled. By default (0) the directories
+         * are scanned one by one by the polling thread. Scanning in parallel
+         * can speedup polling large directory trees, in particular on network
+         * file systems. The filters must then be thread-safe. This option is
+         * not used when a resume strategy is configured.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param parallelScanThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelScanThreads(
+                int parallelScanThreads) {
+            doSetProperty("parallelScanThreads", parallelScanThreads);
+            return this;
+        }
+        /**
+         * The number of threads used to scan the sub directories in parallel
+         * when the recursive option is enabled. By default (0) the directories
+         * are scanned one by one by the polling thread. Scanning in parallel
+         * can speedup polling large directory trees, in particular on network
+         * file systems. The filters must then be thread-safe. This option is
+         * not used when a resume strategy is configured.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt;
+         * type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param parallelScanThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelScanThreads(
+                String parallelScanThreads) {
+            doSetProperty("parallelScanThreads", parallelScanThreads);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -2472,6 +2513,95 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether to use the file system java.nio.file.WatchService to only
+         * scan the directories that have changed since the last poll, instead
+         * of scanning all the directories on every poll. This makes polling
+         * idle directories with many files cheap, while the files are consumed
+         * as usual, so read locks, done files, idempotent and move options
+         * still apply. All the directories are scanned on the first poll, and
+         * again if the watch service has lost events. The watch service may not
+         * detect changes made by other hosts on network file systems.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param useWatchService the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder useWatchService(
+                boolean useWatchService) {
+            doSetProperty("useWatchService", useWatchService);
+            return this;
+        }
+        /**
+         * Whether to use the file system java.nio.file.WatchService to only
+         * scan the directories that have changed since the last poll, instead
+         * of scanning all the directories on every poll. This makes polling
+         * idle directories with many files cheap, while the files are consumed
+         * as usual, so read locks, done files, idempotent and move options
+         * still apply. All the directories are scanned on the first poll, and
+         * again if the watch service has lost events. The watch service may not
+         * detect changes made by other hosts on network file systems.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param useWatchService the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder useWatchService(
+                String useWatchService) {
+            doSetProperty("useWatchService", useWatchService);
+            return this;
+        }
+        /**
+         * The interval in millis to scan all the directories when
+         * useWatchService is enabled, as a fallback for changes the watch
+         * service did not report. The directories are scanned on the first
+         * poll after the interval has elapsed. Use 0 or a negative value to
+         * only scan all the directories on the first poll, and when the watch
+         * service has lost events.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param watchServiceFullScanInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchServiceFullScanInterval(
+                long watchServiceFullScanInterval) {
+            doSetProperty("watchServiceFullScanInterval", watchServiceFullScanInterval);
+            return this;
+        }
+        /**
+         * The interval in millis to scan all the directories when
+         * useWatchService is enabled, as a fallback for changes the watch
+         * service did not report. The directories are scanned on the first
+         * poll after the interval has elapsed. Use 0 or a negative value to
+         * only scan all the directories on the first poll, and when the watch
+         * service has lost events.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param watchServiceFullScanInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchServiceFullScanInterval(
+                String watchServiceFullScanInterval) {
+            doSetProperty("watchServiceFullScanInterval", watchServiceFullScanInterval);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
@@ -3068,6 +3198,51 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("allowNullBody", allowNullBody);
             return this;
         }
+        /**
+         * The maximum number of files the producer keeps open between exchanges
+         * when appending to files (fileExist=Append). By default (0) each file
+         * is opened and closed for every exchange. Keeping the files open saves
+         * the open and close system calls when appending many small messages to
+         * the same files, such as logs or aggregated output. The least recently
+         * used file is closed when the maximum is reached, and all the files
+         * are closed when the endpoint is stopped. A file which is moved or
+         * deleted by others while open is opened again on the next exchange.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param appendChannelCacheSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointProducerBuilder appendChannelCacheSize(
+                int appendChannelCacheSize) {
+            doSetProperty("appendChannelCacheSize", appendChannelCacheSize);
+            return this;
+        }
+        /**
+         * The maximum number of files the producer keeps open between exchanges
+         * when appending to files (fileExist=Append). By default (0) each file
+         * is opened and closed for every exchange. Keeping the files open saves
+         * the open and close system calls when appending many small messages to
+         * the same files, such as logs or aggregated output. The least recently
+         * used file is closed when the maximum is reached, and all the files
+         * are closed when the endpoint is stopped. A file which is moved or
+         * deleted by others while open is opened again on the next exchange.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt;
+         * type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param appendChannelCacheSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointProducerBuilder appendChannelCacheSize(
+                String appendChannelCacheSize) {
+            doSetProperty("appendChannelCacheSize", appendChannelCacheSize);
+            return this;
+        }
         /**
          * Specify the file permissions which is sent by the producer, the chmod
          * value must be between 000 and 777; If there is a leading digit like
@@ -165,6 +165,49 @@ public interface StubEndpointBuilderFactory {
         default StubEndpointConsumerBuilder basic() {
             return (StubEndpointConsumerBuilder) this;
         }
+        /**
+         * The maximum number of exchanges each consumer thread takes from
+         * the queue per poll. When more than one, then after polling an
+         * exchange, the consumer also drains the exchanges which are already
+         * waiting on the queue (up to this size) in one go, and processes them
+         * one by one in the same consumer thread. This reduces the contention on
+         * the queue under high load, but the drained exchanges are no longer
+         * available to the other concurrent consumers.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param drainBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder drainBatchSize(int drainBatchSize) {
+            doSetProperty("drainBatchSize", drainBatchSize);
+            return this;
+        }
+        /**
+         * The maximum number of exchanges each consumer thread takes from
+         * the queue per poll. When more than one, then after polling an
+         * exchange, the consumer also drains the exchanges which are already
+         * waiting on the queue (up to this size) in one go, and processes them
+         * one by one in the same consumer thread. This reduces the contention on
+         * the queue under high load, but the drained exchanges are no longer
+         * available to the other concurrent consumers.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param drainBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedStubEndpointConsumerBuilder drainBatchSize(
+                String drainBatchSize) {
+            doSetProperty("drainBatchSize", drainBatchSize);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.xml.jaxb;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dsl.support.RouteBuilderLoaderSupport;
+import org.apache.camel.impl.engine.DefaultRoutesLoader;
+import org.apache.camel.main.Main;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JaxbXmlMainRoutesSnapshotTest {
+
+    private static final String SNAPSHOT = "target/snapshot/camel-routes.xml";
+    private static final String ROUTES_DIR = "target/snapshot-routes";
+    private static final String ROUTE = "org/apache/camel/dsl/xml/jaxb/snapshotRoute.xml";
+    private static final long OLD = 1000;
+
+    @BeforeEach
+    public void deleteSnapshot() {
+        FileUtil.deleteFile(new File(SNAPSHOT));
+        FileUtil.removeDir(new File(ROUTES_DIR));
+    }
+
+    @Test
+    public void testRoutesSnapshot() throws Exception {
+        // the first start discovers the routes and writes the snapshot
+        doTestMain(ROUTE, "start");
+
+        File file = new File(SNAPSHOT);
+        assertTrue(file.exists());
+        String xml = Files.readString(file.toPath());
+        // the property placeholders are not resolved in the snapshot
+        assertTrue(xml.contains("direct:{{snapshot.name}}"));
+        assertTrue(xml.contains("<!-- fingerprint: "));
+
+        // the next start loads the routes from the snapshot, which is not written again
+        assertTrue(file.setLastModified(OLD));
+        doTestMain(ROUTE, "start");
+        assertEquals(OLD, file.lastModified());
+    }
+
+    @Test
+    public void testRoutesSnapshotPropertiesChanged() throws Exception {
+        doTestMain(ROUTE, "start");
+
+        // the properties have changed, so the routes are discovered again and a new snapshot is written
+        File file = new File(SNAPSHOT);
+        assertTrue(file.setLastModified(OLD));
+        doTestMain(ROUTE, "other");
+        assertNotEquals(OLD, file.lastModified());
+    }
+
+    @Test
+    public void testRoutesSnapshotRoutesChanged() throws Exception {
+        File route = new File(ROUTES_DIR, "snapshotRoute.xml");
+        route.getParentFile().mkdirs();
+        String xml = IOHelper.loadText(getClass().getResourceAsStream("snapshotRoute.xml"));
+        Files.writeString(route.toPath(), xml);
+        doTestMain("file:" + ROUTES_DIR + "/*.xml", "start");
+
+        // the routes have changed, so the routes are discovered again and a new snapshot is written
+        File file = new File(SNAPSHOT);
+        assertTrue(file.setLastModified(OLD));
+        Files.writeString(route.toPath(), xml.replace("direct:{{snapshot.name}}", "direct:changed"));
+        doTestMain("file:" + ROUTES_DIR + "/*.xml", "changed");
+        assertNotEquals(OLD, file.lastModified());
+        assertTrue(Files.readString(file.toPath()).contains("direct:changed"));
+    }
+
+    @Test
+    public void testRoutesSnapshotNotWrittenWithJavaRoutes() throws Exception {
+        // routes in java cannot be written as XML (such as the processor), so no snapshot is written
+        Main main = new Main();
+        main.bind(DefaultRoutesLoader.ROUTES_LOADER_KEY_PREFIX + "java", new JavaRoutesBuilderLoader());
+        main.configure().withRoutesIncludePattern(
+                "org/apache/camel/dsl/xml/jaxb/snapshotRoute.xml,org/apache/camel/dsl/xml/jaxb/snapshotRoute.java");
+        main.configure().withRoutesSnapshotFile(SNAPSHOT);
+        main.addInitialProperty("snapshot.name", "start");
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertEquals(2, camelContext.getRoutes().size());
+        assertEquals("Bye World", main.getCamelTemplate().requestBody("direct:java", "World"));
+
+        main.stop();
+
+        assertFalse(new File(SNAPSHOT).exists());
+    }
+
+    @Test
+    public void testRoutesSnapshotMustBeXml() {
+        Main main = new Main();
+        main.configure().withRoutesIncludePattern("org/apache/camel/dsl/xml/jaxb/snapshotRoute.xml");
+        main.configure().withRoutesSnapshotFile("target/snapshot/camel-routes.yaml");
+        main.addInitialProperty("snapshot.name", "start");
+
+        Exception e = assertThrows(Exception.class, main::start);
+        IllegalArgumentException cause = ObjectHelper.getException(IllegalArgumentException.class, e);
+        assertNotNull(cause);
+        assertTrue(cause.getMessage().startsWith("The routes snapshot file must be an XML file"), cause.getMessage());
+    }
+
+    private void doTestMain(String pattern, String name) throws Exception {
+        Main main = new Main();
+        main.configure().withRoutesIncludePattern(pattern);
+        main.configure().withRoutesSnapshotFile(SNAPSHOT);
+        main.addInitialProperty("snapshot.name", name);
+        main.start();
+
+        CamelContext camelContext = main.getCamelContext();
+        assertEquals(1, camelContext.getRoutes().size());
+
+        MockEndpoint endpoint = camelContext.getEndpoint("mock:snapshot", MockEndpoint.class);
+        endpoint.expectedBodiesReceived("Hello World");
+
+        main.getCamelTemplate().sendBody("direct:" + name, "Hello World");
+
+        endpoint.assertIsSatisfied();
+
+        main.stop();
+    }
+
+    /**
+     * Loads the java routes as if they were compiled from source.
+     */
+    private static class JavaRoutesBuilderLoader extends RouteBuilderLoaderSupport {
+
+        JavaRoutesBuilderLoader() {
+            super("java");
+        }
+
+        @Override
+        protected RouteBuilder doLoadRouteBuilder(Resource resource) {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:java").process(e -> e.getMessage().setBody("Bye " + e.getMessage().getBody()));
+                }
+            };
+        }
+    }
+
+}
@@ -160,7 +160,7 @@ public class YamlRoutesBuilderLoader extends YamlRoutesBuilderLoaderSupport {
                     getRouteCollection().route((RouteDefinition) item);
                     return true;
                 } else if (item instanceof CamelContextCustomizer) {
-                    ((CamelContextCustomizer) item).configure(getCamelContext());
+                    customizeCamelContext((CamelContextCustomizer) item);
                     return true;
                 } else if (item instanceof OnExceptionDefinition) {
                     if (!getRouteCollection().getRoutes().isEmpty()) {
@@ -194,9 +194,14 @@ public class YamlRoutesBuilderLoader extends YamlRoutesBuilderLoaderSupport {
                     getRestCollection().rest(definition);
                     return true;
                 } else if (item instanceof RestConfigurationDefinition) {
-                    ((RestConfigurationDefinition) item).asRestConfiguration(
-                            getCamelContext(),
-                            getCamelContext().getRestConfiguration());
+                    RestConfigurationDefinition definition = (RestConfigurationDefinition) item;
+                    customizeCamelContext(camelContext -> {
+                        try {
+                            definition.asRestConfiguration(camelContext, camelContext.getRestConfiguration());
+                        } catch (Exception e) {
+                            throw RuntimeCamelException.wrapRuntimeException(e);
+                        }
+                    });
                     return true;
                 }
 
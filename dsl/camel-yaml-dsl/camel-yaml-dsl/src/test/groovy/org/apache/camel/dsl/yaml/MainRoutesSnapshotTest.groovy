@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.yaml
+
+import org.apache.camel.component.mock.MockEndpoint
+import org.apache.camel.main.Main
+import org.apache.camel.util.FileUtil
+import spock.lang.Specification
+
+class MainRoutesSnapshotTest extends Specification {
+
+    static final String SNAPSHOT = 'target/snapshot/yaml-routes.xml'
+
+    def setup() {
+        FileUtil.deleteFile(new File(SNAPSHOT))
+    }
+
+    def 'snapshot routes with main'() {
+        when:
+            start('routes/routes.yaml', 'Hello World', 'Hello World')
+        then:
+            new File(SNAPSHOT).exists()
+        when:
+            // the routes are loaded from the snapshot, which is not written again
+            new File(SNAPSHOT).setLastModified(1000)
+            start('routes/routes.yaml', 'Hello World', 'Hello World')
+        then:
+            new File(SNAPSHOT).lastModified() == 1000
+        when:
+            // other routes are discovered, so a new snapshot is written
+            start('routes/routes.yaml,routes/snapshot-other.yaml', 'Hello World', 'Hello World')
+        then:
+            new File(SNAPSHOT).lastModified() != 1000
+    }
+
+    def 'no snapshot of routes with beans'() {
+        when:
+            start('routes/snapshot-beans.yaml', 'Hello World', 'HELLO WORLD')
+        then:
+            // the beans are not part of the routes, so no snapshot is written
+            !new File(SNAPSHOT).exists()
+        when:
+            start('routes/snapshot-beans.yaml', 'Hello World', 'HELLO WORLD')
+        then:
+            !new File(SNAPSHOT).exists()
+    }
+
+    private static void start(String pattern, String body, String expected) {
+        def main = new Main()
+        main.configure().withRoutesIncludePattern(pattern)
+        main.configure().withRoutesSnapshotFile(SNAPSHOT)
+        main.start()
+        try {
+            def mock = main.camelContext.getEndpoint('mock:result', MockEndpoint.class)
+            mock.expectedBodiesReceived(expected)
+            main.camelTemplate.sendBody('direct:start', body)
+            mock.assertIsSatisfied()
+        } finally {
+            main.stop()
+        }
+    }
+}
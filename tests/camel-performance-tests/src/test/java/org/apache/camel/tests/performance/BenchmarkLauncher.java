@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.tests.performance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Helper to launch JMH benchmarks from within JUnit tests.
+ * <p/>
+ * The benchmarks report throughput (ops/s) and, via the JMH {@link GCProfiler}, the bytes allocated per operation
+ * (<tt>gc.alloc.rate.norm</tt>) which is the number to look at when checking for allocation regressions.
+ */
+public final class BenchmarkLauncher {
+
+    private BenchmarkLauncher() {
+    }
+
+    /**
+     * Runs all the benchmark methods in the given class.
+     *
+     * @param  type      the class with the benchmarks
+     * @throws Exception is thrown if error running the benchmarks
+     */
+    public static void launch(Class<?> type) throws Exception {
+        launch(type, 1);
+    }
+
+    /**
+     * Runs all the benchmark methods in the given class using the given number of concurrent threads.
+     *
+     * @param  type      the class with the benchmarks
+     * @param  threads   number of threads to run the benchmarks
+     * @throws Exception is thrown if error running the benchmarks
+     */
+    public static void launch(Class<?> type, int threads) throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(type.getName() + ".*")
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.SECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(2)
+                .measurementTime(TimeValue.seconds(2))
+                .measurementIterations(3)
+                .threads(threads)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.tests.performance;
+
+import java.util.Map;
+
+import org.apache.camel.component.headersmap.FastHeadersMapFactory;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks header map access using the {@link DefaultHeadersMapFactory} (which uses
+ * {@link org.apache.camel.util.CaseInsensitiveMap}) vs the {@link FastHeadersMapFactory} from camel-headersmap.
+ */
+public class HeadersMapBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkLauncher.launch(HeadersMapBenchmarkTest.class);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+
+        @Param({ "default", "fast" })
+        String type;
+
+        HeadersMapFactory factory;
+        Map<String, Object> headers;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            factory = "fast".equals(type) ? new FastHeadersMapFactory() : new DefaultHeadersMapFactory();
+            headers = factory.newMap();
+            headers.put("CamelFileName", "hello.txt");
+            headers.put("Content-Type", "text/plain");
+            headers.put("foo", 123);
+            headers.put("bar", "cheese");
+            headers.put("JMSCorrelationID", "ID-1234");
+        }
+    }
+
+    @Benchmark
+    public void get(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.headers.get("CamelFileName"));
+        bh.consume(state.headers.get("content-type"));
+        bh.consume(state.headers.get("FOO"));
+    }
+
+    @Benchmark
+    public void putAndRemove(BenchmarkState state, Blackhole bh) {
+        state.headers.put("Beer", "Carlsberg");
+        bh.consume(state.headers.remove("beer"));
+    }
+
+    @Benchmark
+    public void newMapAndCopy(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.factory.newMap(state.headers));
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.tests.performance;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks evaluating pre-parsed and on-the-fly parsed expressions and predicates using the
+ * {@link org.apache.camel.language.simple.SimpleLanguage}.
+ */
+public class SimpleExpressionBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkLauncher.launch(SimpleExpressionBenchmarkTest.class);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+
+        CamelContext camel;
+        Exchange exchange;
+        Expression expression;
+        Predicate predicate;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            camel = new DefaultCamelContext();
+            camel.start();
+
+            exchange = new DefaultExchange(camel);
+            exchange.getIn().setBody("World");
+            exchange.getIn().setHeader("foo", 123);
+            exchange.getIn().setHeader("bar", "cheese");
+
+            expression = camel.resolveLanguage("simple").createExpression("Hello ${body} and ${header.bar}");
+            expression.init(camel);
+            predicate = camel.resolveLanguage("simple").createPredicate("${header.foo} > 100");
+            predicate.init(camel);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void simpleExpression(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.expression.evaluate(state.exchange, String.class));
+    }
+
+    @Benchmark
+    public void simplePredicate(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.predicate.matches(state.exchange));
+    }
+
+    @Benchmark
+    public void simpleExpressionParseAndEvaluate(BenchmarkState state, Blackhole bh) {
+        Expression exp = state.camel.resolveLanguage("simple").createExpression("${header.foo}");
+        bh.consume(exp.evaluate(state.exchange, Object.class));
+    }
+
+}
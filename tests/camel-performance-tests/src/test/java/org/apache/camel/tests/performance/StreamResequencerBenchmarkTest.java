@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.tests.performance;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.processor.resequencer.ResequencerEngine;
+import org.apache.camel.processor.resequencer.SequenceElementComparator;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks the {@link ResequencerEngine} used by the stream resequencer, with many threads inserting and delivering
+ * elements concurrently. As the threads take the next sequence number from a shared counter, the elements arrive
+ * slightly out of sequence, as they would do from concurrent consumers.
+ */
+public class StreamResequencerBenchmarkTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkLauncher.launch(StreamResequencerBenchmarkTest.class, 4);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        final AtomicLong sequence = new AtomicLong();
+        final LongAdder delivered = new LongAdder();
+        ResequencerEngine<Long> engine;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            engine = new ResequencerEngine<>(new LongComparator());
+            engine.setSequenceSender(o -> delivered.increment());
+            engine.start();
+            // the first element must always timeout, so deliver it upfront without any delay
+            engine.setTimeout(0);
+            engine.insert(-1L);
+            while (delivered.sum() == 0) {
+                Thread.sleep(10);
+                engine.deliver();
+            }
+            engine.setTimeout(1000);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            engine.stop();
+        }
+    }
+
+    @Benchmark
+    public void insertAndDeliver(BenchmarkState state) throws Exception {
+        state.engine.insert(state.sequence.getAndIncrement());
+        state.engine.deliver();
+    }
+
+    private static final class LongComparator implements SequenceElementComparator<Long> {
+
+        @Override
+        public boolean predecessor(Long o1, Long o2) {
+            return o1 == o2 - 1;
+        }
+
+        @Override
+        public boolean successor(Long o1, Long o2) {
+            return o1 == o2 + 1;
+        }
+
+        @Override
+        public boolean isValid(Long o1) {
+            return o1 != null;
+        }
+
+        @Override
+        public int compare(Long o1, Long o2) {
+            return o1.compareTo(o2);
+        }
+    }
+
+}